@@ -29,31 +29,63 @@ import feign.ResponseInterceptor;
 import feign.Target;
 import feign.hc5.ApacheHttp5Client;
 import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.http2.config.H2Config;
 
 import org.springframework.aot.hint.MemberCategory;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.interceptor.CacheInterceptor;
 import org.springframework.cloud.client.actuator.HasFeatures;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.openfeign.aot.FeignChildContextInitializer;
 import org.springframework.cloud.openfeign.aot.FeignClientBeanFactoryInitializationAotProcessor;
+import org.springframework.cloud.openfeign.bulkhead.FeignBulkheadRegistry;
+import org.springframework.cloud.openfeign.clientconfig.AsyncHttpClient5Client;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineCapability;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineFilter;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineProperties;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineRequestInterceptor;
+import org.springframework.cloud.openfeign.jfr.FeignFlightRecorderCapability;
+import org.springframework.cloud.openfeign.latency.FeignCallPhaseConnectionLeaseInstrumentation;
+import org.springframework.cloud.openfeign.logging.FeignAsyncLogAppender;
+import org.springframework.cloud.openfeign.logging.FeignSampledLoggingProperties;
+import org.springframework.cloud.openfeign.logging.SampledFeignLoggerFactory;
+import org.springframework.cloud.openfeign.micrometer.MicrometerFeignCallPhaseListener;
+import org.springframework.cloud.openfeign.micrometer.MicrometerFeignClientInitializationListener;
+import org.springframework.cloud.openfeign.micrometer.MicrometerHttp2ClientCapability;
+import org.springframework.cloud.openfeign.micrometer.MicrometerHttp2ClientExecutorInstrumentation;
+import org.springframework.cloud.openfeign.micrometer.MicrometerHttpClient5ConnectionPoolInstrumentation;
+import org.springframework.cloud.openfeign.micrometer.MicrometerOAuth2AccessTokenRefreshListener;
+import org.springframework.cloud.openfeign.micrometer.MicrometerPayloadSizeCapability;
+import org.springframework.cloud.openfeign.security.OAuth2AccessTokenCache;
 import org.springframework.cloud.openfeign.security.OAuth2AccessTokenInterceptor;
+import org.springframework.cloud.openfeign.security.OAuth2AccessTokenRefreshListener;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallCapability;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallProperties;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder;
 import org.springframework.cloud.openfeign.support.FeignEncoderProperties;
 import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
 import org.springframework.cloud.openfeign.support.PageJacksonModule;
 import org.springframework.cloud.openfeign.support.SortJacksonModule;
+import org.springframework.cloud.openfeign.warmup.FeignConnectionWarmer;
+import org.springframework.cloud.openfeign.warmup.FeignConnectionWarmupListener;
+import org.springframework.cloud.openfeign.warmup.FeignConnectionWarmupTargets;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -86,7 +118,8 @@ import org.springframework.util.ClassUtils;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnClass(Feign.class)
 @EnableConfigurationProperties({ FeignClientProperties.class, FeignHttpClientProperties.class,
-		FeignEncoderProperties.class, FeignOAuth2Properties.class })
+		FeignEncoderProperties.class, FeignOAuth2Properties.class, FeignDeadlineProperties.class,
+		FeignInitializationProperties.class, FeignSampledLoggingProperties.class, FeignSlowCallProperties.class })
 public class FeignAutoConfiguration {
 
 	private static final Log LOG = LogFactory.getLog(FeignAutoConfiguration.class);
@@ -100,12 +133,25 @@ public class FeignAutoConfiguration {
 	}
 
 	@Bean
-	public FeignClientFactory feignContext() {
+	public FeignClientFactory feignContext(FeignInitializationProperties initializationProperties) {
 		FeignClientFactory context = new FeignClientFactory();
 		context.setConfigurations(this.configurations);
+		if (initializationProperties.isParallel()) {
+			context.setParallelInitialization(initializationProperties.getMaxThreads(),
+					initializationProperties.getTimeout());
+		}
+		context.setSharedContexts(initializationProperties.isSharedContexts());
 		return context;
 	}
 
+	@Bean
+	@Conditional(LazyFeignClientsCondition.class)
+	@ConditionalOnMissingBean
+	public LazyFeignClientInitializer lazyFeignClientInitializer(
+			FeignInitializationProperties initializationProperties) {
+		return new LazyFeignClientInitializer(initializationProperties.isBackgroundInitialization());
+	}
+
 	@Bean
 	static FeignChildContextInitializer feignChildContextInitializer(GenericApplicationContext parentContext,
 			FeignClientFactory feignClientFactory) {
@@ -118,6 +164,12 @@ public class FeignAutoConfiguration {
 		return new FeignClientBeanFactoryInitializationAotProcessor(applicationContext, feignClientFactory);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public FeignBulkheadRegistry feignBulkheadRegistry() {
+		return new FeignBulkheadRegistry();
+	}
+
 	@Bean
 	@ConditionalOnProperty(value = "spring.cloud.openfeign.cache.enabled", matchIfMissing = true)
 	@ConditionalOnBean(CacheInterceptor.class)
@@ -133,8 +185,9 @@ public class FeignAutoConfiguration {
 
 		@Bean
 		@ConditionalOnMissingBean(PageJacksonModule.class)
-		public PageJacksonModule pageJacksonModule() {
-			return new PageJacksonModule();
+		public PageJacksonModule pageJacksonModule(
+				@Value("${spring.cloud.openfeign.autoconfiguration.jackson.streaming.enabled:false}") boolean streaming) {
+			return new PageJacksonModule(streaming);
 		}
 
 		@Bean
@@ -224,6 +277,8 @@ public class FeignAutoConfiguration {
 	@ConditionalOnMissingBean(org.apache.hc.client5.http.impl.classic.CloseableHttpClient.class)
 	@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true",
 			matchIfMissing = true)
+	@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.async.enabled", havingValue = "false",
+			matchIfMissing = true)
 	@Import(org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.class)
 	protected static class HttpClient5FeignConfiguration {
 
@@ -235,6 +290,27 @@ public class FeignAutoConfiguration {
 
 	}
 
+	// the following configuration is for alternate feign clients if
+	// SC loadbalancer is not on the class path.
+	// see corresponding configurations in FeignLoadBalancerAutoConfiguration
+	// for load-balanced clients.
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({ ApacheHttp5Client.class, H2Config.class })
+	@ConditionalOnMissingBean(CloseableHttpAsyncClient.class)
+	@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true",
+			matchIfMissing = true)
+	@ConditionalOnProperty("spring.cloud.openfeign.httpclient.hc5.async.enabled")
+	@Import(org.springframework.cloud.openfeign.clientconfig.HttpClient5AsyncFeignConfiguration.class)
+	protected static class HttpClient5AsyncFeignConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(Client.class)
+		public Client feignClient(CloseableHttpAsyncClient httpAsyncClient5) {
+			return new AsyncHttpClient5Client(httpAsyncClient5);
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(OAuth2AuthorizedClientManager.class)
 	@ConditionalOnProperty("spring.cloud.openfeign.oauth2.enabled")
@@ -251,12 +327,237 @@ public class FeignAutoConfiguration {
 
 		}
 
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty("spring.cloud.openfeign.oauth2.token-cache.enabled")
+		public OAuth2AccessTokenCache feignOAuth2AccessTokenCache(FeignOAuth2Properties oAuth2Properties,
+				ObjectProvider<OAuth2AccessTokenRefreshListener> refreshListeners) {
+			FeignOAuth2Properties.TokenCache properties = oAuth2Properties.getTokenCache();
+			OAuth2AccessTokenCache tokenCache = new OAuth2AccessTokenCache(properties.getRefreshSkew());
+			tokenCache.setBackgroundRefresh(properties.isBackgroundRefresh());
+			tokenCache.setRetryInterval(properties.getRetryInterval());
+			tokenCache.setRefreshListeners(refreshListeners.orderedStream().toList());
+			return tokenCache;
+		}
+
 		@Bean
 		@ConditionalOnBean(OAuth2AuthorizedClientManager.class)
 		public OAuth2AccessTokenInterceptor defaultOAuth2AccessTokenInterceptor(FeignOAuth2Properties oAuth2Properties,
-				OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager) {
-			return new OAuth2AccessTokenInterceptor(oAuth2Properties.getClientRegistrationId(),
-					oAuth2AuthorizedClientManager);
+				OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager,
+				ObjectProvider<OAuth2AccessTokenCache> tokenCache) {
+			OAuth2AccessTokenInterceptor interceptor = new OAuth2AccessTokenInterceptor(
+					oAuth2Properties.getClientRegistrationId(), oAuth2AuthorizedClientManager);
+			interceptor.setTokenCache(tokenCache.getIfAvailable());
+			return interceptor;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(value = "spring.cloud.openfeign.jfr.enabled", matchIfMissing = true)
+	protected static class FlightRecorderConfiguration {
+
+		// Added by a customizer rather than as a Capability bean, so that the
+		// capabilities resolved from the client contexts are left unchanged
+		@Bean
+		public FeignBuilderCustomizer feignFlightRecorderCustomizer() {
+			FeignFlightRecorderCapability capability = new FeignFlightRecorderCapability();
+			return builder -> builder.addCapability(capability);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty("spring.cloud.openfeign.logging.sampled.enabled")
+	protected static class SampledLoggingConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignAsyncLogAppender feignAsyncLogAppender(FeignSampledLoggingProperties loggingProperties) {
+			return new FeignAsyncLogAppender(loggingProperties.getQueueCapacity());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean(FeignLoggerFactory.class)
+		public SampledFeignLoggerFactory sampledFeignLoggerFactory(FeignAsyncLogAppender feignAsyncLogAppender,
+				FeignSampledLoggingProperties loggingProperties) {
+			return new SampledFeignLoggerFactory(feignAsyncLogAppender, loggingProperties);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty("spring.cloud.openfeign.slow-calls.enabled")
+	protected static class SlowCallConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignSlowCallRecorder feignSlowCallRecorder(FeignSlowCallProperties slowCallProperties) {
+			return new FeignSlowCallRecorder(slowCallProperties.getCapacity());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignSlowCallCapability feignSlowCallCapability(FeignSlowCallRecorder feignSlowCallRecorder,
+				FeignSlowCallProperties slowCallProperties) {
+			return new FeignSlowCallCapability(feignSlowCallRecorder, slowCallProperties.getPercentile(),
+					slowCallProperties.getMultiplier(), slowCallProperties.getMinimumCalls());
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty("spring.cloud.openfeign.deadline.enabled")
+	protected static class DeadlineFeignConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignDeadlineCapability feignDeadlineCapability() {
+			return new FeignDeadlineCapability();
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnProperty(value = "spring.cloud.openfeign.deadline.propagate", matchIfMissing = true)
+		public FeignDeadlineRequestInterceptor feignDeadlineRequestInterceptor(
+				FeignDeadlineProperties deadlineProperties) {
+			return new FeignDeadlineRequestInterceptor(deadlineProperties.getHeaderName());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+		public FeignDeadlineFilter feignDeadlineFilter(FeignDeadlineProperties deadlineProperties) {
+			return new FeignDeadlineFilter(deadlineProperties.getHeaderName());
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	protected static class HttpClientMetricsConfiguration {
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(ApacheHttp5Client.class)
+		protected static class HttpClient5MetricsConfiguration {
+
+			@Bean
+			@ConditionalOnMissingBean
+			public MicrometerHttpClient5ConnectionPoolInstrumentation micrometerHttpClient5ConnectionPoolInstrumentation(
+					ObjectProvider<MeterRegistry> meterRegistry) {
+				return new MicrometerHttpClient5ConnectionPoolInstrumentation(meterRegistry);
+			}
+
+			@Bean
+			@ConditionalOnMissingBean
+			@ConditionalOnProperty("spring.cloud.openfeign.micrometer.phases.enabled")
+			public FeignCallPhaseConnectionLeaseInstrumentation feignCallPhaseConnectionLeaseInstrumentation() {
+				return new FeignCallPhaseConnectionLeaseInstrumentation();
+			}
+
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(Http2Client.class)
+		@ConditionalOnProperty("spring.cloud.openfeign.http2client.enabled")
+		protected static class Http2ClientMetricsConfiguration {
+
+			@Bean
+			@ConditionalOnMissingBean
+			public MicrometerHttp2ClientCapability micrometerHttp2ClientCapability(
+					ObjectProvider<MeterRegistry> meterRegistry) {
+				return new MicrometerHttp2ClientCapability(meterRegistry);
+			}
+
+			@Bean
+			@ConditionalOnMissingBean
+			public MicrometerHttp2ClientExecutorInstrumentation micrometerHttp2ClientExecutorInstrumentation(
+					ObjectProvider<MeterRegistry> meterRegistry) {
+				return new MicrometerHttp2ClientExecutorInstrumentation(meterRegistry);
+			}
+
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	protected static class InitializationMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public MicrometerFeignClientInitializationListener micrometerFeignClientInitializationListener(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new MicrometerFeignClientInitializationListener(meterRegistry);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	@ConditionalOnProperty("spring.cloud.openfeign.micrometer.payload.enabled")
+	protected static class PayloadMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public MicrometerPayloadSizeCapability micrometerPayloadSizeCapability(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new MicrometerPayloadSizeCapability(meterRegistry);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	@ConditionalOnProperty("spring.cloud.openfeign.micrometer.phases.enabled")
+	protected static class CallPhaseMetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public MicrometerFeignCallPhaseListener micrometerFeignCallPhaseListener(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new MicrometerFeignCallPhaseListener(meterRegistry);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({ MeterRegistry.class, OAuth2AuthorizedClientManager.class })
+	@ConditionalOnProperty({ "spring.cloud.openfeign.oauth2.enabled",
+			"spring.cloud.openfeign.oauth2.token-cache.enabled" })
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	protected static class OAuth2MetricsConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public MicrometerOAuth2AccessTokenRefreshListener micrometerOAuth2AccessTokenRefreshListener(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new MicrometerOAuth2AccessTokenRefreshListener(meterRegistry);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty("spring.cloud.openfeign.httpclient.warmup.enabled")
+	protected static class ConnectionWarmupConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignConnectionWarmupTargets feignConnectionWarmupTargets(FeignHttpClientProperties httpClientProperties,
+				FeignClientProperties clientProperties, ObjectProvider<DiscoveryClient> discoveryClient) {
+			return new FeignConnectionWarmupTargets(httpClientProperties.getWarmup(), clientProperties,
+					discoveryClient);
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignConnectionWarmupListener feignConnectionWarmupListener(List<FeignConnectionWarmer> warmers,
+				FeignConnectionWarmupTargets targets, FeignHttpClientProperties httpClientProperties) {
+			return new FeignConnectionWarmupListener(warmers, targets, httpClientProperties.getWarmup());
 		}
 
 	}
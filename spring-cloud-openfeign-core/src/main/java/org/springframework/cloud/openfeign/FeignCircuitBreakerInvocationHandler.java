@@ -31,6 +31,9 @@ import feign.Target;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.cloud.client.circuitbreaker.NoFallbackAvailableException;
+import org.springframework.cloud.openfeign.deadline.FeignDeadline;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineContextHolder;
+import org.springframework.cloud.openfeign.jfr.FeignCircuitBreakerFallbackEvent;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 
@@ -101,6 +104,8 @@ class FeignCircuitBreakerInvocationHandler implements InvocationHandler {
 		Supplier<Object> supplier = asSupplier(method, args);
 		if (this.nullableFallbackFactory != null) {
 			Function<Throwable, Object> fallbackFunction = throwable -> {
+				FeignCircuitBreakerFallbackEvent event = new FeignCircuitBreakerFallbackEvent();
+				event.begin();
 				Object fallback = this.nullableFallbackFactory.create(throwable);
 				try {
 					return this.fallbackMethodMap.get(method).invoke(fallback, args);
@@ -108,6 +113,9 @@ class FeignCircuitBreakerInvocationHandler implements InvocationHandler {
 				catch (Exception exception) {
 					unwrapAndRethrow(exception);
 				}
+				finally {
+					event.commit(feignClientName, circuitName, target.type(), method, throwable);
+				}
 				return null;
 			};
 			return circuitBreaker.run(supplier, fallbackFunction);
@@ -130,12 +138,14 @@ class FeignCircuitBreakerInvocationHandler implements InvocationHandler {
 
 	private Supplier<Object> asSupplier(final Method method, final Object[] args) {
 		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		final FeignDeadline deadline = FeignDeadlineContextHolder.getDeadline();
 		final Thread caller = Thread.currentThread();
 		return () -> {
 			boolean isAsync = caller != Thread.currentThread();
 			try {
 				if (isAsync) {
 					RequestContextHolder.setRequestAttributes(requestAttributes);
+					FeignDeadlineContextHolder.setDeadline(deadline);
 				}
 				return dispatch.get(method).invoke(args);
 			}
@@ -148,6 +158,7 @@ class FeignCircuitBreakerInvocationHandler implements InvocationHandler {
 			finally {
 				if (isAsync) {
 					RequestContextHolder.resetRequestAttributes();
+					FeignDeadlineContextHolder.clear();
 				}
 			}
 		};
@@ -16,14 +16,20 @@
 
 package org.springframework.cloud.openfeign;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.cloud.context.named.NamedContextFactory;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 
@@ -37,7 +43,14 @@ import org.springframework.context.support.GenericApplicationContext;
  * @author Jasbir Singh
  * @author Olga Maciaszek-Sharma
  */
-public class FeignClientFactory extends NamedContextFactory<FeignClientSpecification> {
+public class FeignClientFactory extends NamedContextFactory<FeignClientSpecification>
+		implements SmartInitializingSingleton {
+
+	private final Set<String> initializedContextIds;
+
+	private @Nullable ParallelContextInitializer parallelContextInitializer;
+
+	private @Nullable SharedContextResolver sharedContextResolver;
 
 	public FeignClientFactory() {
 		this(new HashMap<>());
@@ -47,6 +60,118 @@ public class FeignClientFactory extends NamedContextFactory<FeignClientSpecifica
 			Map<String, ApplicationContextInitializer<GenericApplicationContext>> applicationContextInitializers) {
 		super(FeignClientsConfiguration.class, "spring.cloud.openfeign", "spring.cloud.openfeign.client.name",
 				applicationContextInitializers);
+		this.initializedContextIds = Set.copyOf(applicationContextInitializers.keySet());
+	}
+
+	/**
+	 * Enables creating the contexts of the configured Feign clients that were not
+	 * requested yet in parallel once all singletons of the parent context are
+	 * instantiated.
+	 * @param maxThreads the maximum number of threads creating contexts
+	 * @param timeout the maximum time to wait for a context
+	 * @since 5.1.0
+	 */
+	public void setParallelInitialization(int maxThreads, Duration timeout) {
+		this.parallelContextInitializer = new ParallelContextInitializer(maxThreads, timeout);
+	}
+
+	/**
+	 * Enables sharing a single context between Feign clients with equivalent
+	 * configuration.
+	 * @param sharedContexts whether contexts should be shared
+	 * @since 5.1.0
+	 */
+	public void setSharedContexts(boolean sharedContexts) {
+		this.sharedContextResolver = sharedContexts ? new SharedContextResolver() : null;
+	}
+
+	/**
+	 * Returns the context used by each Feign client when contexts are shared.
+	 * @return the context id of the client owning the shared context, keyed by the
+	 * context id of each client, or an empty map if contexts are not shared
+	 * @since 5.1.0
+	 */
+	public Map<String, String> getSharedContextIds() {
+		return sharedContextResolver != null ? sharedContextResolver.getSharedContextIds(this) : Map.of();
+	}
+
+	@Override
+	protected GenericApplicationContext getContext(String name) {
+		String contextName = contextName(name);
+		if (parallelContextInitializer != null) {
+			// wait for a context created in parallel before taking the lock under which
+			// it gets registered, so that other contexts can be requested meanwhile
+			parallelContextInitializer.getContext(contextName);
+		}
+		return super.getContext(contextName);
+	}
+
+	/**
+	 * Returns the name of the context used by the given Feign client.
+	 * @param contextId the context id of the Feign client
+	 * @return the name of the context
+	 */
+	String contextName(String contextId) {
+		return sharedContextResolver != null ? sharedContextResolver.resolve(this, contextId) : contextId;
+	}
+
+	@Override
+	public GenericApplicationContext createContext(String name) {
+		if (parallelContextInitializer != null) {
+			GenericApplicationContext context = parallelContextInitializer.getContext(name);
+			if (context != null) {
+				return context;
+			}
+		}
+		return doCreateContext(name);
+	}
+
+	GenericApplicationContext doCreateContext(String name) {
+		long start = System.nanoTime();
+		GenericApplicationContext context = super.createContext(name);
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		ApplicationContext parent = getParent();
+		if (parent != null) {
+			parent.getBeanProvider(FeignClientInitializationListener.class)
+				.orderedStream()
+				.forEach(listener -> listener.contextInitialized(name, duration));
+		}
+		return context;
+	}
+
+	@Override
+	public Set<String> getContextNames() {
+		Set<String> names = new LinkedHashSet<>(super.getContextNames());
+		if (parallelContextInitializer != null) {
+			names.addAll(parallelContextInitializer.getContextNames());
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the context ids of all Feign clients known to this factory, either through
+	 * their configuration or through an AOT-generated context initializer.
+	 * @return the context ids
+	 */
+	Set<String> getClientContextIds() {
+		Set<String> contextIds = new LinkedHashSet<>(initializedContextIds);
+		getConfigurations().keySet().stream().filter(name -> !name.startsWith("default.")).forEach(contextIds::add);
+		return contextIds;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (parallelContextInitializer != null) {
+			parallelContextInitializer.initialize(this);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (parallelContextInitializer != null) {
+			parallelContextInitializer.close();
+		}
+		super.destroy();
 	}
 
 	public <T> @Nullable T getInstanceWithoutAncestors(String name, Class<T> type) {
@@ -73,7 +198,11 @@ public class FeignClientFactory extends NamedContextFactory<FeignClientSpecifica
 			.forEach(contextId -> convertedInitializers.put(contextId,
 					(ApplicationContextInitializer<GenericApplicationContext>) applicationContextInitializers
 						.get(contextId)));
-		return new FeignClientFactory(convertedInitializers);
+		FeignClientFactory factory = new FeignClientFactory(convertedInitializers);
+		factory.setConfigurations(List.copyOf(getConfigurations().values()));
+		factory.parallelContextInitializer = parallelContextInitializer;
+		factory.sharedContextResolver = sharedContextResolver;
+		return factory;
 	}
 
 }
@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import feign.Capability;
 import feign.Client;
@@ -44,6 +45,7 @@ import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
@@ -52,9 +54,13 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.cloud.openfeign.bulkhead.FeignBulkheadCapability;
+import org.springframework.cloud.openfeign.bulkhead.FeignBulkheadRegistry;
 import org.springframework.cloud.openfeign.clientconfig.FeignClientConfigurer;
 import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
 import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.startup.FeignClientCreationPhase;
+import org.springframework.cloud.openfeign.startup.FeignClientCreationTracker;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
@@ -90,6 +96,12 @@ public class FeignClientFactoryBean
 
 	private static final Set<String> resolvedContextIds = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+	/**
+	 * Tracker of the client being created by the current thread, kept out of the
+	 * {@link #loadBalance} signature so that subclasses overriding it are still called.
+	 */
+	private static final ThreadLocal<FeignClientCreationTracker> currentTracker = new ThreadLocal<>();
+
 	private Class<?> type;
 
 	private String name;
@@ -155,17 +167,35 @@ public class FeignClientFactoryBean
 		return builder;
 	}
 
-	private void applyBuildCustomizers(FeignClientFactory context, Feign.Builder builder) {
-		Map<String, FeignBuilderCustomizer> customizerMap = context.getInstances(contextId,
-				FeignBuilderCustomizer.class);
+	private void applyBuildCustomizers(FeignClientFactory context, Feign.Builder builder,
+			@Nullable FeignClientCreationTracker tracker) {
+		track(tracker, FeignClientCreationPhase.CUSTOMIZERS, () -> {
+			Map<String, FeignBuilderCustomizer> customizerMap = context.getInstances(contextId,
+					FeignBuilderCustomizer.class);
 
-		if (customizerMap != null) {
-			customizerMap.values()
-				.stream()
-				.sorted(AnnotationAwareOrderComparator.INSTANCE)
-				.forEach(feignBuilderCustomizer -> feignBuilderCustomizer.customize(builder));
+			if (customizerMap != null) {
+				customizerMap.values()
+					.stream()
+					.sorted(AnnotationAwareOrderComparator.INSTANCE)
+					.forEach(feignBuilderCustomizer -> feignBuilderCustomizer.customize(builder));
+			}
+			additionalCustomizers.forEach(customizer -> customizer.customize(builder));
+			return null;
+		});
+	}
+
+	private <T> T target(FeignClientFactory context, Feign.Builder builder, HardCodedTarget<T> target,
+			@Nullable FeignClientCreationTracker tracker) {
+		Targeter targeter = get(context, Targeter.class);
+		if (tracker != null) {
+			builder.addCapability(tracker.contractCapability());
 		}
-		additionalCustomizers.forEach(customizer -> customizer.customize(builder));
+		return track(tracker, FeignClientCreationPhase.TARGET, () -> targeter.target(this, builder, context, target));
+	}
+
+	private static <T> T track(@Nullable FeignClientCreationTracker tracker, FeignClientCreationPhase phase,
+			Supplier<T> action) {
+		return tracker != null ? tracker.track(phase, action) : action.get();
 	}
 
 	protected void configureFeign(FeignClientFactory context, Feign.Builder builder) {
@@ -269,6 +299,24 @@ public class FeignClientFactoryBean
 				builder.dismiss404();
 			}
 		}
+		FeignClientProperties.BulkheadProperties bulkhead = finalConfig != null && finalConfig.getBulkhead() != null
+				? finalConfig.getBulkhead() : (baseConfig != null ? baseConfig.getBulkhead() : null);
+		if (bulkhead != null && bulkhead.isEnabled()) {
+			configureBulkhead(bulkhead, builder);
+		}
+	}
+
+	private void configureBulkhead(FeignClientProperties.BulkheadProperties bulkhead, Feign.Builder builder) {
+		BeanFactory factory = beanFactory != null ? beanFactory : applicationContext;
+		FeignBulkheadRegistry bulkheadRegistry = factory.getBeanProvider(FeignBulkheadRegistry.class).getIfAvailable();
+		if (bulkheadRegistry == null) {
+			if (LOG.isWarnEnabled()) {
+				LOG.warn("Bulkhead is enabled for FeignClient with contextId '" + contextId
+						+ "', but no FeignBulkheadRegistry bean is available. Calls will not be limited.");
+			}
+			return;
+		}
+		builder.addCapability(new FeignBulkheadCapability(bulkheadRegistry.getOrCreate(contextId, bulkhead)));
 	}
 
 	protected void configureUsingProperties(FeignClientProperties.FeignClientConfiguration config,
@@ -430,12 +478,12 @@ public class FeignClientFactoryBean
 	}
 
 	protected <T> T loadBalance(Feign.Builder builder, FeignClientFactory context, HardCodedTarget<T> target) {
+		FeignClientCreationTracker tracker = currentTracker.get();
 		Client client = getOptional(context, Client.class);
 		if (client != null) {
 			builder.client(client);
-			applyBuildCustomizers(context, builder);
-			Targeter targeter = get(context, Targeter.class);
-			return targeter.target(this, builder, context, target);
+			applyBuildCustomizers(context, builder, tracker);
+			return target(context, builder, target, tracker);
 		}
 
 		throw new IllegalStateException(
@@ -458,6 +506,12 @@ public class FeignClientFactoryBean
 
 	@Override
 	public Object getObject() {
+		BeanFactory factory = beanFactory != null ? beanFactory : applicationContext;
+		LazyFeignClientInitializer lazyInitializer = factory != null
+				? factory.getBeanProvider(LazyFeignClientInitializer.class).getIfAvailable() : null;
+		if (lazyInitializer != null) {
+			return lazyInitializer.createProxy(type, contextId, this::getTarget);
+		}
 		return getTarget();
 	}
 
@@ -470,7 +524,15 @@ public class FeignClientFactoryBean
 	<T> T getTarget() {
 		FeignClientFactory feignClientFactory = beanFactory != null ? beanFactory.getBean(FeignClientFactory.class)
 				: applicationContext.getBean(FeignClientFactory.class);
-		Feign.Builder builder = feign(feignClientFactory);
+		try (FeignClientCreationTracker tracker = FeignClientCreationTracker
+			.start(beanFactory != null ? beanFactory : applicationContext, contextId, type)) {
+			track(tracker, FeignClientCreationPhase.CONTEXT, () -> feignClientFactory.getContext(contextId));
+			return getTarget(feignClientFactory, tracker);
+		}
+	}
+
+	private <T> T getTarget(FeignClientFactory feignClientFactory, @Nullable FeignClientCreationTracker tracker) {
+		Feign.Builder builder = track(tracker, FeignClientCreationPhase.CONFIGURATION, () -> feign(feignClientFactory));
 		if (!StringUtils.hasText(url) && !isUrlAvailableInConfig(contextId)) {
 
 			if (LOG.isInfoEnabled()) {
@@ -483,7 +545,19 @@ public class FeignClientFactoryBean
 				url = name;
 			}
 			url += cleanPath();
-			return (T) loadBalance(builder, feignClientFactory, new HardCodedTarget<>(type, name, url));
+			FeignClientCreationTracker previousTracker = currentTracker.get();
+			currentTracker.set(tracker);
+			try {
+				return (T) loadBalance(builder, feignClientFactory, new HardCodedTarget<>(type, name, url));
+			}
+			finally {
+				if (previousTracker != null) {
+					currentTracker.set(previousTracker);
+				}
+				else {
+					currentTracker.remove();
+				}
+			}
 		}
 		if (StringUtils.hasText(url) && !url.startsWith("http://") && !url.startsWith("https://")) {
 			url = "http://" + url;
@@ -512,10 +586,9 @@ public class FeignClientFactoryBean
 			builder.client(client);
 		}
 
-		applyBuildCustomizers(feignClientFactory, builder);
+		applyBuildCustomizers(feignClientFactory, builder, tracker);
 
-		Targeter targeter = get(feignClientFactory, Targeter.class);
-		return targeter.target(this, builder, feignClientFactory, resolveTarget(feignClientFactory, contextId, url));
+		return target(feignClientFactory, builder, resolveTarget(feignClientFactory, contextId, url), tracker);
 	}
 
 	private String cleanPath() {
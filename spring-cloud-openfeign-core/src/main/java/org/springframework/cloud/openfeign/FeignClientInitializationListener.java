@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.time.Duration;
+
+import org.springframework.cloud.openfeign.startup.FeignClientCreationPhase;
+
+/**
+ * Callback notified once the child application context of a Feign client has been created
+ * and as the creation of a Feign client proxy progresses, such as for exposing its
+ * startup time as a metric.
+ *
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface FeignClientInitializationListener {
+
+	/**
+	 * Called after the child application context of a Feign client has been created and
+	 * refreshed.
+	 * @param contextId the context id of the Feign client
+	 * @param duration the time taken to create and refresh the context
+	 */
+	void contextInitialized(String contextId, Duration duration);
+
+	/**
+	 * Called after a phase of the creation of a Feign client proxy has completed.
+	 * @param contextId the context id of the Feign client
+	 * @param type the Feign client interface
+	 * @param phase the completed phase
+	 * @param duration the time taken by the phase
+	 */
+	default void phaseCompleted(String contextId, Class<?> type, FeignClientCreationPhase phase, Duration duration) {
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.openfeign;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -166,6 +167,10 @@ public class FeignClientProperties {
 
 		private Boolean followRedirects;
 
+		private BulkheadProperties bulkhead;
+
+		private ConnectionPoolProperties connectionPool;
+
 		/**
 		 * Allows setting Feign client host URL. This value will only be taken into
 		 * account if the url is not set in the @FeignClient annotation.
@@ -316,6 +321,22 @@ public class FeignClientProperties {
 			this.followRedirects = followRedirects;
 		}
 
+		public BulkheadProperties getBulkhead() {
+			return bulkhead;
+		}
+
+		public void setBulkhead(BulkheadProperties bulkhead) {
+			this.bulkhead = bulkhead;
+		}
+
+		public ConnectionPoolProperties getConnectionPool() {
+			return connectionPool;
+		}
+
+		public void setConnectionPool(ConnectionPoolProperties connectionPool) {
+			this.connectionPool = connectionPool;
+		}
+
 		public String getUrl() {
 			return url;
 		}
@@ -346,7 +367,8 @@ public class FeignClientProperties {
 					&& Objects.equals(capabilities, that.capabilities)
 					&& Objects.equals(queryMapEncoder, that.queryMapEncoder)
 					&& Objects.equals(micrometer, that.micrometer)
-					&& Objects.equals(followRedirects, that.followRedirects) && Objects.equals(url, that.url);
+					&& Objects.equals(followRedirects, that.followRedirects) && Objects.equals(bulkhead, that.bulkhead)
+					&& Objects.equals(connectionPool, that.connectionPool) && Objects.equals(url, that.url);
 		}
 
 		@Override
@@ -354,7 +376,7 @@ public class FeignClientProperties {
 			return Objects.hash(loggerLevel, connectTimeout, readTimeout, retryer, errorDecoder, requestInterceptors,
 					responseInterceptor, dismiss404, encoder, decoder, contract, exceptionPropagationPolicy,
 					defaultQueryParameters, defaultRequestHeaders, capabilities, queryMapEncoder, micrometer,
-					followRedirects, url);
+					followRedirects, bulkhead, connectionPool, url);
 		}
 
 	}
@@ -394,4 +416,212 @@ public class FeignClientProperties {
 
 	}
 
+	/**
+	 * Bulkhead configuration for Feign Client.
+	 */
+	public static class BulkheadProperties {
+
+		/**
+		 * Whether calls of the client should be limited by a bulkhead.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Bulkhead isolation strategy.
+		 */
+		private BulkheadType type = BulkheadType.SEMAPHORE;
+
+		/**
+		 * Maximum number of concurrent calls allowed for the client.
+		 */
+		private int maxConcurrentCalls = 25;
+
+		/**
+		 * Maximum time a call waits for a permit of a {@link BulkheadType#SEMAPHORE}
+		 * bulkhead before being rejected. Calls are rejected immediately by default.
+		 */
+		private Duration maxWaitDuration = Duration.ZERO;
+
+		/**
+		 * Number of calls a {@link BulkheadType#THREAD_POOL} bulkhead queues once all of
+		 * its threads are busy.
+		 */
+		private int queueCapacity;
+
+		/**
+		 * Whether a {@link BulkheadType#THREAD_POOL} bulkhead runs calls on virtual
+		 * threads instead of a pool of platform threads. Requires Java 21 or later.
+		 */
+		private boolean virtualThreads;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public BulkheadType getType() {
+			return type;
+		}
+
+		public void setType(BulkheadType type) {
+			this.type = type;
+		}
+
+		public int getMaxConcurrentCalls() {
+			return maxConcurrentCalls;
+		}
+
+		public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+			this.maxConcurrentCalls = maxConcurrentCalls;
+		}
+
+		public Duration getMaxWaitDuration() {
+			return maxWaitDuration;
+		}
+
+		public void setMaxWaitDuration(Duration maxWaitDuration) {
+			this.maxWaitDuration = maxWaitDuration;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public boolean isVirtualThreads() {
+			return virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			BulkheadProperties that = (BulkheadProperties) o;
+			return enabled == that.enabled && type == that.type && maxConcurrentCalls == that.maxConcurrentCalls
+					&& Objects.equals(maxWaitDuration, that.maxWaitDuration) && queueCapacity == that.queueCapacity
+					&& virtualThreads == that.virtualThreads;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(enabled, type, maxConcurrentCalls, maxWaitDuration, queueCapacity, virtualThreads);
+		}
+
+		/**
+		 * Enumeration of bulkhead isolation strategies.
+		 */
+		public enum BulkheadType {
+
+			/**
+			 * Limits concurrent calls with a semaphore; calls run on the caller thread.
+			 */
+			SEMAPHORE,
+
+			/**
+			 * Runs calls on a dedicated, bounded executor.
+			 */
+			THREAD_POOL
+
+		}
+
+	}
+
+	/**
+	 * Apache HttpClient 5 connection pool configuration for Feign Client.
+	 */
+	public static class ConnectionPoolProperties {
+
+		/**
+		 * Whether the client should use its own connection pool instead of the one shared
+		 * by all Feign clients. Setting {@code maxConnections} or
+		 * {@code maxConnectionsPerRoute} implies a dedicated pool.
+		 */
+		private boolean dedicated;
+
+		/**
+		 * Maximum number of connections of the dedicated pool. Defaults to
+		 * {@code spring.cloud.openfeign.httpclient.max-connections}.
+		 */
+		private Integer maxConnections;
+
+		/**
+		 * Maximum number of connections per route of the dedicated pool. Defaults to
+		 * {@code spring.cloud.openfeign.httpclient.max-connections-per-route}.
+		 */
+		private Integer maxConnectionsPerRoute;
+
+		/**
+		 * Maximum number of connections to specific hosts, keyed by {@code host:port} or
+		 * URL. Applies to the dedicated pool if there is one, to the shared pool
+		 * otherwise.
+		 */
+		private Map<String, Integer> maxConnectionsPerHost = new HashMap<>();
+
+		public boolean isDedicated() {
+			return dedicated || maxConnections != null || maxConnectionsPerRoute != null;
+		}
+
+		public void setDedicated(boolean dedicated) {
+			this.dedicated = dedicated;
+		}
+
+		public Integer getMaxConnections() {
+			return maxConnections;
+		}
+
+		public void setMaxConnections(Integer maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public Integer getMaxConnectionsPerRoute() {
+			return maxConnectionsPerRoute;
+		}
+
+		public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		}
+
+		public Map<String, Integer> getMaxConnectionsPerHost() {
+			return maxConnectionsPerHost;
+		}
+
+		public void setMaxConnectionsPerHost(Map<String, Integer> maxConnectionsPerHost) {
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ConnectionPoolProperties that = (ConnectionPoolProperties) o;
+			return dedicated == that.dedicated && Objects.equals(maxConnections, that.maxConnections)
+					&& Objects.equals(maxConnectionsPerRoute, that.maxConnectionsPerRoute)
+					&& Objects.equals(maxConnectionsPerHost, that.maxConnectionsPerHost);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(dedicated, maxConnections, maxConnectionsPerRoute, maxConnectionsPerHost);
+		}
+
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.openfeign;
 
+import java.net.http.HttpClient;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +29,8 @@ import feign.codec.Decoder;
 import feign.codec.Encoder;
 import feign.form.MultipartFormContentProcessor;
 import feign.form.spring.SpringFormEncoder;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
 import feign.micrometer.MicrometerCapability;
 import feign.micrometer.MicrometerObservationCapability;
 import feign.optionals.OptionalDecoder;
@@ -36,6 +39,7 @@ import io.micrometer.observation.ObservationRegistry;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -46,6 +50,10 @@ import org.springframework.boot.http.converter.autoconfigure.ClientHttpMessageCo
 import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.cloud.openfeign.clientconfig.FeignClientConfigurer;
+import org.springframework.cloud.openfeign.clientconfig.Http2ClientDedicatedConfiguration;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5ConnectionPoolConfiguration;
+import org.springframework.cloud.openfeign.latency.FeignCallPhaseCapability;
+import org.springframework.cloud.openfeign.latency.FeignCallPhaseListener;
 import org.springframework.cloud.openfeign.support.AbstractFormWriter;
 import org.springframework.cloud.openfeign.support.FeignEncoderProperties;
 import org.springframework.cloud.openfeign.support.FeignHttpMessageConverters;
@@ -59,6 +67,7 @@ import org.springframework.cloud.openfeign.support.SpringMvcContract;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Pageable;
@@ -276,4 +285,36 @@ public class FeignClientsConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = "spring.cloud.openfeign.micrometer.enabled", matchIfMissing = true)
+	@ConditionalOnProperty("spring.cloud.openfeign.micrometer.phases.enabled")
+	@Conditional(FeignClientMicrometerEnabledCondition.class)
+	protected static class CallPhaseConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public FeignCallPhaseCapability feignCallPhaseCapability(ObjectProvider<FeignCallPhaseListener> listeners,
+				@Value("${spring.cloud.openfeign.micrometer.phases.sample-rate:1.0}") double sampleRate) {
+			return new FeignCallPhaseCapability(listeners.orderedStream().toList(), sampleRate);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(ApacheHttp5Client.class)
+	@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true",
+			matchIfMissing = true)
+	@Import(HttpClient5ConnectionPoolConfiguration.class)
+	protected static class HttpClient5ConnectionPoolFeignConfiguration {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({ Http2Client.class, HttpClient.class })
+	@ConditionalOnProperty("spring.cloud.openfeign.http2client.enabled")
+	@Import(Http2ClientDedicatedConfiguration.class)
+	protected static class Http2ClientDedicatedFeignConfiguration {
+
+	}
+
 }
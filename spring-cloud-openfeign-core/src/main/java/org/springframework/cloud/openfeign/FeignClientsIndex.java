@@ -0,0 +1,191 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Build-time index of the {@link FeignClient} interfaces, written by the
+ * {@code spring-cloud-openfeign-indexer} annotation processor. It replaces classpath
+ * scanning in {@link FeignClientsRegistrar} for the base packages it
+ * {@link #covers(String, ResourceLoader) covers}: only the indexed interfaces are read,
+ * and only those that are still annotated with {@link FeignClient} are registered.
+ *
+ * @since 5.1.0
+ */
+final class FeignClientsIndex {
+
+	/**
+	 * Location of the index files.
+	 */
+	static final String INDEX_LOCATION = "META-INF/spring-cloud-openfeign/feign-clients.properties";
+
+	private static final Log LOG = LogFactory.getLog(FeignClientsIndex.class);
+
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher(".");
+
+	private final Set<String> types;
+
+	private final Set<String> roots;
+
+	private FeignClientsIndex(Set<String> types, Set<String> roots) {
+		this.types = types;
+		this.roots = roots;
+	}
+
+	/**
+	 * Loads the indexes found with the given class loader.
+	 * @param classLoader the class loader to use
+	 * @return the merged index, or {@code null} if no index is found
+	 */
+	static FeignClientsIndex load(ClassLoader classLoader) {
+		ClassLoader loader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+		Set<String> types = new LinkedHashSet<>();
+		Set<String> roots = new LinkedHashSet<>();
+		try {
+			Enumeration<URL> urls = loader.getResources(INDEX_LOCATION);
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				Properties properties = new Properties();
+				try (InputStream inputStream = url.openStream()) {
+					properties.load(inputStream);
+				}
+				types.addAll(properties.stringPropertyNames());
+				String location = url.toString();
+				roots.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to load Feign clients index from location [" + INDEX_LOCATION + "]",
+					ex);
+		}
+		if (roots.isEmpty()) {
+			return null;
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Found Feign clients index with " + types.size() + " entries in " + roots);
+		}
+		return new FeignClientsIndex(types, roots);
+	}
+
+	/**
+	 * Returns whether every classpath root holding the directory of the given base
+	 * package comes with an index, which prevents the clients of a library or module
+	 * built without the indexer from being dropped because another one was indexed. Only
+	 * the roots of the package directory are resolved, the classes are not listed. For a
+	 * base package pattern, the roots of the directory preceding the first wildcard are
+	 * checked instead.
+	 * @param basePackage the base package, possibly an Ant-style pattern
+	 * @param resourceLoader the resource loader to resolve the package directory with
+	 * @return whether the index can be used instead of scanning the base package
+	 */
+	boolean covers(String basePackage, ResourceLoader resourceLoader) {
+		String location = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packageDirectory(basePackage);
+		try {
+			for (Resource resource : ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+				.getResources(location)) {
+				String directory = resource.getURL().toString();
+				if (roots.stream().noneMatch(directory::startsWith)) {
+					if (LOG.isDebugEnabled()) {
+						LOG.debug("Scanning base package [" + basePackage
+								+ "] as the Feign clients index does not cover " + directory);
+					}
+					return false;
+				}
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to resolve the directory of base package [" + basePackage + "]",
+					ex);
+		}
+		return true;
+	}
+
+	private static String packageDirectory(String basePackage) {
+		StringBuilder directory = new StringBuilder();
+		for (String segment : basePackage.split("\\.")) {
+			if (PATH_MATCHER.isPattern(segment)) {
+				break;
+			}
+			directory.append(segment).append('/');
+		}
+		return directory.toString();
+	}
+
+	/**
+	 * Returns the indexed {@link FeignClient} interfaces of the given base package.
+	 * @param basePackage the base package, possibly an Ant-style pattern
+	 * @param resourceLoader the resource loader to read the interfaces with
+	 * @return the bean definitions of the interfaces
+	 */
+	List<AnnotatedBeanDefinition> findCandidateComponents(String basePackage, ResourceLoader resourceLoader) {
+		MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
+		List<AnnotatedBeanDefinition> candidates = new ArrayList<>();
+		for (String type : types) {
+			if (!matchPackage(basePackage, ClassUtils.getPackageName(type))) {
+				continue;
+			}
+			try {
+				MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(type);
+				if (metadataReader.getAnnotationMetadata().hasAnnotation(FeignClient.class.getName())
+						&& metadataReader.getAnnotationMetadata().isIndependent()) {
+					ScannedGenericBeanDefinition beanDefinition = new ScannedGenericBeanDefinition(metadataReader);
+					beanDefinition.setSource(metadataReader.getResource());
+					candidates.add(beanDefinition);
+				}
+			}
+			catch (IOException ex) {
+				// The type was removed since the index was built
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Ignoring Feign clients index entry [" + type + "]: " + ex.getMessage());
+				}
+			}
+		}
+		return candidates;
+	}
+
+	private static boolean matchPackage(String basePackage, String packageName) {
+		if (PATH_MATCHER.isPattern(basePackage)) {
+			return PATH_MATCHER.match(basePackage, packageName);
+		}
+		return packageName.equals(basePackage) || packageName.startsWith(basePackage + ".");
+	}
+
+}
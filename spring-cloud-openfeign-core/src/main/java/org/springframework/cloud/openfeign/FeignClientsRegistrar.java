@@ -174,12 +174,20 @@ class FeignClientsRegistrar implements ImportBeanDefinitionRegistrar, ResourceLo
 		Map<String, Object> attrs = metadata.getAnnotationAttributes(EnableFeignClients.class.getName());
 		final Class<?>[] clients = attrs == null ? null : (Class<?>[]) attrs.get("clients");
 		if (clients == null || clients.length == 0) {
+			FeignClientsIndex index = isClientsIndexEnabled()
+					? FeignClientsIndex.load(this.resourceLoader.getClassLoader()) : null;
 			ClassPathScanningCandidateComponentProvider scanner = getScanner();
 			scanner.setResourceLoader(this.resourceLoader);
 			scanner.addIncludeFilter(new AnnotationTypeFilter(FeignClient.class));
 			Set<String> basePackages = getBasePackages(metadata);
 			for (String basePackage : basePackages) {
-				candidateComponents.addAll(scanner.findCandidateComponents(basePackage));
+				String resolvedBasePackage = environment.resolveRequiredPlaceholders(basePackage);
+				if (index != null && index.covers(resolvedBasePackage, this.resourceLoader)) {
+					candidateComponents.addAll(index.findCandidateComponents(resolvedBasePackage, this.resourceLoader));
+				}
+				else {
+					candidateComponents.addAll(scanner.findCandidateComponents(basePackage));
+				}
 			}
 		}
 		else {
@@ -499,4 +507,8 @@ class FeignClientsRegistrar implements ImportBeanDefinitionRegistrar, ResourceLo
 		return environment.getProperty("spring.cloud.openfeign.client.refresh-enabled", Boolean.class, false);
 	}
 
+	private boolean isClientsIndexEnabled() {
+		return environment.getProperty("spring.cloud.openfeign.clients-index.enabled", Boolean.class, true);
+	}
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the initialization of Feign clients.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties("spring.cloud.openfeign.initialization")
+public class FeignInitializationProperties {
+
+	/**
+	 * Enables creating the child application contexts of the Feign clients in parallel
+	 * once all singletons are instantiated. Feign clients are then injected as lazy
+	 * proxies, so that injecting them does not create their contexts beforehand.
+	 */
+	private boolean parallel;
+
+	/**
+	 * Maximum number of threads used to create the child application contexts in
+	 * parallel.
+	 */
+	private int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Maximum time to wait for the child application context of a Feign client that is
+	 * being created in parallel.
+	 */
+	private Duration timeout = Duration.ofMinutes(2);
+
+	/**
+	 * Enables sharing a single child application context between Feign clients with the
+	 * same configuration classes and client properties.
+	 */
+	private boolean sharedContexts;
+
+	/**
+	 * Enables injecting Feign clients as lazy proxies, creating the actual client and its
+	 * child application context on first call.
+	 */
+	private boolean lazy;
+
+	/**
+	 * Whether lazy Feign clients that have not been called yet should be created on a
+	 * background thread once the application is ready.
+	 */
+	private boolean backgroundInitialization = true;
+
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	public void setMaxThreads(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	public boolean isSharedContexts() {
+		return sharedContexts;
+	}
+
+	public void setSharedContexts(boolean sharedContexts) {
+		this.sharedContexts = sharedContexts;
+	}
+
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	public boolean isBackgroundInitialization() {
+		return backgroundInitialization;
+	}
+
+	public void setBackgroundInitialization(boolean backgroundInitialization) {
+		this.backgroundInitialization = backgroundInitialization;
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.openfeign;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -39,6 +41,11 @@ public class FeignOAuth2Properties {
 	 */
 	private String clientRegistrationId = "";
 
+	/**
+	 * Token cache configuration.
+	 */
+	private final TokenCache tokenCache = new TokenCache();
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -55,4 +62,74 @@ public class FeignOAuth2Properties {
 		this.clientRegistrationId = clientRegistrationId;
 	}
 
+	public TokenCache getTokenCache() {
+		return tokenCache;
+	}
+
+	/**
+	 * Configuration properties of the OAuth2 access token cache.
+	 */
+	public static class TokenCache {
+
+		/**
+		 * Enables caching access tokens between requests instead of asking the
+		 * {@code OAuth2AuthorizedClientManager} for each request.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long before its expiry a cached token gets renewed. Should be shorter than
+		 * the clock skew of the {@code OAuth2AuthorizedClientProvider}, which is 60
+		 * seconds by default, so that renewing returns a new token.
+		 */
+		private Duration refreshSkew = Duration.ofSeconds(30);
+
+		/**
+		 * Enables renewing cached tokens on a dedicated thread ahead of their expiry, so
+		 * that request threads never wait for a renewal while the current token is still
+		 * valid. Only applies to tokens obtained through an
+		 * AuthorizedClientServiceOAuth2AuthorizedClientManager that have been used since
+		 * their last renewal.
+		 */
+		private boolean backgroundRefresh = false;
+
+		/**
+		 * How long to wait before retrying a failed background renewal.
+		 */
+		private Duration retryInterval = Duration.ofSeconds(5);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getRefreshSkew() {
+			return refreshSkew;
+		}
+
+		public void setRefreshSkew(Duration refreshSkew) {
+			this.refreshSkew = refreshSkew;
+		}
+
+		public boolean isBackgroundRefresh() {
+			return backgroundRefresh;
+		}
+
+		public void setBackgroundRefresh(boolean backgroundRefresh) {
+			this.backgroundRefresh = backgroundRefresh;
+		}
+
+		public Duration getRetryInterval() {
+			return retryInterval;
+		}
+
+		public void setRetryInterval(Duration retryInterval) {
+			this.retryInterval = retryInterval;
+		}
+
+	}
+
 }
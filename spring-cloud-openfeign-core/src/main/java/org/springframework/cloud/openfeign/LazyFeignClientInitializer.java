@@ -0,0 +1,172 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Injects Feign clients as lazy proxies whose targets are created on first call, and
+ * optionally creates all Feign clients not called yet on a background thread once the
+ * application is ready.
+ *
+ * @since 5.1.0
+ */
+public class LazyFeignClientInitializer
+		implements ApplicationListener<ApplicationReadyEvent>, ApplicationContextAware, DisposableBean {
+
+	private static final Log LOG = LogFactory.getLog(LazyFeignClientInitializer.class);
+
+	// only the proxies created before the background initialization are kept, so that
+	// proxies created later, for instance for refresh-scoped clients, are not retained
+	private final List<LazyFeignClientTargetSource> targetSources = new ArrayList<>();
+
+	private final boolean backgroundInitialization;
+
+	private boolean collectingTargetSources;
+
+	private ApplicationContext applicationContext;
+
+	private volatile boolean closed;
+
+	public LazyFeignClientInitializer(boolean backgroundInitialization) {
+		this.backgroundInitialization = backgroundInitialization;
+		this.collectingTargetSources = backgroundInitialization;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Creates a lazy proxy for a Feign client.
+	 * @param type the Feign client interface
+	 * @param contextId the context id of the Feign client
+	 * @param targetFactory the factory of the actual Feign client
+	 * @return the proxy
+	 */
+	public Object createProxy(Class<?> type, String contextId, Supplier<Object> targetFactory) {
+		LazyFeignClientTargetSource targetSource = new LazyFeignClientTargetSource(type, contextId, targetFactory);
+		synchronized (targetSources) {
+			if (collectingTargetSources) {
+				targetSources.add(targetSource);
+			}
+		}
+		return new ProxyFactory(type, targetSource).getProxy(type.getClassLoader());
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (!backgroundInitialization || event.getApplicationContext() != applicationContext) {
+			return;
+		}
+		Thread thread = new CustomizableThreadFactory("feign-lazy-init-").newThread(this::initializeTargets);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void initializeTargets() {
+		// clients not injected anywhere during startup have no proxy yet
+		for (String beanName : applicationContext.getBeanNamesForAnnotation(FeignClient.class)) {
+			try {
+				applicationContext.getBean(beanName);
+			}
+			catch (BeansException ex) {
+				if (LOG.isWarnEnabled()) {
+					LOG.warn("Failed to create lazy Feign client '" + beanName + "' in the background", ex);
+				}
+			}
+		}
+		List<LazyFeignClientTargetSource> pending;
+		synchronized (targetSources) {
+			pending = new ArrayList<>(targetSources);
+			targetSources.clear();
+			collectingTargetSources = false;
+		}
+		for (LazyFeignClientTargetSource targetSource : pending) {
+			if (closed) {
+				return;
+			}
+			if (targetSource.isInitialized()) {
+				continue;
+			}
+			try {
+				targetSource.getTarget();
+			}
+			catch (Exception ex) {
+				if (LOG.isWarnEnabled()) {
+					LOG.warn("Failed to create Feign client '" + targetSource.contextId
+							+ "' in the background, it will be created on first call", ex);
+				}
+			}
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Created " + pending.size() + " lazy Feign clients in the background");
+		}
+	}
+
+	@Override
+	public void destroy() {
+		closed = true;
+		synchronized (targetSources) {
+			targetSources.clear();
+			collectingTargetSources = false;
+		}
+	}
+
+	private static final class LazyFeignClientTargetSource extends AbstractLazyCreationTargetSource {
+
+		private final Class<?> type;
+
+		private final String contextId;
+
+		private final Supplier<Object> targetFactory;
+
+		LazyFeignClientTargetSource(Class<?> type, String contextId, Supplier<Object> targetFactory) {
+			this.type = type;
+			this.contextId = contextId;
+			this.targetFactory = targetFactory;
+		}
+
+		@Override
+		public Class<?> getTargetClass() {
+			return type;
+		}
+
+		@Override
+		protected Object createObject() {
+			return targetFactory.get();
+		}
+
+	}
+
+}
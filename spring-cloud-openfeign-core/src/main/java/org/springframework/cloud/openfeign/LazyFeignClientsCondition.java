@@ -0,0 +1,43 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+/**
+ * Matches when Feign clients are injected as lazy proxies, which is the case in lazy mode
+ * and when their contexts are created in parallel, so that injecting them does not create
+ * their contexts one after another before the parallel creation starts.
+ */
+class LazyFeignClientsCondition extends AnyNestedCondition {
+
+	LazyFeignClientsCondition() {
+		super(ConfigurationPhase.REGISTER_BEAN);
+	}
+
+	@ConditionalOnProperty("spring.cloud.openfeign.initialization.lazy")
+	static class LazyInitialization {
+
+	}
+
+	@ConditionalOnProperty("spring.cloud.openfeign.initialization.parallel")
+	static class ParallelInitialization {
+
+	}
+
+}
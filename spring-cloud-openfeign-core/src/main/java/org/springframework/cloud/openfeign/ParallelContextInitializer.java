@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Creates the child application contexts of the Feign clients that were not requested yet
+ * in parallel on a bounded pool, once all singletons of the parent context are
+ * instantiated. Starting earlier would let a child context wait for a parent singleton
+ * still being created by the thread that waits for the child context. The contexts are
+ * then registered in the {@link FeignClientFactory} like the ones it creates itself.
+ *
+ * @since 5.1.0
+ */
+class ParallelContextInitializer {
+
+	private static final Log LOG = LogFactory.getLog(ParallelContextInitializer.class);
+
+	private final int maxThreads;
+
+	private final Duration timeout;
+
+	private final Map<String, CompletableFuture<GenericApplicationContext>> contexts = new TreeMap<>();
+
+	ParallelContextInitializer(int maxThreads, Duration timeout) {
+		this.maxThreads = Math.max(1, maxThreads);
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the context created in parallel for the given name, waiting for it if it is
+	 * still being created.
+	 * @param name the name of the context
+	 * @return the context or {@code null} if it is not created by this initializer
+	 */
+	@Nullable GenericApplicationContext getContext(String name) {
+		CompletableFuture<GenericApplicationContext> context = get(name);
+		return context != null ? await(name, context) : null;
+	}
+
+	/**
+	 * Creates the contexts of the Feign clients that were not requested yet in parallel,
+	 * waits for all of them to be registered in the factory and reports the failures,
+	 * ordered by context id, regardless of the order in which they happened.
+	 * @param factory the factory creating the contexts
+	 */
+	void initialize(FeignClientFactory factory) {
+		start(factory);
+		Map<String, Throwable> failures = new TreeMap<>();
+		for (String name : snapshot().keySet()) {
+			try {
+				factory.getContext(name);
+			}
+			catch (RuntimeException | Error ex) {
+				failures.put(name, ex);
+			}
+		}
+		if (failures.isEmpty()) {
+			return;
+		}
+		List<Throwable> causes = new ArrayList<>(failures.values());
+		IllegalStateException exception = new IllegalStateException(
+				"Failed to create the contexts of Feign clients " + failures.keySet(), causes.get(0));
+		causes.subList(1, causes.size()).forEach(exception::addSuppressed);
+		throw exception;
+	}
+
+	Collection<String> getContextNames() {
+		return snapshot().keySet();
+	}
+
+	void close() {
+		// contexts still being created are closed as soon as they are ready
+		snapshot().values().forEach(context -> context.thenAccept(GenericApplicationContext::close));
+	}
+
+	private void start(FeignClientFactory factory) {
+		synchronized (contexts) {
+			if (!contexts.isEmpty()) {
+				return;
+			}
+			List<String> names = factory.getClientContextIds()
+				.stream()
+				.map(factory::contextName)
+				.distinct()
+				.filter(name -> !factory.getContextNames().contains(name))
+				.sorted()
+				.toList();
+			if (names.isEmpty()) {
+				return;
+			}
+			int threads = Math.min(maxThreads, names.size());
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(), new CustomizableThreadFactory("feign-context-init-"));
+			for (String name : names) {
+				contexts.put(name, CompletableFuture.supplyAsync(() -> factory.doCreateContext(name), executor));
+			}
+			CompletableFuture.allOf(contexts.values().toArray(CompletableFuture[]::new))
+				.whenComplete((result, ex) -> executor.shutdown());
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Creating contexts of Feign clients " + names + " on " + threads + " threads");
+			}
+		}
+	}
+
+	private @Nullable CompletableFuture<GenericApplicationContext> get(String name) {
+		synchronized (contexts) {
+			return contexts.get(name);
+		}
+	}
+
+	private Map<String, CompletableFuture<GenericApplicationContext>> snapshot() {
+		synchronized (contexts) {
+			return new TreeMap<>(contexts);
+		}
+	}
+
+	private GenericApplicationContext await(String name, CompletableFuture<GenericApplicationContext> context) {
+		try {
+			return context.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Failed to create the context of Feign client '" + name + "'", cause);
+		}
+		catch (TimeoutException ex) {
+			throw new IllegalStateException(
+					"Timed out after " + timeout + " waiting for the context of Feign client '" + name + "'", ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the context of Feign client '" + name + "'",
+					ex);
+		}
+	}
+
+}
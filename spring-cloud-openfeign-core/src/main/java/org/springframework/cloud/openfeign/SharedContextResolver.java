@@ -0,0 +1,111 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Maps the context ids of Feign clients with equivalent configuration to a single child
+ * application context they share. Clients are equivalent when their
+ * {@link FeignClientSpecification} lists the same configuration classes and their
+ * {@link FeignClientProperties.FeignClientConfiguration} entries are equal. Clients with
+ * a dedicated connection pool or {@code HttpClient} always get their own context.
+ *
+ * @since 5.1.0
+ */
+class SharedContextResolver {
+
+	private static final Log LOG = LogFactory.getLog(SharedContextResolver.class);
+
+	private volatile @Nullable Map<String, String> sharedContextIds;
+
+	/**
+	 * Returns the name of the context to use for the given Feign client.
+	 * @param factory the factory creating the contexts
+	 * @param contextId the context id of the Feign client
+	 * @return the context id of the client owning the shared context, or the given one
+	 */
+	String resolve(FeignClientFactory factory, String contextId) {
+		return getSharedContextIds(factory).getOrDefault(contextId, contextId);
+	}
+
+	Map<String, String> getSharedContextIds(FeignClientFactory factory) {
+		Map<String, String> shared = sharedContextIds;
+		if (shared == null) {
+			synchronized (this) {
+				shared = sharedContextIds;
+				if (shared == null) {
+					shared = compute(factory);
+					sharedContextIds = shared;
+				}
+			}
+		}
+		return shared;
+	}
+
+	private Map<String, String> compute(FeignClientFactory factory) {
+		ApplicationContext parent = factory.getParent();
+		FeignClientProperties clientProperties = parent != null
+				? parent.getBeanProvider(FeignClientProperties.class).getIfAvailable() : null;
+		FeignHttpClientProperties httpClientProperties = parent != null
+				? parent.getBeanProvider(FeignHttpClientProperties.class).getIfAvailable() : null;
+		Map<Object, String> owners = new HashMap<>();
+		Map<String, String> shared = new TreeMap<>();
+		for (String contextId : new TreeSet<>(factory.getClientContextIds())) {
+			Object key = key(factory, contextId, clientProperties, httpClientProperties);
+			shared.put(contextId, key != null ? owners.computeIfAbsent(key, k -> contextId) : contextId);
+		}
+		int contexts = new HashSet<>(shared.values()).size();
+		if (contexts < shared.size() && LOG.isInfoEnabled()) {
+			LOG.info("Feign clients share " + contexts + " child contexts instead of " + shared.size() + " ("
+					+ (shared.size() - contexts) + " collapsed)");
+		}
+		return Collections.unmodifiableMap(shared);
+	}
+
+	private static @Nullable Object key(FeignClientFactory factory, String contextId,
+			@Nullable FeignClientProperties clientProperties,
+			@Nullable FeignHttpClientProperties httpClientProperties) {
+		FeignClientProperties.FeignClientConfiguration config = clientProperties != null
+				&& clientProperties.getConfig() != null ? clientProperties.getConfig().get(contextId) : null;
+		if (config != null && config.getConnectionPool() != null && config.getConnectionPool().isDedicated()) {
+			return null;
+		}
+		if (httpClientProperties != null && httpClientProperties.getHttp2().getDedicatedClients().contains(contextId)) {
+			return null;
+		}
+		FeignClientSpecification specification = factory.getConfigurations().get(contextId);
+		List<String> configurations = specification != null && specification.getConfiguration() != null
+				? Arrays.stream(specification.getConfiguration()).map(Class::getName).toList() : List.of();
+		return Arrays.asList(configurations, config);
+	}
+
+}
@@ -18,6 +18,8 @@ package org.springframework.cloud.openfeign.aot;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -25,6 +27,9 @@ import java.util.stream.Collectors;
 
 import javax.lang.model.element.Modifier;
 
+import feign.QueryMap;
+
+import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.aot.generate.GenerationContext;
 import org.springframework.aot.generate.MethodReference;
 import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
@@ -51,8 +56,13 @@ import org.springframework.beans.factory.support.RegisteredBean;
 import org.springframework.cloud.openfeign.FeignClientFactory;
 import org.springframework.cloud.openfeign.FeignClientFactoryBean;
 import org.springframework.cloud.openfeign.FeignClientSpecification;
+import org.springframework.cloud.openfeign.SpringQueryMap;
+import org.springframework.cloud.openfeign.support.PrecomputedMethodMetadata;
+import org.springframework.cloud.openfeign.support.QueryMapAccessors;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.MethodParameter;
+import org.springframework.javapoet.CodeBlock;
 import org.springframework.javapoet.MethodSpec;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -107,6 +117,20 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 		return new AotContribution(feignClientBeanDefinitions);
 	}
 
+	private boolean isContractMetadataEnabled() {
+		return context.getEnvironment()
+			.getProperty("spring.cloud.openfeign.aot.contract-metadata.enabled", Boolean.class, true);
+	}
+
+	private boolean isQueryMapAccessorsEnabled() {
+		return context.getEnvironment()
+			.getProperty("spring.cloud.openfeign.aot.query-map-accessors.enabled", Boolean.class, true);
+	}
+
+	private boolean isLazyEnabled() {
+		return context.getEnvironment().getProperty("spring.cloud.openfeign.initialization.lazy", Boolean.class, false);
+	}
+
 	private void registerMethodHints(ReflectionHints hints, Class<?> clazz) {
 		for (Method method : clazz.getMethods()) {
 			registerMethodHints(hints, method);
@@ -142,6 +166,20 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 
 	}
 
+	private void collectQueryMapTypes(Class<?> clazz, Set<Class<?>> queryMapTypes) {
+		for (Method method : clazz.getMethods()) {
+			for (Parameter parameter : method.getParameters()) {
+				Class<?> type = parameter.getType();
+				if ((parameter.isAnnotationPresent(SpringQueryMap.class)
+						|| parameter.isAnnotationPresent(QueryMap.class)) && !type.isInterface()
+						&& !java.lang.reflect.Modifier.isAbstract(type.getModifiers())
+						&& !Map.class.isAssignableFrom(type) && !type.getName().startsWith("java.")) {
+					queryMapTypes.add(type);
+				}
+			}
+		}
+	}
+
 	// Visible for tests
 	final class AotContribution implements BeanFactoryInitializationAotContribution {
 
@@ -155,6 +193,8 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 		public void applyTo(GenerationContext generationContext,
 				BeanFactoryInitializationCode beanFactoryInitializationCode) {
 			RuntimeHints hints = generationContext.getRuntimeHints();
+			Set<String> metadataRegistrationMethods = new LinkedHashSet<>();
+			Set<Class<?>> queryMapTypes = new LinkedHashSet<>();
 			Set<String> feignClientRegistrationMethods = feignClientBeanDefinitions.values()
 				.stream()
 				.map(beanDefinition -> {
@@ -166,7 +206,23 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 					Assert.notNull(className, "className cannot be null");
 					Class<?> clazz = ClassUtils.resolveClassName(className, null);
 					hints.proxies().registerJdkProxy(clazz);
+					if (isLazyEnabled()) {
+						hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(clazz));
+					}
 					registerMethodHints(hints.reflection(), clazz);
+					if (isContractMetadataEnabled()) {
+						List<PrecomputedMethodMetadata> contractMetadata = SpringMvcContract.precompute(clazz);
+						if (contractMetadata != null) {
+							metadataRegistrationMethods.add(beanFactoryInitializationCode.getMethods()
+								.add(buildContractMetadataMethodName(className),
+										method -> generateContractMetadataRegistrationMethod(method, className,
+												contractMetadata))
+								.getName());
+						}
+					}
+					if (isQueryMapAccessorsEnabled()) {
+						collectQueryMapTypes(clazz, queryMapTypes);
+					}
 					return beanFactoryInitializationCode.getMethods()
 						.add(buildMethodName(className),
 								method -> generateFeignClientRegistrationMethod(method, feignClientProperties,
@@ -174,8 +230,20 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 						.getName();
 				})
 				.collect(Collectors.toSet());
+			List<CodeBlock> queryMapAccessors = queryMapTypes.stream()
+				.map(QueryMapAccessors::toCodeBlock)
+				.filter(Objects::nonNull)
+				.toList();
+			if (!queryMapAccessors.isEmpty()) {
+				metadataRegistrationMethods.add(beanFactoryInitializationCode.getMethods()
+					.add("registerQueryMapAccessors",
+							method -> generateQueryMapAccessorsRegistrationMethod(method, queryMapAccessors))
+					.getName());
+			}
 			MethodReference initializerMethod = beanFactoryInitializationCode.getMethods()
-				.add("initialize", method -> generateInitializerMethod(method, feignClientRegistrationMethods))
+				.add("initialize",
+						method -> generateInitializerMethod(method, metadataRegistrationMethods,
+								feignClientRegistrationMethods))
 				.toMethodReference();
 			beanFactoryInitializationCode.addInitializer(initializerMethod);
 		}
@@ -184,9 +252,16 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 			return "register" + clientName + "FeignClient";
 		}
 
-		private void generateInitializerMethod(MethodSpec.Builder method, Set<String> feignClientRegistrationMethods) {
+		private String buildContractMetadataMethodName(String clientName) {
+			return "register" + clientName + "ContractMetadata";
+		}
+
+		private void generateInitializerMethod(MethodSpec.Builder method, Set<String> metadataRegistrationMethods,
+				Set<String> feignClientRegistrationMethods) {
 			method.addModifiers(Modifier.PUBLIC);
 			method.addParameter(DefaultListableBeanFactory.class, "registry");
+			metadataRegistrationMethods
+				.forEach(metadataRegistrationMethod -> method.addStatement("$N()", metadataRegistrationMethod));
 			feignClientRegistrationMethods.forEach(feignClientRegistrationMethod -> method.addStatement("$N(registry)",
 					feignClientRegistrationMethod));
 		}
@@ -226,6 +301,23 @@ public class FeignClientBeanFactoryInitializationAotProcessor
 				.addStatement("$T.registerBeanDefinition(holder, registry) ", BeanDefinitionReaderUtils.class);
 		}
 
+		private void generateContractMetadataRegistrationMethod(MethodSpec.Builder method, String className,
+				List<PrecomputedMethodMetadata> contractMetadata) {
+			CodeBlock methods = contractMetadata.stream()
+				.map(PrecomputedMethodMetadata::toCodeBlock)
+				.collect(CodeBlock.joining(",\n"));
+			method.addJavadoc("register precomputed contract metadata of Feign Client: $L", className)
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+				.addStatement("$T.register($S, true, false,\n$L)", PrecomputedMethodMetadata.class, className, methods);
+		}
+
+		private void generateQueryMapAccessorsRegistrationMethod(MethodSpec.Builder method,
+				List<CodeBlock> queryMapAccessors) {
+			method.addJavadoc("register accessor plans of Feign query map parameter types")
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+			queryMapAccessors.forEach(method::addStatement);
+		}
+
 		// Visible for tests
 		Map<String, BeanDefinition> getFeignClientBeanDefinitions() {
 			return feignClientBeanDefinitions;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+/**
+ * Thrown when a {@link FeignBulkhead} rejects a call because its concurrency budget is
+ * exhausted.
+ *
+ * @since 5.1.0
+ */
+public class BulkheadFullException extends RuntimeException {
+
+	private final String clientName;
+
+	public BulkheadFullException(String clientName, String message) {
+		this(clientName, message, null);
+	}
+
+	public BulkheadFullException(String clientName, String message, Throwable cause) {
+		super(message, cause);
+		this.clientName = clientName;
+	}
+
+	public String getClientName() {
+		return clientName;
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import feign.InvocationHandlerFactory;
+
+/**
+ * Limits the number of concurrent calls made through a single Feign client, so that a
+ * slow downstream service cannot exhaust the threads of the calling application.
+ *
+ * @since 5.1.0
+ * @see SemaphoreFeignBulkhead
+ * @see ThreadPoolFeignBulkhead
+ */
+public interface FeignBulkhead {
+
+	/**
+	 * Invokes the given method handler within the limits of this bulkhead.
+	 * @param methodHandler the Feign method handler to invoke
+	 * @param argv the invocation arguments
+	 * @return the result of the invocation
+	 * @throws BulkheadFullException if the bulkhead does not admit the call
+	 * @throws Throwable if the method handler fails
+	 */
+	Object invoke(InvocationHandlerFactory.MethodHandler methodHandler, Object[] argv) throws Throwable;
+
+	/**
+	 * @return the number of calls currently admitted by this bulkhead
+	 */
+	int getActiveCalls();
+
+	/**
+	 * Releases any resources held by this bulkhead.
+	 */
+	default void shutdown() {
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.Target;
+
+/**
+ * {@link Capability} that routes every method call of a Feign client through a
+ * {@link FeignBulkhead}. The bulkhead guards the method handlers the invocation handler
+ * dispatches to, so rejected calls are also visible to circuit breakers and fallbacks.
+ *
+ * @since 5.1.0
+ */
+public class FeignBulkheadCapability implements Capability {
+
+	private final FeignBulkhead bulkhead;
+
+	public FeignBulkheadCapability(FeignBulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	@Override
+	public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+		return new BulkheadInvocationHandlerFactory(invocationHandlerFactory, bulkhead);
+	}
+
+	static class BulkheadInvocationHandlerFactory implements InvocationHandlerFactory {
+
+		private final InvocationHandlerFactory delegate;
+
+		private final FeignBulkhead bulkhead;
+
+		BulkheadInvocationHandlerFactory(InvocationHandlerFactory delegate, FeignBulkhead bulkhead) {
+			this.delegate = delegate;
+			this.bulkhead = bulkhead;
+		}
+
+		@Override
+		public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
+			Map<Method, MethodHandler> guardedDispatch = new LinkedHashMap<>();
+			dispatch.forEach((method, methodHandler) -> guardedDispatch.put(method,
+					argv -> bulkhead.invoke(methodHandler, argv)));
+			return delegate.create(target, guardedDispatch);
+		}
+
+	}
+
+}
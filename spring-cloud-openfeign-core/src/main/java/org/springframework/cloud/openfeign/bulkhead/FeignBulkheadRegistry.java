@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+
+/**
+ * Holds a single {@link FeignBulkhead} per Feign client {@code contextId}, so that all
+ * proxies created for a client share the same concurrency budget, and releases the
+ * bulkheads when the application context is closed.
+ *
+ * @since 5.1.0
+ */
+public class FeignBulkheadRegistry implements DisposableBean {
+
+	private final Map<String, FeignBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the bulkhead for the given client, creating it from the given properties on
+	 * first access.
+	 * @param contextId the Feign client {@code contextId}
+	 * @param properties the bulkhead configuration of the client
+	 * @return the bulkhead of the client
+	 */
+	public FeignBulkhead getOrCreate(String contextId, FeignClientProperties.BulkheadProperties properties) {
+		return bulkheads.computeIfAbsent(contextId, id -> create(id, properties));
+	}
+
+	protected FeignBulkhead create(String contextId, FeignClientProperties.BulkheadProperties properties) {
+		if (properties.getType() == FeignClientProperties.BulkheadProperties.BulkheadType.THREAD_POOL) {
+			return new ThreadPoolFeignBulkhead(contextId, properties.getMaxConcurrentCalls(),
+					properties.getQueueCapacity(), properties.isVirtualThreads());
+		}
+		return new SemaphoreFeignBulkhead(contextId, properties.getMaxConcurrentCalls(),
+				properties.getMaxWaitDuration());
+	}
+
+	/**
+	 * @return the bulkheads created so far, keyed by {@code contextId}
+	 */
+	public Map<String, FeignBulkhead> getBulkheads() {
+		return Collections.unmodifiableMap(bulkheads);
+	}
+
+	@Override
+	public void destroy() {
+		bulkheads.values().forEach(FeignBulkhead::shutdown);
+		bulkheads.clear();
+	}
+
+}
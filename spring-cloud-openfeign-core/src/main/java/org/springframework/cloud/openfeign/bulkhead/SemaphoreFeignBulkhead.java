@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import feign.InvocationHandlerFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link FeignBulkhead} that limits concurrent calls with a {@link Semaphore}. Admitted
+ * calls run on the caller thread.
+ *
+ * @since 5.1.0
+ */
+public class SemaphoreFeignBulkhead implements FeignBulkhead {
+
+	private final String clientName;
+
+	private final int maxConcurrentCalls;
+
+	private final long maxWaitNanos;
+
+	private final Semaphore semaphore;
+
+	public SemaphoreFeignBulkhead(String clientName, int maxConcurrentCalls, Duration maxWaitDuration) {
+		Assert.isTrue(maxConcurrentCalls > 0, "maxConcurrentCalls must be greater than 0");
+		this.clientName = clientName;
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		this.maxWaitNanos = maxWaitDuration != null ? maxWaitDuration.toNanos() : 0;
+		this.semaphore = new Semaphore(maxConcurrentCalls, true);
+	}
+
+	@Override
+	public Object invoke(InvocationHandlerFactory.MethodHandler methodHandler, Object[] argv) throws Throwable {
+		acquire();
+		try {
+			return methodHandler.invoke(argv);
+		}
+		finally {
+			semaphore.release();
+		}
+	}
+
+	private void acquire() {
+		boolean acquired;
+		try {
+			acquired = maxWaitNanos > 0 ? semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+					: semaphore.tryAcquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BulkheadFullException(clientName,
+					"Interrupted while waiting for bulkhead of Feign client '" + clientName + "'", e);
+		}
+		if (!acquired) {
+			throw new BulkheadFullException(clientName, "Bulkhead of Feign client '" + clientName
+					+ "' is full and does not permit more than " + maxConcurrentCalls + " concurrent calls");
+		}
+	}
+
+	@Override
+	public int getActiveCalls() {
+		return maxConcurrentCalls - semaphore.availablePermits();
+	}
+
+	public int getMaxConcurrentCalls() {
+		return maxConcurrentCalls;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import feign.InvocationHandlerFactory;
+
+import org.springframework.cloud.openfeign.deadline.FeignDeadline;
+import org.springframework.cloud.openfeign.deadline.FeignDeadlineContextHolder;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link FeignBulkhead} that runs calls on a dedicated executor, isolating them from the
+ * caller threads. With platform threads, at most {@code maxConcurrentCalls} calls run at
+ * the same time and up to {@code queueCapacity} further calls wait in a bounded queue;
+ * any call beyond that is rejected immediately. With virtual threads, each admitted call
+ * gets its own virtual thread and no queue is used.
+ *
+ * @since 5.1.0
+ */
+public class ThreadPoolFeignBulkhead implements FeignBulkhead {
+
+	private final String clientName;
+
+	private final int maxConcurrentCalls;
+
+	private final AtomicInteger activeCalls = new AtomicInteger();
+
+	private final ExecutorService platformExecutor;
+
+	private final VirtualThreadTaskExecutor virtualExecutor;
+
+	private final Semaphore virtualPermits;
+
+	public ThreadPoolFeignBulkhead(String clientName, int maxConcurrentCalls, int queueCapacity,
+			boolean virtualThreads) {
+		Assert.isTrue(maxConcurrentCalls > 0, "maxConcurrentCalls must be greater than 0");
+		Assert.isTrue(queueCapacity >= 0, "queueCapacity must not be negative");
+		this.clientName = clientName;
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		String threadNamePrefix = "feign-bulkhead-" + clientName + "-";
+		if (virtualThreads) {
+			this.platformExecutor = null;
+			this.virtualExecutor = new VirtualThreadTaskExecutor(threadNamePrefix);
+			this.virtualPermits = new Semaphore(maxConcurrentCalls);
+		}
+		else {
+			BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity)
+					: new SynchronousQueue<>();
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+			threadFactory.setDaemon(true);
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 60,
+					TimeUnit.SECONDS, queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+			executor.allowCoreThreadTimeOut(true);
+			this.platformExecutor = executor;
+			this.virtualExecutor = null;
+			this.virtualPermits = null;
+		}
+	}
+
+	@Override
+	public Object invoke(InvocationHandlerFactory.MethodHandler methodHandler, Object[] argv) throws Throwable {
+		Future<Object> future = submit(asCallable(methodHandler, argv));
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+		catch (ExecutionException e) {
+			throw e.getCause() != null ? e.getCause() : e;
+		}
+	}
+
+	private Future<Object> submit(Callable<Object> callable) {
+		if (virtualExecutor != null) {
+			if (!virtualPermits.tryAcquire()) {
+				throw bulkheadFull(null);
+			}
+			try {
+				return virtualExecutor.submit(() -> {
+					try {
+						return callable.call();
+					}
+					finally {
+						virtualPermits.release();
+					}
+				});
+			}
+			catch (RuntimeException e) {
+				virtualPermits.release();
+				throw e;
+			}
+		}
+		try {
+			return platformExecutor.submit(callable);
+		}
+		catch (RejectedExecutionException e) {
+			throw bulkheadFull(e);
+		}
+	}
+
+	private Callable<Object> asCallable(InvocationHandlerFactory.MethodHandler methodHandler, Object[] argv) {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		final FeignDeadline deadline = FeignDeadlineContextHolder.getDeadline();
+		return () -> {
+			activeCalls.incrementAndGet();
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+			FeignDeadlineContextHolder.setDeadline(deadline);
+			try {
+				return methodHandler.invoke(argv);
+			}
+			catch (Exception | Error e) {
+				throw e;
+			}
+			catch (Throwable throwable) {
+				throw new IllegalStateException(throwable);
+			}
+			finally {
+				RequestContextHolder.resetRequestAttributes();
+				FeignDeadlineContextHolder.clear();
+				activeCalls.decrementAndGet();
+			}
+		};
+	}
+
+	private BulkheadFullException bulkheadFull(Throwable cause) {
+		return new BulkheadFullException(clientName,
+				"Bulkhead of Feign client '" + clientName
+						+ "' is full and does not accept more calls (max concurrent calls: " + maxConcurrentCalls + ")",
+				cause);
+	}
+
+	@Override
+	public int getActiveCalls() {
+		return activeCalls.get();
+	}
+
+	public int getMaxConcurrentCalls() {
+		return maxConcurrentCalls;
+	}
+
+	@Override
+	public void shutdown() {
+		if (platformExecutor != null) {
+			platformExecutor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.hc5.AsyncApacheHttp5Client;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+/**
+ * Blocking {@link Client} backed by the async Apache HttpClient 5
+ * {@link CloseableHttpAsyncClient}. The calling thread waits for the response, while the
+ * request itself is multiplexed with the other in-flight requests when the connection
+ * uses HTTP/2.
+ *
+ * @since 5.1.0
+ */
+public class AsyncHttpClient5Client implements Client {
+
+	private final AsyncApacheHttp5Client delegate;
+
+	public AsyncHttpClient5Client(CloseableHttpAsyncClient httpAsyncClient) {
+		this.delegate = new AsyncApacheHttp5Client(httpAsyncClient);
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		try {
+			return delegate.execute(request, options, Optional.empty()).get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException exception = new InterruptedIOException(ex.getMessage());
+			exception.initCause(ex);
+			throw exception;
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.util.List;
+
+import feign.Client;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalancedRetryFactory;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
+import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Support for building a {@link Client} dedicated to a single Feign client in its child
+ * context.
+ *
+ * @since 5.1.0
+ */
+final class DedicatedClients {
+
+	private DedicatedClients() {
+	}
+
+	/**
+	 * Wraps the dedicated delegate the same way the shared {@link Client} of the parent
+	 * context wraps its own delegate.
+	 * @param delegate the dedicated transport client
+	 * @param shared the shared client of the parent context
+	 * @param parent the parent context
+	 * @return the wrapped delegate, or {@code null} if the shared client is of an unknown
+	 * type
+	 */
+	static Client wrapLike(Client delegate, Client shared, ApplicationContext parent) {
+		if (shared instanceof FeignBlockingLoadBalancerClient) {
+			return new FeignBlockingLoadBalancerClient(delegate, parent.getBean(LoadBalancerClient.class),
+					parent.getBean(LoadBalancerClientFactory.class), transformers(parent));
+		}
+		if (shared instanceof RetryableFeignBlockingLoadBalancerClient) {
+			return new RetryableFeignBlockingLoadBalancerClient(delegate, parent.getBean(LoadBalancerClient.class),
+					parent.getBean(LoadBalancedRetryFactory.class), parent.getBean(LoadBalancerClientFactory.class),
+					transformers(parent));
+		}
+		return null;
+	}
+
+	static String clientName(ApplicationContext context) {
+		return context.getEnvironment().getProperty("spring.cloud.openfeign.client.name");
+	}
+
+	private static List<LoadBalancerFeignRequestTransformer> transformers(ApplicationContext parent) {
+		return parent.getBeanProvider(LoadBalancerFeignRequestTransformer.class).orderedStream().toList();
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import feign.Client;
+import feign.http2client.Http2Client;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SearchStrategy;
+import org.springframework.cloud.openfeign.clientconfig.http2client.Http2ClientCustomizer;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Configuration of a dedicated {@link HttpClient} for a single Feign client, applied in
+ * the client's child context when its {@code contextId} is listed in
+ * {@code spring.cloud.openfeign.httpclient.http2.dedicated-clients}. The client gets its
+ * own connection pool and, for a bounded executor, its own thread pool, which is shut
+ * down together with the child context.
+ *
+ * @since 5.1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Conditional(Http2ClientDedicatedConfiguration.DedicatedHttpClientCondition.class)
+public class Http2ClientDedicatedConfiguration {
+
+	private static final Log LOG = LogFactory.getLog(Http2ClientDedicatedConfiguration.class);
+
+	private ExecutorService executorService;
+
+	@Bean
+	@ConditionalOnMissingBean(value = HttpClient.class, search = SearchStrategy.CURRENT)
+	public HttpClient feignClientHttp2Client(FeignHttpClientProperties httpClientProperties, ApplicationContext context,
+			ObjectProvider<List<Http2ClientCustomizer>> customizerProvider,
+			ObjectProvider<Http2ClientExecutorInstrumentation> instrumentationProvider) {
+		HttpClient.Builder builder = Http2ClientFeignConfiguration.httpClientBuilder(httpClientProperties);
+		FeignHttpClientProperties.Http2Properties.ExecutorProperties executorProperties = httpClientProperties
+			.getHttp2()
+			.getExecutor();
+		String clientName = DedicatedClients.clientName(context);
+		if (executorProperties
+			.getMode() == FeignHttpClientProperties.Http2Properties.ExecutorProperties.ExecutorMode.BOUNDED) {
+			executorService = Http2ClientFeignConfiguration.boundedExecutor(executorProperties,
+					"feign-http2-" + clientName + "-");
+			builder.executor(
+					Http2ClientFeignConfiguration.instrument(executorService, clientName, instrumentationProvider));
+		}
+		else {
+			Executor executor = Http2ClientFeignConfiguration.executor(executorProperties, context);
+			if (executor != null) {
+				builder.executor(executor);
+			}
+		}
+		customizerProvider.getIfAvailable(List::of).forEach(customizer -> customizer.customize(builder));
+		return builder.build();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(value = Client.class, search = SearchStrategy.CURRENT)
+	public Client feignClient(HttpClient feignClientHttp2Client, ApplicationContext context) {
+		Client delegate = new Http2Client(feignClientHttp2Client);
+		ApplicationContext parent = context.getParent();
+		Client shared = parent != null ? parent.getBeanProvider(Client.class).getIfAvailable() : null;
+		if (shared == null || shared instanceof Http2Client) {
+			return delegate;
+		}
+		Client wrapped = DedicatedClients.wrapLike(delegate, shared, parent);
+		if (wrapped != null) {
+			return wrapped;
+		}
+		if (LOG.isWarnEnabled()) {
+			LOG.warn("A dedicated HttpClient was requested for Feign client '" + DedicatedClients.clientName(context)
+					+ "', but the shared Client is not backed by Http2Client: " + shared.getClass().getName());
+		}
+		return shared;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (executorService != null) {
+			executorService.shutdown();
+		}
+	}
+
+	static class DedicatedHttpClientCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			FeignHttpClientProperties properties = context.getBeanFactory()
+				.getBeanProvider(FeignHttpClientProperties.class)
+				.getIfAvailable();
+			return properties != null && properties.getHttp2()
+				.getDedicatedClients()
+				.contains(context.getEnvironment().getProperty("spring.cloud.openfeign.client.name"));
+		}
+
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Callback for instrumenting the executor of a {@link HttpClient} created for Feign
+ * clients, such as exposing its saturation as metrics.
+ *
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface Http2ClientExecutorInstrumentation {
+
+	/**
+	 * Name of the executor of the {@link HttpClient} shared by all Feign clients.
+	 */
+	String SHARED_EXECUTOR_NAME = "shared";
+
+	/**
+	 * Instruments an executor before it is handed to the {@link HttpClient}.
+	 * @param executorName {@link #SHARED_EXECUTOR_NAME} or the name of the Feign client
+	 * owning a dedicated {@link HttpClient}
+	 * @param executor the executor
+	 * @return the executor to use, either the given one or a wrapper around it
+	 */
+	ExecutorService instrument(String executorName, ExecutorService executor);
+
+}
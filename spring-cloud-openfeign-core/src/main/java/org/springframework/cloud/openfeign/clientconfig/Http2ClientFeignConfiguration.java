@@ -19,12 +19,26 @@ package org.springframework.cloud.openfeign.clientconfig;
 import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.openfeign.clientconfig.http2client.Http2ClientCustomizer;
 import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.cloud.openfeign.warmup.Http2ClientConnectionWarmer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 
 /**
  * Default configuration for {@link HttpClient}.
@@ -36,9 +50,54 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnMissingBean(HttpClient.class)
 public class Http2ClientFeignConfiguration {
 
+	private ExecutorService executorService;
+
 	@Bean
 	@ConditionalOnMissingBean
-	public HttpClient.Builder httpClientBuilder(FeignHttpClientProperties httpClientProperties) {
+	public HttpClient.Builder httpClientBuilder(FeignHttpClientProperties httpClientProperties, BeanFactory beanFactory,
+			ObjectProvider<Http2ClientExecutorInstrumentation> instrumentationProvider) {
+		HttpClient.Builder builder = httpClientBuilder(httpClientProperties);
+		FeignHttpClientProperties.Http2Properties.ExecutorProperties executorProperties = httpClientProperties
+			.getHttp2()
+			.getExecutor();
+		if (executorProperties
+			.getMode() == FeignHttpClientProperties.Http2Properties.ExecutorProperties.ExecutorMode.BOUNDED) {
+			executorService = boundedExecutor(executorProperties, "feign-http2-");
+			builder.executor(instrument(executorService, Http2ClientExecutorInstrumentation.SHARED_EXECUTOR_NAME,
+					instrumentationProvider));
+		}
+		else {
+			Executor executor = executor(executorProperties, beanFactory);
+			if (executor != null) {
+				builder.executor(executor);
+			}
+		}
+		return builder;
+	}
+
+	@Bean
+	public HttpClient httpClient(HttpClient.Builder httpClientBuilder, List<Http2ClientCustomizer> customizers) {
+		customizers.forEach(customizer -> customizer.customize(httpClientBuilder));
+		return httpClientBuilder.build();
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (executorService != null) {
+			executorService.shutdown();
+		}
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(Http2ClientConnectionWarmer.class)
+	@ConditionalOnProperty("spring.cloud.openfeign.httpclient.warmup.enabled")
+	public Http2ClientConnectionWarmer http2ClientConnectionWarmer(HttpClient httpClient,
+			FeignHttpClientProperties httpClientProperties) {
+		FeignHttpClientProperties.WarmupProperties warmup = httpClientProperties.getWarmup();
+		return new Http2ClientConnectionWarmer(httpClient, warmup.getProbeMethod(), warmup.getProbePath());
+	}
+
+	static HttpClient.Builder httpClientBuilder(FeignHttpClientProperties httpClientProperties) {
 		return HttpClient.newBuilder()
 			.followRedirects(
 					httpClientProperties.isFollowRedirects() ? HttpClient.Redirect.ALWAYS : HttpClient.Redirect.NEVER)
@@ -46,10 +105,49 @@ public class Http2ClientFeignConfiguration {
 			.connectTimeout(Duration.ofMillis(httpClientProperties.getConnectionTimeout()));
 	}
 
-	@Bean
-	public HttpClient httpClient(HttpClient.Builder httpClientBuilder, List<Http2ClientCustomizer> customizers) {
-		customizers.forEach(customizer -> customizer.customize(httpClientBuilder));
-		return httpClientBuilder.build();
+	/**
+	 * Returns the executor selected by the given properties for the
+	 * {@link FeignHttpClientProperties.Http2Properties.ExecutorProperties.ExecutorMode#VIRTUAL_THREADS
+	 * VIRTUAL_THREADS} and
+	 * {@link FeignHttpClientProperties.Http2Properties.ExecutorProperties.ExecutorMode#BEAN
+	 * BEAN} modes.
+	 * @param properties the executor properties
+	 * @param beanFactory the bean factory holding the executor bean
+	 * @return the executor, or {@code null} for the default executor of the
+	 * {@link HttpClient}
+	 */
+	static Executor executor(FeignHttpClientProperties.Http2Properties.ExecutorProperties properties,
+			BeanFactory beanFactory) {
+		return switch (properties.getMode()) {
+			case VIRTUAL_THREADS -> new VirtualThreadTaskExecutor("feign-http2-");
+			case BEAN -> {
+				Assert.hasText(properties.getBeanName(),
+						"spring.cloud.openfeign.httpclient.http2.executor.bean-name must be set");
+				yield beanFactory.getBean(properties.getBeanName(), Executor.class);
+			}
+			default -> null;
+		};
+	}
+
+	static ExecutorService boundedExecutor(FeignHttpClientProperties.Http2Properties.ExecutorProperties properties,
+			String threadNamePrefix) {
+		// Tasks are rejected once the queue is full: running them on the calling thread
+		// could block the selector thread of the HttpClient. Idle threads are released
+		// so that rarely used dedicated clients do not keep their pool alive.
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getMaxThreads(), properties.getMaxThreads(),
+				60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+				new CustomizableThreadFactory(threadNamePrefix), new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	static ExecutorService instrument(ExecutorService executor, String executorName,
+			ObjectProvider<Http2ClientExecutorInstrumentation> instrumentationProvider) {
+		ExecutorService instrumented = executor;
+		for (Http2ClientExecutorInstrumentation instrumentation : instrumentationProvider.orderedStream().toList()) {
+			instrumented = instrumentation.instrument(executorName, instrumented);
+		}
+		return instrumented;
 	}
 
 }
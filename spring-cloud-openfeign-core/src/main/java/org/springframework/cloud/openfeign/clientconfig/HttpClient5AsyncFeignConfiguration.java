@@ -0,0 +1,188 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.ssl.TLS;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Default configuration for the async Apache HttpClient 5
+ * {@link CloseableHttpAsyncClient}, which negotiates HTTP/2 and multiplexes concurrent
+ * requests over a few connections.
+ *
+ * @since 5.1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnMissingBean(CloseableHttpAsyncClient.class)
+public class HttpClient5AsyncFeignConfiguration {
+
+	private static final Log LOG = LogFactory.getLog(HttpClient5AsyncFeignConfiguration.class);
+
+	private CloseableHttpAsyncClient httpAsyncClient5;
+
+	@Bean
+	@ConditionalOnMissingBean(AsyncClientConnectionManager.class)
+	public AsyncClientConnectionManager hc5AsyncConnectionManager(FeignHttpClientProperties httpClientProperties,
+			ObjectProvider<List<AsyncClientConnectionManagerBuilderCustomizer>> customizerProvider) {
+		FeignHttpClientProperties.Hc5Properties hc5Properties = httpClientProperties.getHc5();
+		HttpVersionPolicy versionPolicy = HttpVersionPolicy.valueOf(hc5Properties.getAsync().getVersionPolicy().name());
+		PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder
+			.create()
+			.setTlsStrategy(tlsStrategy(httpClientProperties.isDisableSslValidation()))
+			.setMaxConnTotal(httpClientProperties.getMaxConnections())
+			.setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
+			.setConnPoolPolicy(PoolReusePolicy.valueOf(hc5Properties.getPoolReusePolicy().name()))
+			.setPoolConcurrencyPolicy(PoolConcurrencyPolicy.valueOf(hc5Properties.getPoolConcurrencyPolicy().name()))
+			.setMessageMultiplexing(versionPolicy != HttpVersionPolicy.FORCE_HTTP_1)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(httpClientProperties.getConnectionTimeout(), TimeUnit.MILLISECONDS))
+				.setSocketTimeout(Timeout.of(hc5Properties.getSocketTimeout(), hc5Properties.getSocketTimeoutUnit()))
+				.setTimeToLive(
+						TimeValue.of(httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit()))
+				.build())
+			.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(versionPolicy).build());
+
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(connectionManager));
+
+		return connectionManager.build();
+	}
+
+	@Bean
+	public CloseableHttpAsyncClient httpAsyncClient5(AsyncClientConnectionManager connectionManager,
+			FeignHttpClientProperties httpClientProperties,
+			ObjectProvider<List<HttpAsyncClientBuilderCustomizer>> customizerProvider) {
+		FeignHttpClientProperties.Hc5Properties hc5Properties = httpClientProperties.getHc5();
+		IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+		if (hc5Properties.getAsync().getIoThreadCount() != null) {
+			ioReactorConfig.setIoThreadCount(hc5Properties.getAsync().getIoThreadCount());
+		}
+		HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+			.disableCookieManagement()
+			.useSystemProperties()
+			.setConnectionManager(connectionManager)
+			.evictExpiredConnections()
+			.setIOReactorConfig(ioReactorConfig.build())
+			.setH2Config(H2Config.custom()
+				.setMaxConcurrentStreams(hc5Properties.getAsync().getMaxConcurrentStreams())
+				.build())
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setRedirectsEnabled(httpClientProperties.isFollowRedirects())
+				.setConnectionRequestTimeout(Timeout.of(hc5Properties.getConnectionRequestTimeout(),
+						hc5Properties.getConnectionRequestTimeoutUnit()))
+				.build());
+
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(httpAsyncClientBuilder));
+
+		httpAsyncClient5 = httpAsyncClientBuilder.build();
+		httpAsyncClient5.start();
+		return httpAsyncClient5;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (httpAsyncClient5 != null) {
+			httpAsyncClient5.close(CloseMode.GRACEFUL);
+		}
+	}
+
+	private static TlsStrategy tlsStrategy(boolean isDisableSslValidation) {
+		ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create()
+			.setTlsVersions(TLS.V_1_3, TLS.V_1_2);
+
+		if (isDisableSslValidation) {
+			try {
+				SSLContext sslContext = SSLContext.getInstance("SSL");
+				sslContext.init(null,
+						new TrustManager[] { new HttpClient5FeignConfiguration.DisabledValidationTrustManager() },
+						new SecureRandom());
+				tlsStrategyBuilder.setSslContext(sslContext);
+				tlsStrategyBuilder.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+			}
+			catch (NoSuchAlgorithmException | KeyManagementException e) {
+				LOG.warn("Error creating SSLContext", e);
+			}
+		}
+		return tlsStrategyBuilder.buildAsync();
+	}
+
+	/**
+	 * Callback interface that customizes {@link HttpAsyncClientBuilder} objects before
+	 * the async HttpClient is built.
+	 */
+	public interface HttpAsyncClientBuilderCustomizer {
+
+		/**
+		 * Customize HttpAsyncClientBuilder.
+		 * @param builder the {@link HttpAsyncClientBuilder} to customize
+		 */
+		void customize(HttpAsyncClientBuilder builder);
+
+	}
+
+	/**
+	 * Callback interface that customizes
+	 * {@link PoolingAsyncClientConnectionManagerBuilder} objects before the
+	 * {@link AsyncClientConnectionManager} is built.
+	 */
+	public interface AsyncClientConnectionManagerBuilderCustomizer {
+
+		/**
+		 * Customize PoolingAsyncClientConnectionManagerBuilder.
+		 * @param builder the {@link PoolingAsyncClientConnectionManagerBuilder} to
+		 * customize
+		 */
+		void customize(PoolingAsyncClientConnectionManagerBuilder builder);
+
+	}
+
+}
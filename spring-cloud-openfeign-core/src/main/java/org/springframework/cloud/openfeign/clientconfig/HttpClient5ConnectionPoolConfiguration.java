@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import java.util.List;
+import java.util.Map;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SearchStrategy;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Configuration of a dedicated Apache HttpClient 5 connection pool for a single Feign
+ * client, applied in the client's child context when
+ * {@code spring.cloud.openfeign.client.config.<contextId>.connection-pool} requests one.
+ * The connection manager and the {@link CloseableHttpClient} are closed together with the
+ * child context.
+ *
+ * @since 5.1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Conditional(HttpClient5ConnectionPoolConfiguration.DedicatedConnectionPoolCondition.class)
+public class HttpClient5ConnectionPoolConfiguration {
+
+	private static final Log LOG = LogFactory.getLog(HttpClient5ConnectionPoolConfiguration.class);
+
+	private Runnable instrumentationRelease;
+
+	@Bean
+	@ConditionalOnMissingBean(value = PoolingHttpClientConnectionManager.class, search = SearchStrategy.CURRENT)
+	public PoolingHttpClientConnectionManager feignClientConnectionManager(
+			FeignHttpClientProperties httpClientProperties, FeignClientProperties feignClientProperties,
+			ApplicationContext context,
+			ObjectProvider<List<HttpClient5FeignConfiguration.HttpClientConnectionManagerBuilderCustomizer>> customizerProvider) {
+		FeignClientProperties.ConnectionPoolProperties connectionPool = connectionPool(feignClientProperties,
+				DedicatedClients.clientName(context));
+		PoolingHttpClientConnectionManagerBuilder builder = HttpClient5FeignConfiguration
+			.connectionManagerBuilder(httpClientProperties);
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(builder));
+		if (connectionPool.getMaxConnections() != null) {
+			builder.setMaxConnTotal(connectionPool.getMaxConnections());
+		}
+		if (connectionPool.getMaxConnectionsPerRoute() != null) {
+			builder.setMaxConnPerRoute(connectionPool.getMaxConnectionsPerRoute());
+		}
+		PoolingHttpClientConnectionManager connectionManager = builder.build();
+		HttpClient5FeignConfiguration.setMaxPerHost(connectionManager, connectionPool.getMaxConnectionsPerHost());
+		return connectionManager;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(value = CloseableHttpClient.class, search = SearchStrategy.CURRENT)
+	public CloseableHttpClient feignClientHttpClient(PoolingHttpClientConnectionManager feignClientConnectionManager,
+			FeignHttpClientProperties httpClientProperties,
+			ObjectProvider<List<HttpClient5FeignConfiguration.HttpClientBuilderCustomizer>> customizerProvider,
+			ObjectProvider<HttpClient5ConnectionPoolInstrumentation> instrumentationProvider,
+			ApplicationContext context) {
+		HttpClientBuilder builder = HttpClient5FeignConfiguration.httpClientBuilder(feignClientConnectionManager,
+				httpClientProperties);
+		String poolName = DedicatedClients.clientName(context);
+		List<HttpClient5ConnectionPoolInstrumentation> instrumentations = instrumentationProvider.orderedStream()
+			.toList();
+		instrumentations
+			.forEach(instrumentation -> instrumentation.instrument(poolName, feignClientConnectionManager, builder));
+		instrumentationRelease = () -> instrumentations
+			.forEach(instrumentation -> instrumentation.release(poolName, feignClientConnectionManager));
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(builder));
+		return builder.build();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(value = Client.class, search = SearchStrategy.CURRENT)
+	public Client feignClient(CloseableHttpClient feignClientHttpClient, ApplicationContext context) {
+		Client delegate = new ApacheHttp5Client(feignClientHttpClient);
+		ApplicationContext parent = context.getParent();
+		Client shared = parent != null ? parent.getBeanProvider(Client.class).getIfAvailable() : null;
+		if (shared == null || shared instanceof ApacheHttp5Client) {
+			return delegate;
+		}
+		Client wrapped = DedicatedClients.wrapLike(delegate, shared, parent);
+		if (wrapped != null) {
+			return wrapped;
+		}
+		if (LOG.isWarnEnabled()) {
+			LOG.warn("A dedicated connection pool was requested for Feign client '"
+					+ DedicatedClients.clientName(context)
+					+ "', but the shared Client is not backed by Apache HttpClient 5: " + shared.getClass().getName());
+		}
+		return shared;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (instrumentationRelease != null) {
+			instrumentationRelease.run();
+		}
+	}
+
+	static FeignClientProperties.ConnectionPoolProperties connectionPool(FeignClientProperties properties,
+			String clientName) {
+		Map<String, FeignClientProperties.FeignClientConfiguration> config = properties.getConfig();
+		FeignClientProperties.FeignClientConfiguration client = config.get(clientName);
+		if (client != null && client.getConnectionPool() != null) {
+			return client.getConnectionPool();
+		}
+		FeignClientProperties.FeignClientConfiguration defaultConfig = config.get(properties.getDefaultConfig());
+		return defaultConfig != null ? defaultConfig.getConnectionPool() : null;
+	}
+
+	static class DedicatedConnectionPoolCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			FeignClientProperties properties = context.getBeanFactory()
+				.getBeanProvider(FeignClientProperties.class)
+				.getIfAvailable();
+			if (properties == null) {
+				return false;
+			}
+			FeignClientProperties.ConnectionPoolProperties connectionPool = connectionPool(properties,
+					context.getEnvironment().getProperty("spring.cloud.openfeign.client.name"));
+			return connectionPool != null && connectionPool.isDedicated();
+		}
+
+	}
+
+}
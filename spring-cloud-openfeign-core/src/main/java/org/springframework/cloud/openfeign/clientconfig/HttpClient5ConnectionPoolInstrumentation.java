@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.clientconfig;
+
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+/**
+ * Callback for instrumenting the Apache HttpClient 5 connection pools used by Feign
+ * clients. It is invoked for the shared pool as well as for every dedicated pool, before
+ * the {@link HttpClientBuilder} customizers are applied.
+ *
+ * @since 5.1.0
+ * @see HttpClient5ConnectionPoolConfiguration
+ */
+@FunctionalInterface
+public interface HttpClient5ConnectionPoolInstrumentation {
+
+	/**
+	 * Name of the connection pool shared by the Feign clients without a dedicated pool.
+	 */
+	String SHARED_POOL_NAME = "shared";
+
+	/**
+	 * Instruments a connection pool and the HttpClient using it.
+	 * @param poolName the name of the pool, either {@link #SHARED_POOL_NAME} or the
+	 * {@code contextId} of the client owning a dedicated pool
+	 * @param connectionManager the connection manager of the pool
+	 * @param httpClientBuilder the builder of the HttpClient using the pool
+	 */
+	void instrument(String poolName, PoolingHttpClientConnectionManager connectionManager,
+			HttpClientBuilder httpClientBuilder);
+
+	/**
+	 * Releases what {@link #instrument} registered for a connection pool, once the pool
+	 * has been closed together with its owning context.
+	 * @param poolName the name of the pool
+	 * @param connectionManager the connection manager of the pool
+	 */
+	default void release(String poolName, PoolingHttpClientConnectionManager connectionManager) {
+	}
+
+}
@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.openfeign.clientconfig;
 
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
@@ -30,15 +32,18 @@ import javax.net.ssl.X509TrustManager;
 import jakarta.annotation.PreDestroy;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.ssl.TLS;
 import org.apache.hc.core5.io.CloseMode;
@@ -50,7 +55,10 @@ import org.apache.hc.core5.util.Timeout;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.FeignClientProperties;
 import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.cloud.openfeign.warmup.HttpClient5ConnectionWarmer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -69,12 +77,67 @@ public class HttpClient5FeignConfiguration {
 
 	private CloseableHttpClient httpClient5;
 
+	private Runnable instrumentationRelease;
+
 	@Bean
 	@ConditionalOnMissingBean(HttpClientConnectionManager.class)
 	public HttpClientConnectionManager hc5ConnectionManager(FeignHttpClientProperties httpClientProperties,
-			ObjectProvider<List<HttpClientConnectionManagerBuilderCustomizer>> customizerProvider) {
-		PoolingHttpClientConnectionManagerBuilder httpClientConnectionManager = PoolingHttpClientConnectionManagerBuilder
-			.create()
+			ObjectProvider<List<HttpClientConnectionManagerBuilderCustomizer>> customizerProvider,
+			ObjectProvider<FeignClientProperties> feignClientPropertiesProvider) {
+		PoolingHttpClientConnectionManagerBuilder httpClientConnectionManager = connectionManagerBuilder(
+				httpClientProperties);
+
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(httpClientConnectionManager));
+
+		PoolingHttpClientConnectionManager connectionManager = httpClientConnectionManager.build();
+		FeignClientProperties feignClientProperties = feignClientPropertiesProvider.getIfAvailable();
+		if (feignClientProperties != null) {
+			// per-host limits of clients without a dedicated pool apply to the shared one
+			feignClientProperties.getConfig()
+				.values()
+				.stream()
+				.map(FeignClientProperties.FeignClientConfiguration::getConnectionPool)
+				.filter(connectionPool -> connectionPool != null && !connectionPool.isDedicated())
+				.forEach(connectionPool -> setMaxPerHost(connectionManager, connectionPool.getMaxConnectionsPerHost()));
+		}
+		return connectionManager;
+	}
+
+	@Bean
+	public CloseableHttpClient httpClient5(HttpClientConnectionManager connectionManager,
+			FeignHttpClientProperties httpClientProperties,
+			ObjectProvider<List<HttpClientBuilderCustomizer>> customizerProvider,
+			ObjectProvider<HttpClient5ConnectionPoolInstrumentation> instrumentationProvider) {
+		HttpClientBuilder httpClientBuilder = httpClientBuilder(connectionManager, httpClientProperties);
+		if (connectionManager instanceof PoolingHttpClientConnectionManager poolingConnectionManager) {
+			List<HttpClient5ConnectionPoolInstrumentation> instrumentations = instrumentationProvider.orderedStream()
+				.toList();
+			instrumentations.forEach(instrumentation -> instrumentation.instrument(
+					HttpClient5ConnectionPoolInstrumentation.SHARED_POOL_NAME, poolingConnectionManager,
+					httpClientBuilder));
+			instrumentationRelease = () -> instrumentations.forEach(instrumentation -> instrumentation
+				.release(HttpClient5ConnectionPoolInstrumentation.SHARED_POOL_NAME, poolingConnectionManager));
+		}
+
+		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(httpClientBuilder));
+
+		httpClient5 = httpClientBuilder.build();
+		return httpClient5;
+	}
+
+	@Bean
+	@ConditionalOnMissingBean(HttpClient5ConnectionWarmer.class)
+	@ConditionalOnProperty("spring.cloud.openfeign.httpclient.warmup.enabled")
+	public HttpClient5ConnectionWarmer hc5ConnectionWarmer(HttpClientConnectionManager connectionManager,
+			FeignHttpClientProperties httpClientProperties) {
+		return new HttpClient5ConnectionWarmer(connectionManager,
+				TimeValue.ofMilliseconds(httpClientProperties.getConnectionTimeout()),
+				TimeValue.of(httpClientProperties.getTimeToLive(), httpClientProperties.getTimeToLiveUnit()));
+	}
+
+	static PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder(
+			FeignHttpClientProperties httpClientProperties) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
 			.setSSLSocketFactory(httpsSSLConnectionSocketFactory(httpClientProperties.isDisableSslValidation()))
 			.setMaxConnTotal(httpClientProperties.getMaxConnections())
 			.setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
@@ -87,17 +150,11 @@ public class HttpClient5FeignConfiguration {
 				.setSoTimeout(Timeout.of(httpClientProperties.getHc5().getSocketTimeout(),
 						httpClientProperties.getHc5().getSocketTimeoutUnit()))
 				.build());
-
-		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(httpClientConnectionManager));
-
-		return httpClientConnectionManager.build();
 	}
 
-	@Bean
-	public CloseableHttpClient httpClient5(HttpClientConnectionManager connectionManager,
-			FeignHttpClientProperties httpClientProperties,
-			ObjectProvider<List<HttpClientBuilderCustomizer>> customizerProvider) {
-		HttpClientBuilder httpClientBuilder = HttpClients.custom()
+	static HttpClientBuilder httpClientBuilder(HttpClientConnectionManager connectionManager,
+			FeignHttpClientProperties httpClientProperties) {
+		return HttpClients.custom()
 			.disableCookieManagement()
 			.useSystemProperties()
 			.setConnectionManager(connectionManager)
@@ -108,11 +165,17 @@ public class HttpClient5FeignConfiguration {
 				.setConnectionRequestTimeout(Timeout.of(httpClientProperties.getHc5().getConnectionRequestTimeout(),
 						httpClientProperties.getHc5().getConnectionRequestTimeoutUnit()))
 				.build());
+	}
 
-		customizerProvider.getIfAvailable(List::of).forEach(c -> c.customize(httpClientBuilder));
-
-		httpClient5 = httpClientBuilder.build();
-		return httpClient5;
+	static void setMaxPerHost(PoolingHttpClientConnectionManager connectionManager,
+			Map<String, Integer> maxConnectionsPerHost) {
+		maxConnectionsPerHost.forEach((host, max) -> {
+			URI uri = URI.create(host.contains("://") ? host : "http://" + host);
+			boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+			int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+			HttpRoute route = new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+			connectionManager.setMaxPerRoute(route, max);
+		});
 	}
 
 	@PreDestroy
@@ -120,9 +183,12 @@ public class HttpClient5FeignConfiguration {
 		if (httpClient5 != null) {
 			httpClient5.close(CloseMode.GRACEFUL);
 		}
+		if (instrumentationRelease != null) {
+			instrumentationRelease.run();
+		}
 	}
 
-	private LayeredConnectionSocketFactory httpsSSLConnectionSocketFactory(boolean isDisableSslValidation) {
+	private static LayeredConnectionSocketFactory httpsSSLConnectionSocketFactory(boolean isDisableSslValidation) {
 		final SSLConnectionSocketFactoryBuilder sslConnectionSocketFactoryBuilder = SSLConnectionSocketFactoryBuilder
 			.create()
 			.setTlsVersions(TLS.V_1_3, TLS.V_1_2);
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An end-to-end deadline for the work done on behalf of a single incoming request. The
+ * deadline is measured with {@link System#nanoTime()}, so it is not affected by clock
+ * adjustments and is only ever exchanged with other services as a remaining budget.
+ *
+ * @since 5.1.0
+ * @see FeignDeadlineContextHolder
+ */
+public final class FeignDeadline {
+
+	private final long deadlineNanos;
+
+	private FeignDeadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * Creates a deadline that expires after the given budget from now.
+	 * @param budget the remaining time budget
+	 * @return the deadline
+	 */
+	public static FeignDeadline after(Duration budget) {
+		return new FeignDeadline(System.nanoTime() + budget.toNanos());
+	}
+
+	/**
+	 * Creates a deadline that expires after the given number of milliseconds from now.
+	 * @param budgetMillis the remaining time budget in milliseconds
+	 * @return the deadline
+	 */
+	public static FeignDeadline afterMillis(long budgetMillis) {
+		return new FeignDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+	}
+
+	/**
+	 * @return the remaining budget in milliseconds, never negative
+	 */
+	public long remainingMillis() {
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+	}
+
+	/**
+	 * @return {@code true} if less than a millisecond of the budget is left
+	 */
+	public boolean isExpired() {
+		return remainingMillis() <= 0;
+	}
+
+	/**
+	 * Returns the earlier of this deadline and the given one.
+	 * @param other the deadline to compare with, may be {@code null}
+	 * @return the deadline that expires first
+	 */
+	public FeignDeadline min(FeignDeadline other) {
+		if (other == null || deadlineNanos - other.deadlineNanos <= 0) {
+			return this;
+		}
+		return other;
+	}
+
+	@Override
+	public String toString() {
+		return "FeignDeadline{remainingMillis=" + remainingMillis() + "}";
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * {@link Capability} that enforces the {@link FeignDeadline} of the current request on
+ * Feign calls. Each call uses the smaller of its configured read timeout and the
+ * remaining budget, and calls whose budget has already expired fail with a
+ * {@link FeignDeadlineExceededException} without sending the request.
+ *
+ * @since 5.1.0
+ */
+public class FeignDeadlineCapability implements Capability {
+
+	@Override
+	public Client enrich(Client client) {
+		return new DeadlineAwareClient(client);
+	}
+
+	static class DeadlineAwareClient implements Client {
+
+		private final Client delegate;
+
+		DeadlineAwareClient(Client delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Response execute(Request request, Request.Options options) throws IOException {
+			FeignDeadline deadline = FeignDeadlineContextHolder.getDeadline();
+			if (deadline == null) {
+				return delegate.execute(request, options);
+			}
+			long remainingMillis = deadline.remainingMillis();
+			if (remainingMillis <= 0) {
+				throw new FeignDeadlineExceededException(request);
+			}
+			return delegate.execute(request, withReadTimeoutAtMost(options, remainingMillis));
+		}
+
+		static Request.Options withReadTimeoutAtMost(Request.Options options, long maxReadTimeoutMillis) {
+			long readTimeoutMillis = options.readTimeoutUnit().toMillis(options.readTimeout());
+			if (readTimeoutMillis > 0 && readTimeoutMillis <= maxReadTimeoutMillis) {
+				return options;
+			}
+			return new Request.Options(options.connectTimeout(), options.connectTimeoutUnit(), maxReadTimeoutMillis,
+					TimeUnit.MILLISECONDS, options.isFollowRedirects());
+		}
+
+		Client getDelegate() {
+			return delegate;
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Associates a {@link FeignDeadline} with the current thread. When no deadline is bound
+ * to the thread, the deadline stored in the current {@link RequestAttributes} is used, so
+ * that the deadline of an incoming request is also visible on threads the request
+ * attributes are propagated to, such as circuit breaker and bulkhead threads.
+ *
+ * @since 5.1.0
+ */
+public final class FeignDeadlineContextHolder {
+
+	/**
+	 * Name of the request attribute that holds the {@link FeignDeadline} of an incoming
+	 * request.
+	 */
+	public static final String DEADLINE_ATTRIBUTE = FeignDeadline.class.getName();
+
+	private static final ThreadLocal<FeignDeadline> DEADLINE = new ThreadLocal<>();
+
+	private FeignDeadlineContextHolder() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * @return the deadline of the current thread or request, or {@code null} if there is
+	 * none
+	 */
+	public static FeignDeadline getDeadline() {
+		FeignDeadline deadline = DEADLINE.get();
+		if (deadline != null) {
+			return deadline;
+		}
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null && requestAttributes.getAttribute(DEADLINE_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST) instanceof FeignDeadline requestDeadline) {
+			return requestDeadline;
+		}
+		return null;
+	}
+
+	public static void setDeadline(FeignDeadline deadline) {
+		if (deadline == null) {
+			DEADLINE.remove();
+		}
+		else {
+			DEADLINE.set(deadline);
+		}
+	}
+
+	public static void clear() {
+		DEADLINE.remove();
+	}
+
+	/**
+	 * Runs the given action with the given deadline, or with the current deadline if that
+	 * one expires earlier, and restores the previous deadline afterwards.
+	 * @param deadline the deadline for the Feign calls made by the action
+	 * @param action the action to run
+	 * @param <T> the type of the result
+	 * @return the result of the action
+	 */
+	public static <T> T callWithDeadline(FeignDeadline deadline, Supplier<T> action) {
+		FeignDeadline previous = DEADLINE.get();
+		setDeadline(deadline.min(getDeadline()));
+		try {
+			return action.get();
+		}
+		finally {
+			setDeadline(previous);
+		}
+	}
+
+}
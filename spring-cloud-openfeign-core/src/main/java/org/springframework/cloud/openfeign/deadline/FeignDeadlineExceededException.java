@@ -0,0 +1,34 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import feign.FeignException;
+import feign.Request;
+
+/**
+ * Thrown when a Feign call is not sent because the deadline of the current request has
+ * already expired.
+ *
+ * @since 5.1.0
+ */
+public class FeignDeadlineExceededException extends FeignException {
+
+	public FeignDeadlineExceededException(Request request) {
+		super(-1, "Deadline exceeded before executing " + request.httpMethod() + " " + request.url(), request);
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Captures the remaining time budget sent by the caller of an incoming request and binds
+ * the resulting {@link FeignDeadline} to the request for the Feign calls made while
+ * handling it.
+ *
+ * @since 5.1.0
+ */
+public class FeignDeadlineFilter extends OncePerRequestFilter implements Ordered {
+
+	private static final Log LOG = LogFactory.getLog(FeignDeadlineFilter.class);
+
+	private final String headerName;
+
+	public FeignDeadlineFilter(String headerName) {
+		this.headerName = headerName;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		FeignDeadline deadline = parseDeadline(request.getHeader(headerName));
+		if (deadline == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		request.setAttribute(FeignDeadlineContextHolder.DEADLINE_ATTRIBUTE, deadline);
+		FeignDeadlineContextHolder.setDeadline(deadline);
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			FeignDeadlineContextHolder.clear();
+		}
+	}
+
+	private FeignDeadline parseDeadline(String value) {
+		if (!StringUtils.hasText(value)) {
+			return null;
+		}
+		try {
+			long budgetMillis = Long.parseLong(value.trim());
+			return budgetMillis >= 0 ? FeignDeadline.afterMillis(budgetMillis) : null;
+		}
+		catch (NumberFormatException e) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Ignoring invalid value of header " + headerName + ": " + value);
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for deadline propagation of Feign calls.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties("spring.cloud.openfeign.deadline")
+public class FeignDeadlineProperties {
+
+	/**
+	 * Default name of the header carrying the remaining time budget in milliseconds.
+	 */
+	public static final String DEFAULT_HEADER_NAME = "X-Request-Timeout-Ms";
+
+	/**
+	 * Enables deadline propagation for Feign clients.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Name of the header carrying the remaining time budget of a request in milliseconds.
+	 * Used both to capture the deadline of incoming requests and to forward it to
+	 * downstream services.
+	 */
+	private String headerName = DEFAULT_HEADER_NAME;
+
+	/**
+	 * Whether the remaining budget should be forwarded to downstream services.
+	 */
+	private boolean propagate = true;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getHeaderName() {
+		return headerName;
+	}
+
+	public void setHeaderName(String headerName) {
+		this.headerName = headerName;
+	}
+
+	public boolean isPropagate() {
+		return propagate;
+	}
+
+	public void setPropagate(boolean propagate) {
+		this.propagate = propagate;
+	}
+
+}
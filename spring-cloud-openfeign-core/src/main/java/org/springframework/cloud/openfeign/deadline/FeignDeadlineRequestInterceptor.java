@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * {@link RequestInterceptor} that forwards the remaining budget of the current
+ * {@link FeignDeadline} to downstream services. Since interceptors are applied before
+ * every attempt, retried calls forward the budget left at the time of the retry.
+ *
+ * @since 5.1.0
+ */
+public class FeignDeadlineRequestInterceptor implements RequestInterceptor {
+
+	private final String headerName;
+
+	public FeignDeadlineRequestInterceptor(String headerName) {
+		this.headerName = headerName;
+	}
+
+	@Override
+	public void apply(RequestTemplate template) {
+		FeignDeadline deadline = FeignDeadlineContextHolder.getDeadline();
+		if (deadline == null) {
+			return;
+		}
+		template.removeHeader(headerName);
+		template.header(headerName, String.valueOf(deadline.remainingMillis()));
+	}
+
+}
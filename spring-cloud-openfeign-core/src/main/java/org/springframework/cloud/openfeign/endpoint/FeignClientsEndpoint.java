@@ -0,0 +1,352 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.endpoint;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import feign.Client;
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.cloud.openfeign.FeignClientFactoryBean;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link Endpoint @Endpoint} exposing the runtime state of the registered Feign clients:
+ * their target, effective options, transport, connection pool and, when Micrometer
+ * observations are recorded, the latency of their requests. The options, transport and
+ * connection pool are only described for the clients whose child context has already been
+ * created, so that querying the endpoint does not create them.
+ *
+ * @since 5.1.0
+ */
+@Endpoint(id = "feign")
+public class FeignClientsEndpoint {
+
+	private static final boolean HTTP_CLIENT_5_PRESENT = ClassUtils
+		.isPresent("org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager", null);
+
+	private static final boolean MICROMETER_PRESENT = ClassUtils
+		.isPresent("io.micrometer.core.instrument.MeterRegistry", null);
+
+	private static final String DEFAULT_CONFIGURATION_PREFIX = "default.";
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	private final Environment environment;
+
+	private final FeignClientFactory feignClientFactory;
+
+	private final FeignClientProperties clientProperties;
+
+	public FeignClientsEndpoint(ConfigurableListableBeanFactory beanFactory, Environment environment,
+			FeignClientFactory feignClientFactory, FeignClientProperties clientProperties) {
+		this.beanFactory = beanFactory;
+		this.environment = environment;
+		this.feignClientFactory = feignClientFactory;
+		this.clientProperties = clientProperties;
+	}
+
+	@ReadOperation
+	public FeignClientsDescriptor clients() {
+		Map<String, FeignClientFactoryBean> factoryBeans = factoryBeans();
+		Map<String, FeignClientDescriptor> clients = new TreeMap<>();
+		for (String contextId : feignClientFactory.getConfigurations().keySet()) {
+			if (!contextId.startsWith(DEFAULT_CONFIGURATION_PREFIX)) {
+				clients.put(contextId, describe(contextId, factoryBeans.get(contextId)));
+			}
+		}
+		return new FeignClientsDescriptor(clients);
+	}
+
+	@ReadOperation
+	public @Nullable FeignClientDescriptor client(@Selector String contextId) {
+		if (contextId.startsWith(DEFAULT_CONFIGURATION_PREFIX)
+				|| !feignClientFactory.getConfigurations().containsKey(contextId)) {
+			return null;
+		}
+		return describe(contextId, factoryBeans().get(contextId));
+	}
+
+	private FeignClientDescriptor describe(String contextId, @Nullable FeignClientFactoryBean factoryBean) {
+		String name = (factoryBean != null) ? factoryBean.getName() : contextId;
+		Class<?> type = (factoryBean != null) ? factoryBean.getType() : null;
+		String url = url(contextId, factoryBean);
+		boolean loadBalanced = !StringUtils.hasText(url);
+		if (loadBalanced) {
+			url = "http://" + name + ((factoryBean != null) ? cleanPath(factoryBean.getPath()) : "");
+		}
+		boolean initialized = isInitialized(contextId);
+		String transport = initialized ? transport(contextId) : null;
+		PoolDescriptor pool = HTTP_CLIENT_5_PRESENT && "feign.hc5.ApacheHttp5Client".equals(transport)
+				? HttpClient5Pools.describe(feignClientFactory, beanFactory, contextId) : null;
+		List<LatencyDescriptor> latency = MICROMETER_PRESENT && type != null
+				? ObservedLatency.describe(beanFactory, type) : List.of();
+		return new FeignClientDescriptor(name, (type != null) ? type.getName() : null, url, loadBalanced, initialized,
+				initialized ? options(contextId) : null, transport, pool,
+				environment.getProperty("spring.cloud.openfeign.circuitbreaker.enabled", Boolean.class, false),
+				latency);
+	}
+
+	private boolean isInitialized(String contextId) {
+		String contextName = feignClientFactory.getSharedContextIds().getOrDefault(contextId, contextId);
+		return feignClientFactory.getContextNames().contains(contextName);
+	}
+
+	private Map<String, FeignClientFactoryBean> factoryBeans() {
+		Map<String, FeignClientFactoryBean> factoryBeans = new HashMap<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+			FeignClientFactoryBean factoryBean = null;
+			if (definition.getAttribute("feignClientsRegistrarFactoryBean") instanceof FeignClientFactoryBean lazy) {
+				factoryBean = lazy;
+			}
+			else if (FeignClientFactoryBean.class.getName().equals(definition.getBeanClassName())) {
+				factoryBean = beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + beanName,
+						FeignClientFactoryBean.class);
+			}
+			if (factoryBean != null) {
+				factoryBeans.putIfAbsent(factoryBean.getContextId(), factoryBean);
+			}
+		}
+		return factoryBeans;
+	}
+
+	private @Nullable String url(String contextId, @Nullable FeignClientFactoryBean factoryBean) {
+		String url = (factoryBean != null) ? factoryBean.getUrl() : null;
+		if (!StringUtils.hasText(url)) {
+			FeignClientProperties.FeignClientConfiguration config = clientProperties.getConfig().get(contextId);
+			url = (config != null) ? config.getUrl() : null;
+		}
+		if (!StringUtils.hasText(url)) {
+			return null;
+		}
+		url = withoutUserInfo(environment.resolvePlaceholders(url));
+		String path = (factoryBean != null) ? cleanPath(factoryBean.getPath()) : "";
+		return (url.contains("://") ? url : "http://" + url) + path;
+	}
+
+	static String withoutUserInfo(String url) {
+		int start = url.indexOf("://");
+		start = start < 0 ? 0 : start + 3;
+		int end = url.length();
+		for (char delimiter : new char[] { '/', '?', '#' }) {
+			int index = url.indexOf(delimiter, start);
+			if (index >= 0 && index < end) {
+				end = index;
+			}
+		}
+		int userInfoEnd = url.lastIndexOf('@', end - 1);
+		return (userInfoEnd >= start) ? url.substring(0, start) + url.substring(userInfoEnd + 1) : url;
+	}
+
+	private OptionsDescriptor options(String contextId) {
+		Request.Options bean = feignClientFactory.getInstance(contextId, Request.Options.class);
+		Request.Options options = (bean != null) ? bean : new Request.Options();
+		int connectTimeout = options.connectTimeoutMillis();
+		int readTimeout = options.readTimeoutMillis();
+		boolean followRedirects = options.isFollowRedirects();
+		// mirrors the precedence applied by FeignClientFactoryBean
+		if (bean == null || clientProperties.isDefaultToProperties()) {
+			for (String configName : List.of(clientProperties.getDefaultConfig(), contextId)) {
+				FeignClientProperties.FeignClientConfiguration config = clientProperties.getConfig().get(configName);
+				if (config != null) {
+					connectTimeout = (config.getConnectTimeout() != null) ? config.getConnectTimeout() : connectTimeout;
+					readTimeout = (config.getReadTimeout() != null) ? config.getReadTimeout() : readTimeout;
+					followRedirects = (config.isFollowRedirects() != null) ? config.isFollowRedirects()
+							: followRedirects;
+				}
+			}
+		}
+		return new OptionsDescriptor(connectTimeout, readTimeout, followRedirects);
+	}
+
+	private String transport(String contextId) {
+		Client client = feignClientFactory.getInstance(contextId, Client.class);
+		if (client instanceof FeignBlockingLoadBalancerClient loadBalancerClient) {
+			client = loadBalancerClient.getDelegate();
+		}
+		else if (client instanceof RetryableFeignBlockingLoadBalancerClient loadBalancerClient) {
+			client = loadBalancerClient.getDelegate();
+		}
+		return (client != null) ? client.getClass().getName() : Client.Default.class.getName();
+	}
+
+	private static String cleanPath(@Nullable String path) {
+		if (!StringUtils.hasText(path)) {
+			return "";
+		}
+		String cleaned = path.trim();
+		cleaned = cleaned.startsWith("/") ? cleaned : "/" + cleaned;
+		return cleaned.endsWith("/") ? cleaned.substring(0, cleaned.length() - 1) : cleaned;
+	}
+
+	/**
+	 * Description of the Feign clients.
+	 *
+	 * @param clients the clients, keyed by their context id
+	 */
+	public record FeignClientsDescriptor(Map<String, FeignClientDescriptor> clients) implements OperationResponseBody {
+
+	}
+
+	/**
+	 * Description of a Feign client.
+	 *
+	 * @param name the name of the client
+	 * @param type the interface of the client
+	 * @param url the URL the client sends its requests to
+	 * @param loadBalanced whether the host of the URL is resolved by the load balancer
+	 * @param initialized whether the child context of the client has been created
+	 * @param options the effective connect and read timeouts, if the client is
+	 * initialized
+	 * @param transport the class of the underlying {@link Client}, if the client is
+	 * initialized
+	 * @param pool the connection pool statistics, if the client uses a pooling Apache
+	 * HttpClient 5
+	 * @param circuitBreaker whether calls are wrapped in a circuit breaker
+	 * @param latency the latency of the requests observed through Micrometer
+	 */
+	public record FeignClientDescriptor(String name, @Nullable String type, String url, boolean loadBalanced,
+			boolean initialized, @Nullable OptionsDescriptor options, @Nullable String transport,
+			@Nullable PoolDescriptor pool, boolean circuitBreaker,
+			List<LatencyDescriptor> latency) implements OperationResponseBody {
+
+	}
+
+	/**
+	 * Description of the effective {@link Request.Options} of a Feign client.
+	 *
+	 * @param connectTimeoutMillis the connect timeout in milliseconds
+	 * @param readTimeoutMillis the read timeout in milliseconds
+	 * @param followRedirects whether redirects are followed
+	 */
+	public record OptionsDescriptor(int connectTimeoutMillis, int readTimeoutMillis, boolean followRedirects) {
+
+	}
+
+	/**
+	 * Statistics of a connection pool.
+	 *
+	 * @param name {@code shared} for the pool shared by all clients, or the context id of
+	 * the client owning a dedicated pool
+	 * @param leased the number of leased connections
+	 * @param available the number of idle connections
+	 * @param pending the number of requests waiting for a connection
+	 * @param max the maximum number of connections
+	 */
+	public record PoolDescriptor(String name, int leased, int available, int pending, int max) {
+
+	}
+
+	/**
+	 * Latency of the requests of a Feign client to an endpoint, as observed by
+	 * Micrometer.
+	 *
+	 * @param method the HTTP method
+	 * @param uri the URI template
+	 * @param status the response status
+	 * @param count the number of requests
+	 * @param meanMillis the mean latency in milliseconds
+	 * @param maxMillis the maximum latency in the current time window, in milliseconds
+	 * @param percentilesMillis the published percentiles in milliseconds, if any
+	 */
+	public record LatencyDescriptor(@Nullable String method, @Nullable String uri, @Nullable String status, long count,
+			double meanMillis, double maxMillis, Map<String, Double> percentilesMillis) {
+
+	}
+
+	private static final class HttpClient5Pools {
+
+		static @Nullable PoolDescriptor describe(FeignClientFactory factory, BeanFactory beanFactory,
+				String contextId) {
+			PoolingHttpClientConnectionManager dedicated = factory.getInstanceWithoutAncestors(contextId,
+					PoolingHttpClientConnectionManager.class);
+			if (dedicated != null) {
+				return describe(contextId, dedicated);
+			}
+			if (beanFactory.getBeanProvider(HttpClientConnectionManager.class)
+				.getIfUnique() instanceof PoolingHttpClientConnectionManager shared) {
+				return describe("shared", shared);
+			}
+			return null;
+		}
+
+		private static PoolDescriptor describe(String name, PoolingHttpClientConnectionManager connectionManager) {
+			PoolStats stats = connectionManager.getTotalStats();
+			return new PoolDescriptor(name, stats.getLeased(), stats.getAvailable(), stats.getPending(),
+					stats.getMax());
+		}
+
+	}
+
+	private static final class ObservedLatency {
+
+		private static final String METRIC = "http.client.requests";
+
+		static List<LatencyDescriptor> describe(BeanFactory beanFactory, Class<?> type) {
+			MeterRegistry registry = beanFactory.getBeanProvider(MeterRegistry.class).getIfUnique();
+			if (registry == null) {
+				return List.of();
+			}
+			return registry.find(METRIC)
+				.tag("clientName", type.getName())
+				.timers()
+				.stream()
+				.map(ObservedLatency::describe)
+				.toList();
+		}
+
+		private static LatencyDescriptor describe(Timer timer) {
+			HistogramSnapshot snapshot = timer.takeSnapshot();
+			Map<String, Double> percentiles = new LinkedHashMap<>();
+			for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+				percentiles.put(String.valueOf(percentile.percentile()), percentile.value(TimeUnit.MILLISECONDS));
+			}
+			return new LatencyDescriptor(timer.getId().getTag("http.method"), timer.getId().getTag("http.url"),
+					timer.getId().getTag("http.status_code"), snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+					snapshot.max(TimeUnit.MILLISECONDS), percentiles);
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.endpoint;
+
+import feign.Feign;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} for the {@link FeignClientsEndpoint}.
+ *
+ * @since 5.1.0
+ */
+@ConditionalOnClass({ Feign.class, Endpoint.class })
+@ConditionalOnAvailableEndpoint(FeignClientsEndpoint.class)
+@ConditionalOnBean(FeignClientFactory.class)
+@AutoConfigureAfter(FeignAutoConfiguration.class)
+@Configuration(proxyBeanMethods = false)
+public class FeignClientsEndpointAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public FeignClientsEndpoint feignClientsEndpoint(ConfigurableListableBeanFactory beanFactory,
+			Environment environment, FeignClientFactory feignClientFactory, FeignClientProperties clientProperties) {
+		return new FeignClientsEndpoint(beanFactory, environment, feignClientFactory, clientProperties);
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import java.lang.reflect.Method;
+
+import feign.Feign;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the invocation of the fallback of a Feign client method
+ * wrapped in a circuit breaker.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.FeignCircuitBreakerFallback")
+@Label("Feign Circuit Breaker Fallback")
+@Category({ "Spring Cloud OpenFeign" })
+@Description("Fallback invoked by the circuit breaker of a Feign client")
+@StackTrace(false)
+public final class FeignCircuitBreakerFallbackEvent extends Event {
+
+	@Label("Client")
+	private String clientName;
+
+	@Label("Circuit Breaker")
+	private String circuitBreakerName;
+
+	@Label("Method")
+	private String methodKey;
+
+	@Label("Cause")
+	private String cause;
+
+	/**
+	 * Commits the event if it is being recorded.
+	 * @param clientName the name of the Feign client
+	 * @param circuitBreakerName the name of the circuit breaker
+	 * @param targetType the type of the Feign client
+	 * @param method the invoked method
+	 * @param cause the failure that triggered the fallback
+	 */
+	public void commit(String clientName, String circuitBreakerName, Class<?> targetType, Method method,
+			Throwable cause) {
+		if (shouldCommit()) {
+			this.clientName = clientName;
+			this.circuitBreakerName = circuitBreakerName;
+			methodKey = Feign.configKey(targetType, method);
+			this.cause = FlightRecorderUtils.describe(cause);
+			commit();
+		}
+	}
+
+}
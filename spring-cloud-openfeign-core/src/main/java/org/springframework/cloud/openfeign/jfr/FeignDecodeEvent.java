@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import java.lang.reflect.Type;
+
+import feign.Response;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the decoding of a Feign response, including reading its body.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.FeignDecode")
+@Label("Feign Decode")
+@Category({ "Spring Cloud OpenFeign" })
+@Description("Decoding of the response of a Feign client")
+@StackTrace(false)
+public final class FeignDecodeEvent extends Event {
+
+	@Label("Client")
+	private String clientName;
+
+	@Label("Method")
+	private String methodKey;
+
+	@Label("Type")
+	private String type;
+
+	@Label("Status")
+	private int status;
+
+	/**
+	 * Commits the event if it is being recorded.
+	 * @param response the decoded response
+	 * @param type the type the response is decoded to
+	 */
+	public void commit(Response response, Type type) {
+		if (shouldCommit()) {
+			clientName = FlightRecorderUtils.clientName(response.request());
+			methodKey = FlightRecorderUtils.methodKey(response.request());
+			this.type = type.getTypeName();
+			status = response.status();
+			commit();
+		}
+	}
+
+}
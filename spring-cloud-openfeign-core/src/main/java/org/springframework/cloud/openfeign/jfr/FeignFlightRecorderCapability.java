@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import java.io.IOException;
+
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+/**
+ * A {@link Capability} that emits a {@link FeignRequestEvent} for each request executed
+ * by a Feign client while the event is enabled in a flight recording.
+ *
+ * @since 5.1.0
+ */
+public class FeignFlightRecorderCapability implements Capability {
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			FeignRequestEvent event = new FeignRequestEvent();
+			if (!event.isEnabled()) {
+				return client.execute(request, options);
+			}
+			event.begin();
+			Response response = null;
+			Throwable failure = null;
+			try {
+				response = client.execute(request, options);
+				return response;
+			}
+			catch (IOException | RuntimeException ex) {
+				failure = ex;
+				throw ex;
+			}
+			finally {
+				event.commit(request, response, failure);
+			}
+		};
+	}
+
+}
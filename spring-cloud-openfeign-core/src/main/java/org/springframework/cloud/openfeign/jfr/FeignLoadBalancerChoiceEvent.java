@@ -0,0 +1,66 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+/**
+ * Flight recorder event for the choice of a service instance for a load-balanced Feign
+ * request.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.FeignLoadBalancerChoice")
+@Label("Feign Load Balancer Choice")
+@Category({ "Spring Cloud OpenFeign" })
+@Description("Choice of a service instance for a load-balanced Feign request")
+@StackTrace(false)
+public final class FeignLoadBalancerChoiceEvent extends Event {
+
+	@Label("Service Id")
+	private String serviceId;
+
+	@Label("Instance Id")
+	private String instanceId;
+
+	@Label("Instance")
+	private String instance;
+
+	/**
+	 * Commits the event if it is being recorded.
+	 * @param serviceId the id of the service
+	 * @param serviceInstance the chosen instance, or {@code null} if none is available
+	 */
+	public void commit(String serviceId, ServiceInstance serviceInstance) {
+		if (shouldCommit()) {
+			this.serviceId = serviceId;
+			if (serviceInstance != null) {
+				instanceId = serviceInstance.getInstanceId();
+				instance = serviceInstance.getHost() + ":" + serviceInstance.getPort();
+			}
+			commit();
+		}
+	}
+
+}
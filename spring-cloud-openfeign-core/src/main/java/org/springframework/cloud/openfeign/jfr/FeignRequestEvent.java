@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import feign.Request;
+import feign.Response;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for an HTTP request executed by a Feign client, from sending the
+ * request to receiving the response headers.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.FeignRequest")
+@Label("Feign Request")
+@Category({ "Spring Cloud OpenFeign" })
+@Description("HTTP request executed by a Feign client")
+@StackTrace(false)
+public final class FeignRequestEvent extends Event {
+
+	@Label("Client")
+	private String clientName;
+
+	@Label("Method")
+	private String methodKey;
+
+	@Label("HTTP Method")
+	private String httpMethod;
+
+	@Label("URL")
+	private String url;
+
+	@Label("Status")
+	private int status;
+
+	@Label("Exception")
+	private String exception;
+
+	/**
+	 * Commits the event if it is being recorded.
+	 * @param request the executed request
+	 * @param response the response, or {@code null} if the request failed
+	 * @param failure the failure, or {@code null} if a response was received
+	 */
+	public void commit(Request request, Response response, Throwable failure) {
+		if (shouldCommit()) {
+			clientName = FlightRecorderUtils.clientName(request);
+			methodKey = FlightRecorderUtils.methodKey(request);
+			httpMethod = request.httpMethod().name();
+			url = request.url();
+			status = (response != null) ? response.status() : 0;
+			exception = FlightRecorderUtils.describe(failure);
+			commit();
+		}
+	}
+
+}
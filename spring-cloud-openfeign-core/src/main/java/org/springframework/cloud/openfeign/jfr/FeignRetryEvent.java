@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import feign.Request;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a retried attempt of a load-balanced Feign request.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.FeignRetry")
+@Label("Feign Retry")
+@Category({ "Spring Cloud OpenFeign" })
+@Description("Retried attempt of a load-balanced Feign request")
+@StackTrace(false)
+public final class FeignRetryEvent extends Event {
+
+	@Label("Client")
+	private String clientName;
+
+	@Label("Service Id")
+	private String serviceId;
+
+	@Label("URL")
+	private String url;
+
+	@Label("Retry Count")
+	private int retryCount;
+
+	@Label("Cause")
+	private String cause;
+
+	/**
+	 * Commits the event if it is being recorded.
+	 * @param serviceId the id of the service the request is sent to
+	 * @param request the retried request
+	 * @param retryCount the number of attempts that failed so far
+	 * @param cause the failure of the previous attempt
+	 */
+	public void commit(String serviceId, Request request, int retryCount, Throwable cause) {
+		if (shouldCommit()) {
+			clientName = FlightRecorderUtils.clientName(request);
+			this.serviceId = serviceId;
+			url = request.url();
+			this.retryCount = retryCount;
+			this.cause = FlightRecorderUtils.describe(cause);
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import feign.Request;
+import feign.RequestTemplate;
+
+/**
+ * Utility methods shared by the Feign flight recorder events.
+ *
+ * @since 5.1.0
+ */
+final class FlightRecorderUtils {
+
+	private FlightRecorderUtils() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	static String clientName(Request request) {
+		RequestTemplate template = (request != null) ? request.requestTemplate() : null;
+		return (template != null && template.feignTarget() != null) ? template.feignTarget().name() : null;
+	}
+
+	static String methodKey(Request request) {
+		RequestTemplate template = (request != null) ? request.requestTemplate() : null;
+		return (template != null && template.methodMetadata() != null) ? template.methodMetadata().configKey() : null;
+	}
+
+	static String describe(Throwable throwable) {
+		return (throwable != null) ? throwable.toString() : null;
+	}
+
+}
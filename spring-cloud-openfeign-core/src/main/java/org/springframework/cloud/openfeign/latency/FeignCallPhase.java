@@ -0,0 +1,76 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+/**
+ * The phases of a Feign call measured by {@link FeignCallPhaseCapability}.
+ *
+ * @since 5.1.0
+ */
+public enum FeignCallPhase {
+
+	/**
+	 * Encoding the request body.
+	 */
+	ENCODE("encode"),
+
+	/**
+	 * Applying the request interceptors.
+	 */
+	INTERCEPTORS("interceptors"),
+
+	/**
+	 * Choosing a service instance with the load balancer.
+	 */
+	LOAD_BALANCER("loadbalancer"),
+
+	/**
+	 * Leasing a connection from the connection pool of the HTTP client.
+	 */
+	CONNECTION_LEASE("connection.lease"),
+
+	/**
+	 * Sending the request and waiting for the response headers, that is the server time
+	 * and the network round trip up to the first byte of the response.
+	 */
+	RESPONSE("response"),
+
+	/**
+	 * Reading the response body.
+	 */
+	BODY_READ("body.read"),
+
+	/**
+	 * Decoding the response, excluding the time spent reading the body.
+	 */
+	DECODE("decode");
+
+	private final String id;
+
+	FeignCallPhase(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * Returns the identifier of the phase used as metric tag.
+	 * @return the identifier
+	 */
+	public String getId() {
+		return id;
+	}
+
+}
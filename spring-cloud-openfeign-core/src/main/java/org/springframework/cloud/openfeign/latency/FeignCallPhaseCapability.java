@@ -0,0 +1,246 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import feign.Capability;
+import feign.Client;
+import feign.InvocationHandlerFactory;
+import feign.RequestInterceptor;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Capability} that breaks the latency of Feign calls down into
+ * {@link FeignCallPhase phases} and reports them to {@link FeignCallPhaseListener
+ * listeners}. Only a fraction of the calls, given by the sample rate, is measured; the
+ * other calls only pay for a random number and a thread-local lookup.
+ * <p>
+ * The phases are measured on the thread invoking the client, so phases executed on other
+ * threads, for example by a circuit breaker running calls on its own thread pool, are not
+ * reported.
+ *
+ * @since 5.1.0
+ */
+public class FeignCallPhaseCapability implements Capability {
+
+	private static final Log LOG = LogFactory.getLog(FeignCallPhaseCapability.class);
+
+	private final List<FeignCallPhaseListener> listeners;
+
+	private final double sampleRate;
+
+	public FeignCallPhaseCapability(List<FeignCallPhaseListener> listeners, double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1.");
+		this.listeners = List.copyOf(listeners);
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+		return (target, dispatch) -> {
+			InvocationHandler handler = invocationHandlerFactory.create(target, dispatch);
+			return (proxy, method, args) -> {
+				if (method.getDeclaringClass() == Object.class || !isSampled()) {
+					return handler.invoke(proxy, method, args);
+				}
+				FeignCallPhaseRecorder recorder = new FeignCallPhaseRecorder();
+				FeignCallPhaseRecorder previous = recorder.attach();
+				try {
+					return handler.invoke(proxy, method, args);
+				}
+				finally {
+					FeignCallPhaseRecorder.restore(previous);
+					publish(target.name(), method.getName(), recorder.complete());
+				}
+			};
+		};
+	}
+
+	@Override
+	public Encoder enrich(Encoder encoder) {
+		return (object, bodyType, template) -> {
+			long start = FeignCallPhaseRecorder.start();
+			try {
+				encoder.encode(object, bodyType, template);
+			}
+			finally {
+				FeignCallPhaseRecorder.recordSince(FeignCallPhase.ENCODE, start);
+			}
+		};
+	}
+
+	@Override
+	public RequestInterceptor enrich(RequestInterceptor requestInterceptor) {
+		return template -> {
+			long start = FeignCallPhaseRecorder.start();
+			try {
+				requestInterceptor.apply(template);
+			}
+			finally {
+				FeignCallPhaseRecorder.recordSince(FeignCallPhase.INTERCEPTORS, start);
+			}
+		};
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			FeignCallPhaseRecorder recorder = FeignCallPhaseRecorder.current();
+			if (recorder == null) {
+				return client.execute(request, options);
+			}
+			long nestedNanos = recorder.getNestedNanos();
+			long start = System.nanoTime();
+			Response response;
+			try {
+				response = client.execute(request, options);
+			}
+			finally {
+				long elapsed = System.nanoTime() - start;
+				recorder.add(FeignCallPhase.RESPONSE, elapsed - (recorder.getNestedNanos() - nestedNanos));
+			}
+			if (response.body() == null) {
+				return response;
+			}
+			return response.toBuilder().body(new TimedBody(response.body(), recorder)).build();
+		};
+	}
+
+	@Override
+	public Decoder enrich(Decoder decoder) {
+		return (response, type) -> {
+			FeignCallPhaseRecorder recorder = FeignCallPhaseRecorder.current();
+			if (recorder == null) {
+				return decoder.decode(response, type);
+			}
+			long bodyReadNanos = recorder.getNanos(FeignCallPhase.BODY_READ);
+			long start = System.nanoTime();
+			try {
+				return decoder.decode(response, type);
+			}
+			finally {
+				long elapsed = System.nanoTime() - start;
+				recorder.add(FeignCallPhase.DECODE,
+						elapsed - (recorder.getNanos(FeignCallPhase.BODY_READ) - bodyReadNanos));
+			}
+		};
+	}
+
+	private boolean isSampled() {
+		return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	private void publish(String clientName, String methodName, Map<FeignCallPhase, Duration> phases) {
+		for (FeignCallPhaseListener listener : listeners) {
+			try {
+				listener.callCompleted(clientName, methodName, phases);
+			}
+			catch (RuntimeException ex) {
+				LOG.warn("Failed to notify listener " + listener + " of Feign call phases", ex);
+			}
+		}
+	}
+
+	private static final class TimedBody implements Response.Body {
+
+		private final Response.Body delegate;
+
+		private final FeignCallPhaseRecorder recorder;
+
+		private TimedBody(Response.Body delegate, FeignCallPhaseRecorder recorder) {
+			this.delegate = delegate;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public Integer length() {
+			return delegate.length();
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return delegate.isRepeatable();
+		}
+
+		@Override
+		public InputStream asInputStream() throws IOException {
+			return new TimedInputStream(delegate.asInputStream(), recorder);
+		}
+
+		@Override
+		public Reader asReader(Charset charset) throws IOException {
+			return new InputStreamReader(asInputStream(), charset);
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+	}
+
+	private static final class TimedInputStream extends FilterInputStream {
+
+		private final FeignCallPhaseRecorder recorder;
+
+		private TimedInputStream(InputStream in, FeignCallPhaseRecorder recorder) {
+			super(in);
+			this.recorder = recorder;
+		}
+
+		@Override
+		public int read() throws IOException {
+			long start = System.nanoTime();
+			try {
+				return super.read();
+			}
+			finally {
+				recorder.add(FeignCallPhase.BODY_READ, System.nanoTime() - start);
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			long start = System.nanoTime();
+			try {
+				return super.read(b, off, len);
+			}
+			finally {
+				recorder.add(FeignCallPhase.BODY_READ, System.nanoTime() - start);
+			}
+		}
+
+	}
+
+}
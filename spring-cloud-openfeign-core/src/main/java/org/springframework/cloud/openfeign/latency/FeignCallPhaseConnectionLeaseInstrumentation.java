@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5ConnectionPoolInstrumentation;
+
+/**
+ * {@link HttpClient5ConnectionPoolInstrumentation} reporting the time sampled Feign calls
+ * spend leasing a connection from the pool as the {@link FeignCallPhase#CONNECTION_LEASE}
+ * phase.
+ *
+ * @since 5.1.0
+ */
+public class FeignCallPhaseConnectionLeaseInstrumentation implements HttpClient5ConnectionPoolInstrumentation {
+
+	private static final String LEASE_START_ATTRIBUTE = FeignCallPhaseConnectionLeaseInstrumentation.class.getName()
+			+ ".leaseStart";
+
+	@Override
+	public void instrument(String poolName, PoolingHttpClientConnectionManager connectionManager,
+			HttpClientBuilder httpClientBuilder) {
+		// the endpoint is leased by the CONNECT element, on the thread executing the call
+		httpClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "feign-phase-lease-start",
+				(request, scope, chain) -> {
+					long start = FeignCallPhaseRecorder.start();
+					if (start != 0) {
+						scope.clientContext.setAttribute(LEASE_START_ATTRIBUTE, start);
+					}
+					return chain.proceed(request, scope);
+				});
+		httpClientBuilder.addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), "feign-phase-lease-end",
+				(request, scope, chain) -> {
+					if (scope.clientContext.removeAttribute(LEASE_START_ATTRIBUTE) instanceof Long start) {
+						FeignCallPhaseRecorder.recordSince(FeignCallPhase.CONNECTION_LEASE, start);
+					}
+					return chain.proceed(request, scope);
+				});
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Listener notified with the per-phase latency breakdown of the sampled Feign calls.
+ *
+ * @since 5.1.0
+ * @see FeignCallPhaseCapability
+ */
+@FunctionalInterface
+public interface FeignCallPhaseListener {
+
+	/**
+	 * Called when a sampled call has completed, successfully or not.
+	 * @param clientName the name of the Feign client
+	 * @param methodName the name of the invoked method
+	 * @param phases the time spent in each phase the call went through
+	 */
+	void callCompleted(String clientName, String methodName, Map<FeignCallPhase, Duration> phases);
+
+}
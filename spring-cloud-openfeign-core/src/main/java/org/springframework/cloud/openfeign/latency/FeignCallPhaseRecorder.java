@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Collects the time spent in each {@link FeignCallPhase} of the Feign call in progress on
+ * the current thread. Components taking part in a call, such as the load balancer client
+ * or the connection pool, report their phases with {@link #record(FeignCallPhase, long)},
+ * which does nothing when the current call is not sampled.
+ *
+ * @since 5.1.0
+ */
+public final class FeignCallPhaseRecorder {
+
+	private static final ThreadLocal<FeignCallPhaseRecorder> CURRENT = new ThreadLocal<>();
+
+	private static final FeignCallPhase[] PHASES = FeignCallPhase.values();
+
+	private final long[] nanos = new long[PHASES.length];
+
+	private final boolean[] recorded = new boolean[PHASES.length];
+
+	private long nestedNanos;
+
+	private boolean completed;
+
+	FeignCallPhaseRecorder() {
+	}
+
+	/**
+	 * Returns the current time if the call in progress on the current thread is sampled,
+	 * to be passed to {@link #recordSince(FeignCallPhase, long)}.
+	 * @return the current time in nanoseconds, or {@code 0} if the current call is not
+	 * sampled
+	 */
+	public static long start() {
+		return (CURRENT.get() != null) ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time elapsed since the given start time for the call in progress on the
+	 * current thread.
+	 * @param phase the phase
+	 * @param startNanos the start time returned by {@link #start()}
+	 */
+	public static void recordSince(FeignCallPhase phase, long startNanos) {
+		if (startNanos != 0) {
+			record(phase, System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+	 * Records time spent in a phase of the call in progress on the current thread.
+	 * @param phase the phase
+	 * @param nanos the time spent, in nanoseconds
+	 */
+	public static void record(FeignCallPhase phase, long nanos) {
+		FeignCallPhaseRecorder recorder = CURRENT.get();
+		if (recorder != null) {
+			recorder.add(phase, nanos);
+			if (phase == FeignCallPhase.LOAD_BALANCER || phase == FeignCallPhase.CONNECTION_LEASE) {
+				recorder.nestedNanos += nanos;
+			}
+		}
+	}
+
+	static FeignCallPhaseRecorder current() {
+		return CURRENT.get();
+	}
+
+	FeignCallPhaseRecorder attach() {
+		FeignCallPhaseRecorder previous = CURRENT.get();
+		CURRENT.set(this);
+		return previous;
+	}
+
+	static void restore(FeignCallPhaseRecorder previous) {
+		if (previous != null) {
+			CURRENT.set(previous);
+		}
+		else {
+			CURRENT.remove();
+		}
+	}
+
+	void add(FeignCallPhase phase, long nanos) {
+		if (!completed) {
+			this.nanos[phase.ordinal()] += nanos;
+			recorded[phase.ordinal()] = true;
+		}
+	}
+
+	long getNestedNanos() {
+		return nestedNanos;
+	}
+
+	long getNanos(FeignCallPhase phase) {
+		return nanos[phase.ordinal()];
+	}
+
+	Map<FeignCallPhase, Duration> complete() {
+		completed = true;
+		Map<FeignCallPhase, Duration> phases = new EnumMap<>(FeignCallPhase.class);
+		for (FeignCallPhase phase : PHASES) {
+			if (recorded[phase.ordinal()]) {
+				phases.put(phase, Duration.ofNanos(Math.max(nanos[phase.ordinal()], 0)));
+			}
+		}
+		return phases;
+	}
+
+}
@@ -43,6 +43,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 
 import static org.springframework.cloud.openfeign.loadbalancer.LoadBalancerUtils.buildRequestData;
+import static org.springframework.cloud.openfeign.loadbalancer.LoadBalancerUtils.choose;
 import static org.springframework.cloud.openfeign.loadbalancer.LoadBalancerUtils.executeWithLoadBalancerLifecycleProcessing;
 
 /**
@@ -88,7 +89,7 @@ public class FeignBlockingLoadBalancerClient implements Client {
 					loadBalancerClientFactory.getInstances(serviceId, LoadBalancerLifecycle.class),
 					RequestDataContext.class, ResponseData.class, ServiceInstance.class);
 		supportedLifecycleProcessors.forEach(lifecycle -> lifecycle.onStart(lbRequest));
-		ServiceInstance instance = loadBalancerClient.choose(serviceId, lbRequest);
+		ServiceInstance instance = choose(loadBalancerClient, serviceId, lbRequest);
 		org.springframework.cloud.client.loadbalancer.Response<ServiceInstance> lbResponse = new DefaultResponse(
 				instance);
 		if (instance == null) {
@@ -53,8 +53,8 @@ import org.springframework.context.annotation.Import;
 // Order is important here, last should be the default, first should be optional
 // see
 // https://github.com/spring-cloud/spring-cloud-netflix/issues/2086#issuecomment-316281653
-@Import({ HttpClient5FeignLoadBalancerConfiguration.class, Http2ClientFeignLoadBalancerConfiguration.class,
-		DefaultFeignLoadBalancerConfiguration.class })
+@Import({ HttpClient5AsyncFeignLoadBalancerConfiguration.class, HttpClient5FeignLoadBalancerConfiguration.class,
+		Http2ClientFeignLoadBalancerConfiguration.class, DefaultFeignLoadBalancerConfiguration.class })
 public class FeignLoadBalancerAutoConfiguration {
 
 	@Bean
@@ -50,6 +50,8 @@ import org.springframework.context.annotation.Import;
 @ConditionalOnBean({ LoadBalancerClient.class, LoadBalancerClientFactory.class })
 @ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", havingValue = "true",
 		matchIfMissing = true)
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.async.enabled", havingValue = "false",
+		matchIfMissing = true)
 @Import(HttpClient5FeignConfiguration.class)
 @EnableConfigurationProperties(LoadBalancerClientsProperties.class)
 class HttpClient5FeignLoadBalancerConfiguration {
@@ -28,9 +28,13 @@ import feign.Response;
 
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
 import org.springframework.cloud.client.loadbalancer.RequestData;
 import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.openfeign.jfr.FeignLoadBalancerChoiceEvent;
+import org.springframework.cloud.openfeign.latency.FeignCallPhase;
+import org.springframework.cloud.openfeign.latency.FeignCallPhaseRecorder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -70,6 +74,17 @@ final class LoadBalancerUtils {
 		}
 	}
 
+	static ServiceInstance choose(LoadBalancerClient loadBalancerClient, String serviceId,
+			org.springframework.cloud.client.loadbalancer.Request lbRequest) {
+		FeignLoadBalancerChoiceEvent event = new FeignLoadBalancerChoiceEvent();
+		event.begin();
+		long start = FeignCallPhaseRecorder.start();
+		ServiceInstance instance = loadBalancerClient.choose(serviceId, lbRequest);
+		FeignCallPhaseRecorder.recordSince(FeignCallPhase.LOAD_BALANCER, start);
+		event.commit(serviceId, instance);
+		return instance;
+	}
+
 	static ResponseData buildResponseData(Response response) {
 		HttpHeaders responseHeaders = new HttpHeaders();
 		response.headers().forEach((key, value) -> responseHeaders.put(key, new ArrayList<>(value)));
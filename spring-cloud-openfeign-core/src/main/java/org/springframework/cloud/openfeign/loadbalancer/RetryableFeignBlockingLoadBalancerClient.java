@@ -47,6 +47,7 @@ import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
 import org.springframework.cloud.client.loadbalancer.ResponseData;
 import org.springframework.cloud.client.loadbalancer.RetryableRequestContext;
 import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.jfr.FeignRetryEvent;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
@@ -59,6 +60,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
 
 import static org.springframework.cloud.openfeign.loadbalancer.LoadBalancerUtils.buildRequestData;
+import static org.springframework.cloud.openfeign.loadbalancer.LoadBalancerUtils.choose;
 
 /**
  * A {@link Client} implementation that provides Spring Retry support for requests
@@ -104,6 +106,9 @@ public class RetryableFeignBlockingLoadBalancerClient implements Client {
 				loadBalancerClient);
 		RetryTemplate retryTemplate = buildRetryTemplate(serviceId, request, retryPolicy);
 		return retryTemplate.execute(context -> {
+			if (context.getRetryCount() > 0) {
+				new FeignRetryEvent().commit(serviceId, request, context.getRetryCount(), context.getLastThrowable());
+			}
 			Request feignRequest = null;
 			ServiceInstance retrievedServiceInstance = null;
 			Set<LoadBalancerLifecycle> supportedLifecycleProcessors = LoadBalancerLifecycleValidator
@@ -125,7 +130,7 @@ public class RetryableFeignBlockingLoadBalancerClient implements Client {
 					ServiceInstance previousServiceInstance = lbContext.getPreviousServiceInstance();
 					lbRequest.getContext().setPreviousServiceInstance(previousServiceInstance);
 					supportedLifecycleProcessors.forEach(lifecycle -> lifecycle.onStart(lbRequest));
-					retrievedServiceInstance = loadBalancerClient.choose(serviceId, lbRequest);
+					retrievedServiceInstance = choose(loadBalancerClient, serviceId, lbRequest);
 					if (LOG.isDebugEnabled()) {
 						LOG.debug(String.format("Selected service instance: %s", retrievedServiceInstance));
 					}
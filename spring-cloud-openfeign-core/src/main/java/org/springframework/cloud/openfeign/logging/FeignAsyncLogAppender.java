@@ -0,0 +1,144 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Writes the log records of Feign calls from a dedicated daemon thread. Records are
+ * queued in a bounded queue and formatted on the writing thread; when the queue is full,
+ * new records are dropped rather than blocking the calling thread, and the number of
+ * dropped records is reported periodically.
+ *
+ * @since 5.1.0
+ */
+public class FeignAsyncLogAppender implements AutoCloseable {
+
+	private static final Log LOG = LogFactory.getLog(FeignAsyncLogAppender.class);
+
+	private static final long POLL_TIMEOUT_MILLIS = 500;
+
+	private final BlockingQueue<LogRecord> queue;
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final Thread worker;
+
+	private volatile boolean running = true;
+
+	private long reportedDropped;
+
+	public FeignAsyncLogAppender(int queueCapacity) {
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.worker = new Thread(this::run, "feign-async-logger");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	/**
+	 * Queues a record to be written at debug level to the given log.
+	 * @param log the log to write the record to
+	 * @param message supplies the message of the record, called on the writing thread
+	 * @return {@code true} if the record was queued, {@code false} if it was dropped
+	 */
+	public boolean append(Log log, Supplier<String> message) {
+		if (running && queue.offer(new LogRecord(log, message))) {
+			return true;
+		}
+		dropped.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Returns the number of records dropped since this appender was created.
+	 * @return the number of dropped records
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				LogRecord record = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (record != null) {
+					write(record);
+				}
+				reportDropped();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		drain();
+	}
+
+	private void drain() {
+		LogRecord record;
+		while ((record = queue.poll()) != null) {
+			write(record);
+		}
+		reportDropped();
+	}
+
+	private void write(LogRecord record) {
+		try {
+			record.log().debug(record.message().get());
+		}
+		catch (RuntimeException ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Failed to write Feign log record", ex);
+			}
+		}
+	}
+
+	private void reportDropped() {
+		long current = dropped.get();
+		if (current > reportedDropped) {
+			if (LOG.isWarnEnabled()) {
+				LOG.warn(
+						"Dropped " + (current - reportedDropped) + " Feign log records because the log queue was full");
+			}
+			reportedDropped = current;
+		}
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		worker.interrupt();
+		try {
+			worker.join(TimeUnit.SECONDS.toMillis(1));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record LogRecord(Log log, Supplier<String> message) {
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.logging;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the sampled, asynchronous logging of Feign calls.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties("spring.cloud.openfeign.logging.sampled")
+public class FeignSampledLoggingProperties {
+
+	/**
+	 * Enables the sampled, asynchronous logging of Feign calls.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Fraction of the successful calls that are logged, between 0 and 1. Failed and slow
+	 * calls are always logged.
+	 */
+	private double sampleRate = 0.01;
+
+	/**
+	 * Duration above which a call is considered slow and is always logged.
+	 */
+	private Duration slowThreshold = Duration.ofSeconds(1);
+
+	/**
+	 * Maximum number of bytes of the request and response bodies that are logged.
+	 */
+	private int maxBodyBytes = 1024;
+
+	/**
+	 * Maximum number of log records waiting to be written. Records are dropped when the
+	 * queue is full.
+	 */
+	private int queueCapacity = 1024;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	public Duration getSlowThreshold() {
+		return slowThreshold;
+	}
+
+	public void setSlowThreshold(Duration slowThreshold) {
+		this.slowThreshold = slowThreshold;
+	}
+
+	public int getMaxBodyBytes() {
+		return maxBodyBytes;
+	}
+
+	public void setMaxBodyBytes(int maxBodyBytes) {
+		this.maxBodyBytes = maxBodyBytes;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.SequenceInputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import org.apache.commons.logging.Log;
+
+/**
+ * {@link Logger} that logs Feign calls asynchronously through a
+ * {@link FeignAsyncLogAppender}. The request is only logged together with the response,
+ * so that every failed call and every call slower than a threshold can be logged, while
+ * only a fraction of the other calls is. The request of a call is kept by the calling
+ * thread until then, so that calls failing with an {@link IOException} are logged with it
+ * too. Bodies are truncated to a maximum number of bytes, and only that many bytes of the
+ * response bodies are read ahead of the decoder.
+ *
+ * @since 5.1.0
+ */
+public class SampledFeignLogger extends Logger {
+
+	private static final ThreadLocal<Request> pendingRequest = new ThreadLocal<>();
+
+	private final Log log;
+
+	private final FeignAsyncLogAppender appender;
+
+	private final double sampleRate;
+
+	private final long slowThresholdMillis;
+
+	private final int maxBodyBytes;
+
+	public SampledFeignLogger(Log log, FeignAsyncLogAppender appender, double sampleRate, Duration slowThreshold,
+			int maxBodyBytes) {
+		this.log = log;
+		this.appender = appender;
+		this.sampleRate = sampleRate;
+		this.slowThresholdMillis = slowThreshold.toMillis();
+		this.maxBodyBytes = maxBodyBytes;
+	}
+
+	@Override
+	protected void log(String configKey, String format, Object... args) {
+		if (log.isDebugEnabled()) {
+			appender.append(log, () -> String.format(methodTag(configKey) + format, args));
+		}
+	}
+
+	@Override
+	protected void logRequest(String configKey, Level logLevel, Request request) {
+		// Deferred until the response or the error is known
+		if (log.isDebugEnabled()) {
+			pendingRequest.set(request);
+		}
+	}
+
+	@Override
+	protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response, long elapsedTime)
+			throws IOException {
+		pendingRequest.remove();
+		if (!log.isDebugEnabled() || !shouldLog(response.status() >= 400, elapsedTime)) {
+			return response;
+		}
+		byte[] bodyPrefix = null;
+		Response result = response;
+		if (logLevel == Level.FULL && response.body() != null && response.status() != 204 && response.status() != 205) {
+			Response.Body body = response.body();
+			InputStream inputStream = body.asInputStream();
+			// One more byte than logged tells whether the body was truncated
+			bodyPrefix = inputStream.readNBytes(maxBodyBytes + 1);
+			result = response.toBuilder()
+				.body(new PrefixedInputStream(bodyPrefix, inputStream, body), body.length())
+				.build();
+		}
+		byte[] responseBody = bodyPrefix;
+		appender.append(log, () -> {
+			StringBuilder message = new StringBuilder();
+			formatRequest(message, configKey, logLevel, response.request());
+			formatResponse(message, configKey, logLevel, response, responseBody, elapsedTime);
+			return message.toString();
+		});
+		return result;
+	}
+
+	@Override
+	protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+		Request request = pendingRequest.get();
+		pendingRequest.remove();
+		if (log.isDebugEnabled()) {
+			appender.append(log, () -> {
+				StringBuilder message = new StringBuilder();
+				formatRequest(message, configKey, logLevel, request);
+				formatIOException(message, configKey, logLevel, ioe, elapsedTime);
+				return message.toString();
+			});
+		}
+		return ioe;
+	}
+
+	private boolean shouldLog(boolean failed, long elapsedTime) {
+		return failed || elapsedTime >= slowThresholdMillis || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+	private void formatRequest(StringBuilder message, String configKey, Level logLevel, Request request) {
+		if (request == null) {
+			return;
+		}
+		line(message, configKey, "---> %s %s %s", request.httpMethod().name(), request.url(),
+				resolveProtocolVersion(request.protocolVersion()));
+		if (logLevel.ordinal() >= Level.HEADERS.ordinal()) {
+			headers(message, configKey, request.headers(), true);
+			int bodyLength = request.body() != null ? request.body().length : 0;
+			if (logLevel == Level.FULL && bodyLength > 0) {
+				line(message, configKey, "");
+				line(message, configKey, "%s", body(request.body(), request.charset()));
+			}
+			line(message, configKey, "---> END HTTP (%s-byte body)", bodyLength);
+		}
+	}
+
+	private void formatResponse(StringBuilder message, String configKey, Level logLevel, Response response,
+			byte[] bodyPrefix, long elapsedTime) {
+		String reason = response.reason() != null ? " " + response.reason() : "";
+		line(message, configKey, "<--- %s %s%s (%sms)", resolveProtocolVersion(response.protocolVersion()),
+				response.status(), reason, elapsedTime);
+		if (logLevel.ordinal() >= Level.HEADERS.ordinal()) {
+			headers(message, configKey, response.headers(), false);
+			if (bodyPrefix != null && bodyPrefix.length > 0) {
+				line(message, configKey, "");
+				line(message, configKey, "%s", body(bodyPrefix, response.charset()));
+			}
+			if (bodyPrefix != null && bodyPrefix.length > maxBodyBytes) {
+				line(message, configKey, "<--- END HTTP (body truncated to %s bytes)", maxBodyBytes);
+			}
+			else if (bodyPrefix != null) {
+				line(message, configKey, "<--- END HTTP (%s-byte body)", bodyPrefix.length);
+			}
+		}
+	}
+
+	private void formatIOException(StringBuilder message, String configKey, Level logLevel, IOException ioe,
+			long elapsedTime) {
+		line(message, configKey, "<--- ERROR %s: %s (%sms)", ioe.getClass().getSimpleName(), ioe.getMessage(),
+				elapsedTime);
+		if (logLevel == Level.FULL) {
+			StringWriter stackTrace = new StringWriter();
+			ioe.printStackTrace(new PrintWriter(stackTrace));
+			line(message, configKey, "%s", stackTrace);
+			line(message, configKey, "<--- END ERROR");
+		}
+	}
+
+	private void headers(StringBuilder message, String configKey, Map<String, Collection<String>> headers,
+			boolean request) {
+		for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+			boolean logged = request ? shouldLogRequestHeader(header.getKey())
+					: shouldLogResponseHeader(header.getKey());
+			if (logged) {
+				for (String value : header.getValue()) {
+					line(message, configKey, "%s: %s", header.getKey(), value);
+				}
+			}
+		}
+	}
+
+	private String body(byte[] body, Charset charset) {
+		boolean truncated = body.length > maxBodyBytes;
+		byte[] logged = truncated ? Arrays.copyOf(body, maxBodyBytes) : body;
+		String text = new String(logged, charset != null ? charset : StandardCharsets.UTF_8);
+		return truncated ? text + "... (truncated)" : text;
+	}
+
+	private static void line(StringBuilder message, String configKey, String format, Object... args) {
+		if (!message.isEmpty()) {
+			message.append(System.lineSeparator());
+		}
+		message.append(methodTag(configKey)).append(String.format(format, args));
+	}
+
+	/**
+	 * Replays the bytes read ahead for logging before the rest of the response body, and
+	 * closes the original body.
+	 */
+	private static final class PrefixedInputStream extends SequenceInputStream {
+
+		private final Response.Body body;
+
+		PrefixedInputStream(byte[] prefix, InputStream remaining, Response.Body body) {
+			super(new ByteArrayInputStream(prefix), remaining);
+			this.body = body;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				body.close();
+			}
+		}
+
+	}
+
+}
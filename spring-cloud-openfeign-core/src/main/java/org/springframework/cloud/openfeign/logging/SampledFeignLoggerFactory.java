@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.logging;
+
+import feign.Logger;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
+
+/**
+ * {@link FeignLoggerFactory} creating {@link SampledFeignLogger} instances that write to
+ * a shared {@link FeignAsyncLogAppender}.
+ *
+ * @since 5.1.0
+ */
+public class SampledFeignLoggerFactory implements FeignLoggerFactory {
+
+	private final FeignAsyncLogAppender appender;
+
+	private final FeignSampledLoggingProperties properties;
+
+	public SampledFeignLoggerFactory(FeignAsyncLogAppender appender, FeignSampledLoggingProperties properties) {
+		this.appender = appender;
+		this.properties = properties;
+	}
+
+	@Override
+	public Logger create(Class<?> type) {
+		return new SampledFeignLogger(LogFactory.getLog(type), appender, properties.getSampleRate(),
+				properties.getSlowThreshold(), properties.getMaxBodyBytes());
+	}
+
+}
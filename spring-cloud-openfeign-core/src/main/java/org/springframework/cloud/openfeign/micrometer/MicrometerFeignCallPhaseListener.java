@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.latency.FeignCallPhase;
+import org.springframework.cloud.openfeign.latency.FeignCallPhaseListener;
+
+/**
+ * {@link FeignCallPhaseListener} that records the phases of sampled Feign calls as timers
+ * tagged with the {@code client}, the {@code method} and the {@code phase}.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerFeignCallPhaseListener implements FeignCallPhaseListener {
+
+	/**
+	 * Name of the timer of Feign call phases.
+	 */
+	public static final String PHASE_METRIC = "feign.client.phase";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	public MicrometerFeignCallPhaseListener(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void callCompleted(String clientName, String methodName, Map<FeignCallPhase, Duration> phases) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		phases.forEach(
+				(phase, duration) -> timers
+					.computeIfAbsent(clientName + " " + methodName + " " + phase.getId(),
+							key -> Timer.builder(PHASE_METRIC)
+								.description("Time spent by Feign calls in each phase")
+								.tag("client", clientName)
+								.tag("method", methodName)
+								.tag("phase", phase.getId())
+								.register(registry))
+					.record(duration));
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.FeignClientInitializationListener;
+
+/**
+ * {@link FeignClientInitializationListener} that records the time taken to create the
+ * child application context of each Feign client as a timer tagged with the context id as
+ * {@code client}.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerFeignClientInitializationListener implements FeignClientInitializationListener {
+
+	/**
+	 * Name of the timer of the child application context creation.
+	 */
+	public static final String INITIALIZATION_METRIC = "feign.client.initialization";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	public MicrometerFeignClientInitializationListener(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void contextInitialized(String contextId, Duration duration) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		Timer.builder(INITIALIZATION_METRIC)
+			.description("Time taken to create the child application context of a Feign client")
+			.tag("client", contextId)
+			.register(registry)
+			.record(duration);
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Target;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
+
+/**
+ * {@link Capability} that tracks the requests in flight on {@link Http2Client}-backed
+ * Feign clients with a Micrometer {@link LongTaskTimer}, per client and target host. As
+ * the Java {@code HttpClient} does not expose its connections or HTTP/2 streams, the
+ * number of requests in flight per host is the closest measure of the streams in use.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerHttp2ClientCapability implements Capability {
+
+	/**
+	 * Name of the in-flight requests meter.
+	 */
+	public static final String ACTIVE_REQUESTS_METRIC = "feign.http2client.requests.active";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final Map<String, LongTaskTimer> timers = new ConcurrentHashMap<>();
+
+	public MicrometerHttp2ClientCapability(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null || !isHttp2Client(client)) {
+			return client;
+		}
+		return (request, options) -> {
+			LongTaskTimer.Sample sample = activeRequests(registry, clientName(request), host(request.url())).start();
+			try {
+				return client.execute(request, options);
+			}
+			finally {
+				sample.stop();
+			}
+		};
+	}
+
+	private LongTaskTimer activeRequests(MeterRegistry registry, String clientName, String host) {
+		return timers.computeIfAbsent(clientName + " " + host,
+				key -> LongTaskTimer.builder(ACTIVE_REQUESTS_METRIC)
+					.description("Requests in flight on the Java HttpClient")
+					.tag("client", clientName)
+					.tag("host", host)
+					.register(registry));
+	}
+
+	static String host(String url) {
+		int start = url.indexOf("://");
+		start = start < 0 ? 0 : start + 3;
+		int end = url.length();
+		for (int i = start; i < url.length(); i++) {
+			char c = url.charAt(i);
+			if (c == '/' || c == '?' || c == '#') {
+				end = i;
+				break;
+			}
+		}
+		int userInfo = url.lastIndexOf('@', end - 1);
+		if (userInfo >= start) {
+			start = userInfo + 1;
+		}
+		return url.substring(start, end);
+	}
+
+	private static String clientName(Request request) {
+		Target<?> target = request.requestTemplate().feignTarget();
+		return target != null ? target.name() : "unknown";
+	}
+
+	private static boolean isHttp2Client(Client client) {
+		if (client instanceof FeignBlockingLoadBalancerClient loadBalancerClient) {
+			return loadBalancerClient.getDelegate() instanceof Http2Client;
+		}
+		if (client instanceof RetryableFeignBlockingLoadBalancerClient loadBalancerClient) {
+			return loadBalancerClient.getDelegate() instanceof Http2Client;
+		}
+		return client instanceof Http2Client;
+	}
+
+}
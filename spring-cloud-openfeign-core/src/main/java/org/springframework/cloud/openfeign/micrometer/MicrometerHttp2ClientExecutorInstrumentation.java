@@ -0,0 +1,83 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.clientconfig.Http2ClientExecutorInstrumentation;
+
+/**
+ * {@link Http2ClientExecutorInstrumentation} that binds the standard Micrometer executor
+ * metrics ({@code feign.http2client.executor.active}, {@code .queued},
+ * {@code .pool.size}, ...) to the executor, tagged with the executor name as
+ * {@code client}, and counts the tasks rejected because the executor was saturated.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerHttp2ClientExecutorInstrumentation implements Http2ClientExecutorInstrumentation {
+
+	/**
+	 * Prefix of the executor meters.
+	 */
+	public static final String EXECUTOR_METRIC_PREFIX = "feign.http2client";
+
+	/**
+	 * Name of the executor meters.
+	 */
+	public static final String EXECUTOR_METRIC_NAME = "executor";
+
+	/**
+	 * Name of the counter of tasks rejected by a saturated executor.
+	 */
+	public static final String REJECTED_METRIC = "feign.http2client.executor.rejected";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	public MicrometerHttp2ClientExecutorInstrumentation(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ExecutorService instrument(String executorName, ExecutorService executor) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return executor;
+		}
+		if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+			Counter rejected = Counter.builder(REJECTED_METRIC)
+				.description("Tasks rejected by the saturated executor of the Java HttpClient")
+				.tag("client", executorName)
+				.register(registry);
+			RejectedExecutionHandler handler = threadPoolExecutor.getRejectedExecutionHandler();
+			threadPoolExecutor.setRejectedExecutionHandler((task, pool) -> {
+				rejected.increment();
+				handler.rejectedExecution(task, pool);
+			});
+		}
+		return ExecutorServiceMetrics.monitor(registry, executor, EXECUTOR_METRIC_NAME, EXECUTOR_METRIC_PREFIX,
+				Tags.of("client", executorName));
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5ConnectionPoolInstrumentation;
+
+/**
+ * {@link HttpClient5ConnectionPoolInstrumentation} that exposes the state of the
+ * connection pools as Micrometer gauges, in total and per route, and records the time
+ * requests wait to acquire a connection.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerHttpClient5ConnectionPoolInstrumentation implements HttpClient5ConnectionPoolInstrumentation {
+
+	/**
+	 * Prefix of the connection pool meter names.
+	 */
+	public static final String METRIC_PREFIX = "feign.httpclient.pool";
+
+	private static final String ACQUIRE_START_ATTRIBUTE = MicrometerHttpClient5ConnectionPoolInstrumentation.class
+		.getName() + ".acquireStart";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final Map<PoolingHttpClientConnectionManager, PoolMeters> pools = new ConcurrentHashMap<>();
+
+	public MicrometerHttpClient5ConnectionPoolInstrumentation(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void instrument(String poolName, PoolingHttpClientConnectionManager connectionManager,
+			HttpClientBuilder httpClientBuilder) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		PoolMeters poolMeters = pools.computeIfAbsent(connectionManager,
+				manager -> new PoolMeters(registry, Tags.of("pool", poolName), manager));
+		// the endpoint is acquired by the CONNECT element, so the time spent between
+		// entering it and reaching the transport is the connection acquisition time
+		httpClientBuilder.addExecInterceptorBefore(ChainElement.CONNECT.name(), "feign-pool-acquire-start",
+				(request, scope, chain) -> {
+					scope.clientContext.setAttribute(ACQUIRE_START_ATTRIBUTE, System.nanoTime());
+					try {
+						return chain.proceed(request, scope);
+					}
+					catch (ConnectionRequestTimeoutException ex) {
+						poolMeters.recordAcquisition(scope.route,
+								scope.clientContext.removeAttribute(ACQUIRE_START_ATTRIBUTE), "TIMEOUT");
+						throw ex;
+					}
+				});
+		httpClientBuilder.addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), "feign-pool-acquire-end",
+				(request, scope, chain) -> {
+					poolMeters.recordAcquisition(scope.route,
+							scope.clientContext.removeAttribute(ACQUIRE_START_ATTRIBUTE), "SUCCESS");
+					return chain.proceed(request, scope);
+				});
+	}
+
+	@Override
+	public void release(String poolName, PoolingHttpClientConnectionManager connectionManager) {
+		PoolMeters poolMeters = pools.remove(connectionManager);
+		if (poolMeters != null) {
+			poolMeters.remove();
+		}
+	}
+
+	/**
+	 * Meters of a single connection pool, kept so that they are registered once and
+	 * removed from the registry when the pool is closed.
+	 */
+	private static final class PoolMeters {
+
+		private final MeterRegistry registry;
+
+		private final Tags tags;
+
+		private final PoolingHttpClientConnectionManager connectionManager;
+
+		private final Set<Meter> meters = ConcurrentHashMap.newKeySet();
+
+		private final Set<HttpRoute> routes = ConcurrentHashMap.newKeySet();
+
+		private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+		PoolMeters(MeterRegistry registry, Tags tags, PoolingHttpClientConnectionManager connectionManager) {
+			this.registry = registry;
+			this.tags = tags;
+			this.connectionManager = connectionManager;
+			registerGauge("leased", "Connections leased from the pool", tags,
+					manager -> manager.getTotalStats().getLeased());
+			registerGauge("available", "Idle connections available in the pool", tags,
+					manager -> manager.getTotalStats().getAvailable());
+			registerGauge("pending", "Requests waiting for a connection", tags,
+					manager -> manager.getTotalStats().getPending());
+			registerGauge("max", "Maximum number of connections of the pool", tags,
+					manager -> manager.getTotalStats().getMax());
+		}
+
+		void recordAcquisition(HttpRoute route, Object start, String outcome) {
+			if (routes.add(route)) {
+				registerRouteGauges(route);
+			}
+			if (start instanceof Long startNanos) {
+				String routeName = route.getTargetHost().toHostString();
+				acquireTimers.computeIfAbsent(routeName + " " + outcome, key -> {
+					Timer timer = Timer.builder(METRIC_PREFIX + ".acquire")
+						.description("Time spent acquiring a connection from the pool, including connecting it")
+						.tags(tags)
+						.tag("route", routeName)
+						.tag("outcome", outcome)
+						.register(registry);
+					meters.add(timer);
+					return timer;
+				}).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		void remove() {
+			meters.forEach(registry::remove);
+			meters.clear();
+		}
+
+		private void registerRouteGauges(HttpRoute route) {
+			Tags routeTags = tags.and("route", route.getTargetHost().toHostString());
+			registerGauge("route.leased", "Connections of the route leased from the pool", routeTags,
+					manager -> manager.getStats(route).getLeased());
+			registerGauge("route.available", "Idle connections of the route available in the pool", routeTags,
+					manager -> manager.getStats(route).getAvailable());
+			registerGauge("route.pending", "Requests waiting for a connection of the route", routeTags,
+					manager -> manager.getStats(route).getPending());
+			registerGauge("route.max", "Maximum number of connections of the route", routeTags,
+					manager -> manager.getStats(route).getMax());
+		}
+
+		private void registerGauge(String name, String description, Tags gaugeTags,
+				ToDoubleFunction<PoolingHttpClientConnectionManager> value) {
+			meters.add(Gauge.builder(METRIC_PREFIX + "." + name, connectionManager, value)
+				.description(description)
+				.tags(gaugeTags)
+				.register(registry));
+		}
+
+	}
+
+}
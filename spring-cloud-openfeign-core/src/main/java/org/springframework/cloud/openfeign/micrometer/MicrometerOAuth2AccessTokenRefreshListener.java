@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.security.OAuth2AccessTokenRefreshListener;
+
+/**
+ * {@link OAuth2AccessTokenRefreshListener} that counts the background renewals of access
+ * tokens tagged with the client registration id as {@code client.registration} and the
+ * {@code outcome}, and exposes the number of consecutive failed renewals as a gauge that
+ * can be used for alerting before the current token expires.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerOAuth2AccessTokenRefreshListener implements OAuth2AccessTokenRefreshListener {
+
+	/**
+	 * Name of the counter of background token renewals.
+	 */
+	public static final String REFRESH_METRIC = "feign.oauth2.token.refresh";
+
+	/**
+	 * Name of the gauge of consecutive failed background token renewals.
+	 */
+	public static final String CONSECUTIVE_FAILURES_METRIC = "feign.oauth2.token.refresh.consecutive.failures";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final Map<String, AtomicInteger> consecutiveFailures = new ConcurrentHashMap<>();
+
+	public MicrometerOAuth2AccessTokenRefreshListener(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void refreshSucceeded(String clientRegistrationId) {
+		record(clientRegistrationId, "success", 0);
+	}
+
+	@Override
+	public void refreshFailed(String clientRegistrationId, int consecutiveFailures, Instant expiresAt,
+			Throwable cause) {
+		record(clientRegistrationId, "failure", consecutiveFailures);
+	}
+
+	private void record(String clientRegistrationId, String outcome, int failures) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		Counter.builder(REFRESH_METRIC)
+			.description("Background renewals of OAuth2 access tokens used by Feign clients")
+			.tag("client.registration", clientRegistrationId)
+			.tag("outcome", outcome)
+			.register(registry)
+			.increment();
+		consecutiveFailures.computeIfAbsent(clientRegistrationId, id -> {
+			AtomicInteger value = new AtomicInteger();
+			Gauge.builder(CONSECUTIVE_FAILURES_METRIC, value, AtomicInteger::get)
+				.description("Consecutive failed background renewals of the OAuth2 access token of a client "
+						+ "registration")
+				.tag("client.registration", id)
+				.register(registry);
+			return value;
+		}).set(failures);
+	}
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.encoding.HttpEncoding;
+
+/**
+ * {@link Capability} that records the size of the payloads of Feign calls as Micrometer
+ * {@link DistributionSummary distribution summaries} tagged with the {@code client} and
+ * the {@code method}:
+ * <ul>
+ * <li>{@value #REQUEST_SIZE_METRIC}: the size of the request bodies produced by the
+ * {@link Encoder},</li>
+ * <li>{@value #RESPONSE_SIZE_METRIC}: the number of bytes of the response bodies read by
+ * the {@link Decoder}, or their {@code Content-Length} if the decoder does not read
+ * them,</li>
+ * <li>{@value #COMPRESSION_UNCOMPRESSED_SIZE_METRIC}: the size of the request bodies sent
+ * with a {@code gzip} or {@code deflate} {@code Content-Encoding}, before compression,
+ * with an additional {@code encoding} tag.</li>
+ * </ul>
+ * The size of the request bodies after compression is not recorded, as they are
+ * compressed by the underlying HTTP client.
+ *
+ * @since 5.1.0
+ */
+public class MicrometerPayloadSizeCapability implements Capability {
+
+	/**
+	 * Name of the request body size summary.
+	 */
+	public static final String REQUEST_SIZE_METRIC = "feign.client.request.size";
+
+	/**
+	 * Name of the response body size summary.
+	 */
+	public static final String RESPONSE_SIZE_METRIC = "feign.client.response.size";
+
+	/**
+	 * Name of the summary of the size of compressed request bodies before compression.
+	 */
+	public static final String COMPRESSION_UNCOMPRESSED_SIZE_METRIC = "feign.client.request.compression.uncompressed.size";
+
+	private static final String DEFLATE_ENCODING = "deflate";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+	public MicrometerPayloadSizeCapability(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Encoder enrich(Encoder encoder) {
+		return (object, bodyType, template) -> {
+			encoder.encode(object, bodyType, template);
+			byte[] body = template.body();
+			if (body != null) {
+				record(REQUEST_SIZE_METRIC, "Size of the request bodies of Feign calls", template, body.length);
+			}
+		};
+	}
+
+	@Override
+	public Decoder enrich(Decoder decoder) {
+		return (response, type) -> {
+			if (response.body() == null) {
+				return decoder.decode(response, type);
+			}
+			CountingBody body = new CountingBody(response.body());
+			try {
+				return decoder.decode(response.toBuilder().body(body).build(), type);
+			}
+			finally {
+				// fall back to the Content-Length for decoders that do not read the body
+				long bytes = (body.count == 0 && body.length() != null) ? body.length() : body.count;
+				record(RESPONSE_SIZE_METRIC, "Size of the response bodies of Feign calls",
+						(response.request() != null) ? response.request().requestTemplate() : null, bytes);
+			}
+		};
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			String encoding = compressionEncoding(request);
+			if (encoding != null && request.body() != null) {
+				record(COMPRESSION_UNCOMPRESSED_SIZE_METRIC, "Size of compressed request bodies before compression",
+						request.requestTemplate(), encoding, request.body().length);
+			}
+			return client.execute(request, options);
+		};
+	}
+
+	private void record(String name, String description, RequestTemplate template, long bytes) {
+		record(name, description, template, null, bytes);
+	}
+
+	private void record(String name, String description, RequestTemplate template, String encoding, long bytes) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return;
+		}
+		String clientName = clientName(template);
+		String methodName = methodName(template);
+		summaries.computeIfAbsent(name + " " + clientName + " " + methodName + " " + encoding, key -> {
+			DistributionSummary.Builder builder = DistributionSummary.builder(name)
+				.description(description)
+				.baseUnit("bytes")
+				.tag("client", clientName)
+				.tag("method", methodName);
+			if (encoding != null) {
+				builder.tag("encoding", encoding);
+			}
+			return builder.register(registry);
+		}).record(bytes);
+	}
+
+	private static String clientName(RequestTemplate template) {
+		return (template != null && template.feignTarget() != null) ? template.feignTarget().name() : "unknown";
+	}
+
+	private static String methodName(RequestTemplate template) {
+		return (template != null && template.methodMetadata() != null) ? template.methodMetadata().method().getName()
+				: "unknown";
+	}
+
+	private static String compressionEncoding(Request request) {
+		Collection<String> encodings = request.headers().get(HttpEncoding.CONTENT_ENCODING_HEADER);
+		if (encodings == null) {
+			return null;
+		}
+		if (encodings.contains(HttpEncoding.GZIP_ENCODING)) {
+			return HttpEncoding.GZIP_ENCODING;
+		}
+		if (encodings.contains(DEFLATE_ENCODING)) {
+			return DEFLATE_ENCODING;
+		}
+		return null;
+	}
+
+	private static final class CountingBody implements Response.Body {
+
+		private final Response.Body delegate;
+
+		private long count;
+
+		private CountingBody(Response.Body delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Integer length() {
+			return delegate.length();
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return delegate.isRepeatable();
+		}
+
+		@Override
+		public InputStream asInputStream() throws IOException {
+			return new FilterInputStream(delegate.asInputStream()) {
+
+				@Override
+				public int read() throws IOException {
+					int b = super.read();
+					if (b != -1) {
+						count++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					int read = super.read(b, off, len);
+					if (read > 0) {
+						count += read;
+					}
+					return read;
+				}
+
+			};
+		}
+
+		@Override
+		public Reader asReader(Charset charset) throws IOException {
+			return new InputStreamReader(asInputStream(), charset);
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.util.Assert;
+
+/**
+ * An in-process cache of {@link OAuth2AccessToken OAuth2AccessTokens} used by
+ * {@link OAuth2AccessTokenInterceptor}, keyed by client registration id and principal
+ * name. A cached token is renewed once it is about to expire within the configured
+ * refresh skew. Only one thread renews a given token: while it does, other threads keep
+ * using the still-valid token, and they only wait for the renewal once the token has
+ * actually expired.
+ * <p>
+ * With {@link #setBackgroundRefresh(boolean) background refresh} enabled, renewals of the
+ * tokens whose supplier does not depend on the calling thread are scheduled on a
+ * dedicated thread at the start of the refresh window instead of being performed by a
+ * request thread. A token that has not been read since it was last renewed is not renewed
+ * again in the background, so that tokens of principals that stopped sending requests are
+ * left to expire. Failed renewals are retried until the token expires and reported to the
+ * {@link OAuth2AccessTokenRefreshListener refresh listeners}.
+ *
+ * @since 5.1.0
+ */
+public class OAuth2AccessTokenCache implements DisposableBean {
+
+	private static final Log LOG = LogFactory.getLog(OAuth2AccessTokenCache.class);
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Duration refreshSkew;
+
+	private Clock clock = Clock.systemUTC();
+
+	private boolean backgroundRefresh;
+
+	private Duration retryInterval = Duration.ofSeconds(5);
+
+	private List<OAuth2AccessTokenRefreshListener> refreshListeners = List.of();
+
+	private ScheduledExecutorService scheduler;
+
+	public OAuth2AccessTokenCache(Duration refreshSkew) {
+		Assert.notNull(refreshSkew, "Refresh skew can not be null.");
+		Assert.isTrue(!refreshSkew.isNegative(), "Refresh skew can not be negative.");
+		this.refreshSkew = refreshSkew;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Sets whether tokens are renewed on a dedicated thread ahead of their expiry, so
+	 * that request threads keep using the current token and never wait for a renewal
+	 * unless the token has expired. Defaults to {@code false}.
+	 * @param backgroundRefresh whether to renew tokens in the background
+	 */
+	public void setBackgroundRefresh(boolean backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+	/**
+	 * Sets how long to wait before retrying a failed background renewal. Defaults to 5
+	 * seconds.
+	 * @param retryInterval the retry interval
+	 */
+	public void setRetryInterval(Duration retryInterval) {
+		Assert.notNull(retryInterval, "Retry interval can not be null.");
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Sets the listeners notified about the outcome of background renewals.
+	 * @param refreshListeners the listeners
+	 */
+	public void setRefreshListeners(List<OAuth2AccessTokenRefreshListener> refreshListeners) {
+		this.refreshListeners = List.copyOf(refreshListeners);
+	}
+
+	/**
+	 * Returns the cached token for the given client registration and principal, fetching
+	 * a new one with the given supplier when none is cached or the cached one is about to
+	 * expire.
+	 * @param clientRegistrationId the OAuth2 client registration id
+	 * @param principalName the name of the principal the token has been issued for
+	 * @param tokenSupplier fetches a new token, may return {@code null}
+	 * @return the token, or {@code null} if none could be acquired
+	 */
+	public OAuth2AccessToken getToken(String clientRegistrationId, String principalName,
+			Supplier<OAuth2AccessToken> tokenSupplier) {
+		return getToken(clientRegistrationId, principalName, tokenSupplier, true);
+	}
+
+	/**
+	 * Returns the cached token for the given client registration and principal, fetching
+	 * a new one with the given supplier when none is cached or the cached one is about to
+	 * expire.
+	 * @param clientRegistrationId the OAuth2 client registration id
+	 * @param principalName the name of the principal the token has been issued for
+	 * @param tokenSupplier fetches a new token, may return {@code null}
+	 * @param backgroundRefreshSupported whether the supplier can be called from the
+	 * background refresh thread, which is not the case when it depends on the current
+	 * request
+	 * @return the token, or {@code null} if none could be acquired
+	 */
+	public OAuth2AccessToken getToken(String clientRegistrationId, String principalName,
+			Supplier<OAuth2AccessToken> tokenSupplier, boolean backgroundRefreshSupported) {
+		Entry entry = entries.computeIfAbsent(new Key(clientRegistrationId, principalName), Entry::new);
+		entry.backgroundRefreshSupported = backgroundRefreshSupported;
+		if (!entry.read) {
+			entry.read = true;
+		}
+		OAuth2AccessToken token = entry.token;
+		if (token != null && !isAboutToExpire(token)) {
+			return token;
+		}
+		if (token != null && !isExpired(token)) {
+			if (!entry.refreshScheduled && entry.lock.tryLock()) {
+				try {
+					if (entry.token == token) {
+						refresh(entry, tokenSupplier);
+					}
+				}
+				catch (RuntimeException ex) {
+					LOG.warn("Failed to refresh OAuth2 access token for client registration " + clientRegistrationId
+							+ ", the current token is used until it expires", ex);
+				}
+				finally {
+					entry.lock.unlock();
+				}
+			}
+			return entry.token;
+		}
+		entry.lock.lock();
+		try {
+			if (entry.token == token) {
+				refresh(entry, tokenSupplier);
+			}
+			return entry.token;
+		}
+		finally {
+			entry.lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the cached token for the given client registration and principal.
+	 * @param clientRegistrationId the OAuth2 client registration id
+	 * @param principalName the name of the principal the token has been issued for
+	 */
+	public void evict(String clientRegistrationId, String principalName) {
+		entries.remove(new Key(clientRegistrationId, principalName));
+	}
+
+	/**
+	 * Removes all cached tokens.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	private void refresh(Entry entry, Supplier<OAuth2AccessToken> tokenSupplier) {
+		OAuth2AccessToken token = tokenSupplier.get();
+		if (token != null || entry.token == null || isExpired(entry.token)) {
+			entry.token = token;
+		}
+		if (token != null) {
+			entry.failures = 0;
+			scheduleRefresh(entry, token, tokenSupplier);
+		}
+		entries.values().removeIf(other -> other != entry && other.token != null && isExpired(other.token));
+	}
+
+	private void scheduleRefresh(Entry entry, OAuth2AccessToken token, Supplier<OAuth2AccessToken> tokenSupplier) {
+		entry.refreshScheduled = false;
+		if (!backgroundRefresh || !entry.backgroundRefreshSupported || token.getExpiresAt() == null) {
+			return;
+		}
+		Duration delay = Duration.between(clock.instant(), token.getExpiresAt().minus(refreshSkew));
+		schedule(entry, token, tokenSupplier, delay);
+	}
+
+	private void schedule(Entry entry, OAuth2AccessToken token, Supplier<OAuth2AccessToken> tokenSupplier,
+			Duration delay) {
+		entry.refreshScheduled = true;
+		try {
+			getScheduler().schedule(() -> refreshInBackground(entry, token, tokenSupplier),
+					Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			entry.refreshScheduled = false;
+		}
+	}
+
+	private void refreshInBackground(Entry entry, OAuth2AccessToken token, Supplier<OAuth2AccessToken> tokenSupplier) {
+		entry.lock.lock();
+		try {
+			if (entries.get(entry.key) != entry || entry.token != token) {
+				return;
+			}
+			if (!entry.read) {
+				// not used since the last renewal, the next request fetches a new token
+				entry.refreshScheduled = false;
+				return;
+			}
+			Throwable failure = null;
+			OAuth2AccessToken refreshed = null;
+			try {
+				refreshed = tokenSupplier.get();
+			}
+			catch (RuntimeException ex) {
+				failure = ex;
+			}
+			if (token.equals(refreshed)) {
+				// the authorized client manager does not consider the token expired yet
+				retryOrGiveUp(entry, token, tokenSupplier);
+				return;
+			}
+			if (refreshed != null) {
+				entry.token = refreshed;
+				entry.read = false;
+				entry.failures = 0;
+				refreshListeners.forEach(listener -> listener.refreshSucceeded(entry.key.clientRegistrationId()));
+				scheduleRefresh(entry, refreshed, tokenSupplier);
+				return;
+			}
+			handleFailure(entry, token, tokenSupplier, failure);
+		}
+		finally {
+			entry.lock.unlock();
+		}
+	}
+
+	private void handleFailure(Entry entry, OAuth2AccessToken token, Supplier<OAuth2AccessToken> tokenSupplier,
+			Throwable failure) {
+		int failures = ++entry.failures;
+		String clientRegistrationId = entry.key.clientRegistrationId();
+		Instant expiresAt = token.getExpiresAt();
+		refreshListeners
+			.forEach(listener -> listener.refreshFailed(clientRegistrationId, failures, expiresAt, failure));
+		if (retryOrGiveUp(entry, token, tokenSupplier)) {
+			LOG.warn("Failed to refresh OAuth2 access token for client registration " + clientRegistrationId
+					+ " (attempt " + failures + "), retrying in " + retryInterval + "; the current token expires at "
+					+ expiresAt, failure);
+		}
+		else {
+			LOG.error("Failed to refresh OAuth2 access token for client registration " + clientRegistrationId
+					+ " after " + failures + " attempts; the current token expires at " + expiresAt
+					+ " and requests will fetch a new one once it has expired", failure);
+		}
+	}
+
+	private boolean retryOrGiveUp(Entry entry, OAuth2AccessToken token, Supplier<OAuth2AccessToken> tokenSupplier) {
+		if (clock.instant().plus(retryInterval).isBefore(token.getExpiresAt())) {
+			schedule(entry, token, tokenSupplier, retryInterval);
+			return true;
+		}
+		entry.refreshScheduled = false;
+		return false;
+	}
+
+	private synchronized ScheduledExecutorService getScheduler() {
+		if (scheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("feign-oauth2-token-refresh-");
+			threadFactory.setDaemon(true);
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+			executor.setRemoveOnCancelPolicy(true);
+			scheduler = executor;
+		}
+		return scheduler;
+	}
+
+	boolean isAboutToExpire(OAuth2AccessToken token) {
+		Instant expiresAt = token.getExpiresAt();
+		return expiresAt != null && !clock.instant().isBefore(expiresAt.minus(refreshSkew));
+	}
+
+	boolean isExpired(OAuth2AccessToken token) {
+		Instant expiresAt = token.getExpiresAt();
+		return expiresAt != null && !clock.instant().isBefore(expiresAt);
+	}
+
+	private record Key(String clientRegistrationId, String principalName) {
+
+	}
+
+	private static final class Entry {
+
+		private final Key key;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private volatile OAuth2AccessToken token;
+
+		private volatile boolean refreshScheduled;
+
+		private volatile boolean backgroundRefreshSupported;
+
+		private volatile boolean read;
+
+		private int failures;
+
+		private Entry(Key key) {
+			this.key = key;
+		}
+
+	}
+
+}
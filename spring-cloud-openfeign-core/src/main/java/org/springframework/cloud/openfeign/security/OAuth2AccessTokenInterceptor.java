@@ -27,6 +27,7 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
@@ -71,6 +72,10 @@ public class OAuth2AccessTokenInterceptor implements RequestInterceptor {
 
 	private final OAuth2AuthorizedClientManager authorizedClientManager;
 
+	private OAuth2AccessTokenCache tokenCache;
+
+	private volatile HeaderValue lastHeaderValue;
+
 	private static final Authentication ANONYMOUS_AUTHENTICATION = new AnonymousAuthenticationToken("anonymous",
 			"anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
 
@@ -91,14 +96,34 @@ public class OAuth2AccessTokenInterceptor implements RequestInterceptor {
 		this.authorizedClientManager = oAuth2AuthorizedClientManager;
 	}
 
+	/**
+	 * Sets the cache used to keep tokens between requests. When set, the
+	 * {@link OAuth2AuthorizedClientManager} is only called when no token is cached or the
+	 * cached one is about to expire.
+	 * @param tokenCache the token cache, or {@code null} to fetch a token for each
+	 * request
+	 */
+	public void setTokenCache(OAuth2AccessTokenCache tokenCache) {
+		this.tokenCache = tokenCache;
+	}
+
 	@Override
 	public void apply(RequestTemplate template) {
 		OAuth2AccessToken token = getToken(template);
-		String extractedToken = String.format("%s %s", tokenType, token.getTokenValue());
+		String extractedToken = getHeaderValue(token);
 		template.header(header);
 		template.header(header, extractedToken);
 	}
 
+	private String getHeaderValue(OAuth2AccessToken token) {
+		HeaderValue headerValue = lastHeaderValue;
+		if (headerValue == null || headerValue.token() != token) {
+			headerValue = new HeaderValue(token, tokenType + " " + token.getTokenValue());
+			lastHeaderValue = headerValue;
+		}
+		return headerValue.value();
+	}
+
 	public OAuth2AccessToken getToken(RequestTemplate template) {
 		// If specified, try to use them to get token.
 		if (StringUtils.hasText(clientRegistrationId)) {
@@ -127,6 +152,18 @@ public class OAuth2AccessTokenInterceptor implements RequestInterceptor {
 			principal = ANONYMOUS_AUTHENTICATION;
 		}
 
+		if (tokenCache != null) {
+			Authentication authentication = principal;
+			// other managers may need the current request, which the background refresh
+			// thread does not have, and renew per-user tokens
+			return tokenCache.getToken(clientRegistrationId, principal.getName(),
+					() -> authorize(clientRegistrationId, authentication),
+					authorizedClientManager instanceof AuthorizedClientServiceOAuth2AuthorizedClientManager);
+		}
+		return authorize(clientRegistrationId, principal);
+	}
+
+	private OAuth2AccessToken authorize(String clientRegistrationId, Authentication principal) {
 		OAuth2AuthorizeRequest authorizeRequest = OAuth2AuthorizeRequest.withClientRegistrationId(clientRegistrationId)
 			.principal(principal)
 			.build();
@@ -143,4 +180,8 @@ public class OAuth2AccessTokenInterceptor implements RequestInterceptor {
 		return originalUri.getHost();
 	}
 
+	private record HeaderValue(OAuth2AccessToken token, String value) {
+
+	}
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.security;
+
+import java.time.Instant;
+
+/**
+ * Listener notified about the outcome of the background renewals of access tokens
+ * performed by {@link OAuth2AccessTokenCache}. Beans of this type are picked up by the
+ * cache created by the auto-configuration.
+ *
+ * @since 5.1.0
+ */
+public interface OAuth2AccessTokenRefreshListener {
+
+	/**
+	 * Called when a token has been renewed in the background.
+	 * @param clientRegistrationId the OAuth2 client registration id
+	 */
+	default void refreshSucceeded(String clientRegistrationId) {
+	}
+
+	/**
+	 * Called when renewing a token in the background has failed. Renewals are retried
+	 * until the current token expires.
+	 * @param clientRegistrationId the OAuth2 client registration id
+	 * @param consecutiveFailures the number of consecutive failed renewals of the token
+	 * @param expiresAt when the current token expires
+	 * @param cause the failure, or {@code null} if no token was returned
+	 */
+	default void refreshFailed(String clientRegistrationId, int consecutiveFailures, Instant expiresAt,
+			Throwable cause) {
+	}
+
+}
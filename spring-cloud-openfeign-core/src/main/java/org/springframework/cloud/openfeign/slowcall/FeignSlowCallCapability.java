@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import feign.Capability;
+import feign.Client;
+import feign.Feign;
+import feign.InvocationHandlerFactory;
+import feign.Request;
+import feign.Response;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder.FeignSlowCall;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder.FeignSlowCallAttempt;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Capability} that keeps a latency histogram of each Feign client method and
+ * captures the details of the calls slower than a threshold derived from it into a
+ * {@link FeignSlowCallRecorder}. The threshold of a method is a percentile of its
+ * latencies multiplied by a factor, and calls are only captured once a minimum number of
+ * calls to the method has been recorded.
+ * <p>
+ * Each request executed by the client for a call is captured as an attempt, so that
+ * retries performed by the Feign {@link feign.Retryer} are visible. Retries performed
+ * within the load-balanced client are part of a single attempt.
+ *
+ * @since 5.1.0
+ */
+public class FeignSlowCallCapability implements Capability {
+
+	private static final ThreadLocal<SlowCallContext> CURRENT = new ThreadLocal<>();
+
+	private static final Set<String> MASKED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		MASKED_HEADERS.addAll(List.of("Authorization", "Proxy-Authorization", "Cookie"));
+	}
+
+	private final FeignSlowCallRecorder recorder;
+
+	private final double percentile;
+
+	private final double multiplier;
+
+	private final long minimumCalls;
+
+	private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+	public FeignSlowCallCapability(FeignSlowCallRecorder recorder, double percentile, double multiplier,
+			long minimumCalls) {
+		Assert.isTrue(percentile > 0 && percentile <= 1, "Percentile must be greater than 0 and at most 1.");
+		this.recorder = recorder;
+		this.percentile = percentile;
+		this.multiplier = multiplier;
+		this.minimumCalls = minimumCalls;
+	}
+
+	@Override
+	public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+		return (target, dispatch) -> {
+			InvocationHandler handler = invocationHandlerFactory.create(target, dispatch);
+			return (proxy, method, args) -> {
+				if (method.getDeclaringClass() == Object.class) {
+					return handler.invoke(proxy, method, args);
+				}
+				SlowCallContext context = new SlowCallContext();
+				SlowCallContext previous = CURRENT.get();
+				CURRENT.set(context);
+				long start = System.nanoTime();
+				try {
+					return handler.invoke(proxy, method, args);
+				}
+				finally {
+					long elapsed = System.nanoTime() - start;
+					if (previous != null) {
+						CURRENT.set(previous);
+					}
+					else {
+						CURRENT.remove();
+					}
+					completed(target.name(), Feign.configKey(target.type(), method), context, elapsed);
+				}
+			};
+		};
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			SlowCallContext context = CURRENT.get();
+			if (context == null) {
+				return client.execute(request, options);
+			}
+			long start = System.nanoTime();
+			try {
+				Response response = client.execute(request, options);
+				context.attempt(request, response.request(), response.status(), null, System.nanoTime() - start);
+				return response;
+			}
+			catch (IOException | RuntimeException ex) {
+				context.attempt(request, null, null, ex, System.nanoTime() - start);
+				throw ex;
+			}
+		};
+	}
+
+	private void completed(String clientName, String methodKey, SlowCallContext context, long nanos) {
+		LatencyHistogram histogram = histograms.computeIfAbsent(methodKey, key -> new LatencyHistogram());
+		if (histogram.getCount() >= minimumCalls) {
+			long threshold = (long) (histogram.getValueAtPercentile(percentile) * multiplier);
+			if (nanos > threshold) {
+				recorder.record(new FeignSlowCall(Instant.now(), clientName, methodKey, Duration.ofNanos(nanos),
+						Duration.ofNanos(threshold), Math.max(context.attempts.size() - 1, 0),
+						Duration.ofNanos(Math.max(nanos - context.clientNanos, 0)), List.copyOf(context.attempts)));
+			}
+		}
+		histogram.record(nanos);
+	}
+
+	private static final class SlowCallContext {
+
+		private final List<FeignSlowCallAttempt> attempts = new ArrayList<>(1);
+
+		private long clientNanos;
+
+		void attempt(Request request, @Nullable Request executed, @Nullable Integer status, @Nullable Exception error,
+				long nanos) {
+			clientNanos += nanos;
+			attempts.add(new FeignSlowCallAttempt(request.httpMethod().name(), request.url(), instance(executed),
+					headers(request.headers()), status, error != null ? error.toString() : null,
+					Duration.ofNanos(nanos)));
+		}
+
+		private static @Nullable String instance(@Nullable Request executed) {
+			if (executed == null) {
+				return null;
+			}
+			try {
+				URI uri = URI.create(executed.url());
+				return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), null, null, null).toString();
+			}
+			catch (URISyntaxException | IllegalArgumentException ex) {
+				return null;
+			}
+		}
+
+		private static Map<String, Collection<String>> headers(Map<String, Collection<String>> headers) {
+			Map<String, Collection<String>> captured = new LinkedHashMap<>();
+			headers.forEach((name, values) -> captured.put(name,
+					MASKED_HEADERS.contains(name) ? List.of("******") : new ArrayList<>(values)));
+			return captured;
+		}
+
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder.FeignSlowCall;
+
+/**
+ * {@link Endpoint @Endpoint} exposing the slow Feign calls captured by the
+ * {@link FeignSlowCallCapability}, the most recent first.
+ *
+ * @since 5.1.0
+ */
+@Endpoint(id = "feignslowcalls")
+public class FeignSlowCallEndpoint {
+
+	private final FeignSlowCallRecorder recorder;
+
+	public FeignSlowCallEndpoint(FeignSlowCallRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@ReadOperation
+	public FeignSlowCallsDescriptor slowCalls(@Nullable Integer limit) {
+		List<FeignSlowCall> calls = recorder.getSlowCalls();
+		if (limit != null && limit >= 0 && limit < calls.size()) {
+			calls = calls.subList(0, limit);
+		}
+		return new FeignSlowCallsDescriptor(calls);
+	}
+
+	@DeleteOperation
+	public void clear() {
+		recorder.clear();
+	}
+
+	/**
+	 * Description of the captured slow calls.
+	 *
+	 * @param calls the slow calls, the most recent first
+	 */
+	public record FeignSlowCallsDescriptor(List<FeignSlowCall> calls) implements OperationResponseBody {
+
+	}
+
+}
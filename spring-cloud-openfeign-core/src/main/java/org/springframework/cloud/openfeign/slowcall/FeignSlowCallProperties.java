@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the capture of slow Feign calls.
+ *
+ * @since 5.1.0
+ */
+@ConfigurationProperties("spring.cloud.openfeign.slow-calls")
+public class FeignSlowCallProperties {
+
+	/**
+	 * Enables the capture of slow Feign calls.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Percentile of the latencies of a method the slow call threshold is based on.
+	 */
+	private double percentile = 0.99;
+
+	/**
+	 * Factor applied to the percentile to compute the slow call threshold.
+	 */
+	private double multiplier = 2;
+
+	/**
+	 * Number of calls to a method to record before its slow calls are captured.
+	 */
+	private long minimumCalls = 100;
+
+	/**
+	 * Maximum number of slow calls kept, the oldest being evicted first.
+	 */
+	private int capacity = 100;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public double getPercentile() {
+		return percentile;
+	}
+
+	public void setPercentile(double percentile) {
+		this.percentile = percentile;
+	}
+
+	public double getMultiplier() {
+		return multiplier;
+	}
+
+	public void setMultiplier(double multiplier) {
+		this.multiplier = multiplier;
+	}
+
+	public long getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public void setMinimumCalls(long minimumCalls) {
+		this.minimumCalls = minimumCalls;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+}
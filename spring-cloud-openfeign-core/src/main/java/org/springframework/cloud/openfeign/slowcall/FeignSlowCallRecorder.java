@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the most recent slow Feign calls captured by the {@link FeignSlowCallCapability}
+ * in a bounded buffer, evicting the oldest calls first.
+ *
+ * @since 5.1.0
+ */
+public class FeignSlowCallRecorder {
+
+	private final int capacity;
+
+	private final Deque<FeignSlowCall> calls = new ArrayDeque<>();
+
+	public FeignSlowCallRecorder(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0.");
+		this.capacity = capacity;
+	}
+
+	public synchronized void record(FeignSlowCall call) {
+		if (calls.size() == capacity) {
+			calls.removeLast();
+		}
+		calls.addFirst(call);
+	}
+
+	/**
+	 * Returns the captured slow calls.
+	 * @return the slow calls, the most recent first
+	 */
+	public synchronized List<FeignSlowCall> getSlowCalls() {
+		return List.copyOf(calls);
+	}
+
+	public synchronized void clear() {
+		calls.clear();
+	}
+
+	/**
+	 * A Feign call slower than the threshold of its method.
+	 *
+	 * @param timestamp the time the call completed at
+	 * @param clientName the name of the Feign client
+	 * @param method the config key of the invoked method
+	 * @param duration the duration of the call, including retries, encoding and decoding
+	 * @param threshold the threshold the call exceeded
+	 * @param retries the number of retried attempts
+	 * @param outsideClientDuration the part of the duration not spent executing requests,
+	 * such as encoding, interceptors, decoding and retry back-off
+	 * @param attempts the requests executed for the call, in order
+	 */
+	public record FeignSlowCall(Instant timestamp, String clientName, String method, Duration duration,
+			Duration threshold, int retries, Duration outsideClientDuration, List<FeignSlowCallAttempt> attempts) {
+
+	}
+
+	/**
+	 * A request executed for a slow Feign call.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param url the URL of the request
+	 * @param instance the URL of the instance the request was sent to, if known
+	 * @param headers the headers of the request, with credentials masked
+	 * @param status the status of the response, if any
+	 * @param error the error that ended the request, if any
+	 * @param duration the time spent executing the request
+	 */
+	public record FeignSlowCallAttempt(String method, String url, @Nullable String instance,
+			Map<String, Collection<String>> headers, @Nullable Integer status, @Nullable String error,
+			Duration duration) {
+
+	}
+
+}
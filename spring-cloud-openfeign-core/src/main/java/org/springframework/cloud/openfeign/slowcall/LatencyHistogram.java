@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies with four buckets per power of two of microseconds,
+ * giving percentiles with a relative error below 25%. The counts are halved every
+ * {@value #DECAY_INTERVAL} recorded values, so that the percentiles follow changes of the
+ * latency of the calls.
+ *
+ * @since 5.1.0
+ */
+class LatencyHistogram {
+
+	static final int DECAY_INTERVAL = 16384;
+
+	private static final int SUB_BUCKETS = 4;
+
+	private static final int MAX_EXPONENT = 40;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(MAX_EXPONENT * SUB_BUCKETS + SUB_BUCKETS);
+
+	private final AtomicLong count = new AtomicLong();
+
+	void record(long nanos) {
+		buckets.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(nanos)));
+		if (count.incrementAndGet() % DECAY_INTERVAL == 0) {
+			decay();
+		}
+	}
+
+	long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns an upper bound of the given percentile of the recorded values.
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the upper bound of the percentile in nanoseconds, or {@code 0} if no value
+	 * was recorded
+	 */
+	long getValueAtPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			total += buckets.get(i);
+		}
+		long target = (long) Math.ceil(percentile * total);
+		long cumulative = 0;
+		for (int i = 0; i < buckets.length(); i++) {
+			cumulative += buckets.get(i);
+			if (cumulative >= target && cumulative > 0) {
+				return TimeUnit.MICROSECONDS.toNanos(upperBound(i));
+			}
+		}
+		return 0;
+	}
+
+	private void decay() {
+		for (int i = 0; i < buckets.length(); i++) {
+			buckets.getAndUpdate(i, value -> value / 2);
+		}
+		count.getAndUpdate(value -> value / 2);
+	}
+
+	static int index(long micros) {
+		if (micros < SUB_BUCKETS) {
+			return (int) Math.max(micros, 0);
+		}
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+		int subBucket = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+		return (exponent - 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index + 1;
+		}
+		int exponent = index / SUB_BUCKETS + 1;
+		int subBucket = index % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - 2);
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for each phase of the creation of a Feign client.
+ *
+ * @since 5.1.0
+ */
+@Name("org.springframework.cloud.openfeign.ClientCreation")
+@Label("Feign Client Creation")
+@Description("A phase of the creation of a Feign client proxy")
+@Category({ "Spring Cloud OpenFeign" })
+@StackTrace(false)
+class FeignClientCreationEvent extends Event {
+
+	@Label("Context Id")
+	String contextId;
+
+	@Label("Client Type")
+	Class<?> clientType;
+
+	@Label("Phase")
+	String phase;
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+/**
+ * Phases of the creation of a Feign client proxy by
+ * {@link org.springframework.cloud.openfeign.FeignClientFactoryBean}.
+ *
+ * @since 5.1.0
+ */
+public enum FeignClientCreationPhase {
+
+	/**
+	 * Retrieval of the child application context of the client, including its creation
+	 * and refresh when the client is the first to use it.
+	 */
+	CONTEXT("context"),
+
+	/**
+	 * Configuration of the {@code Feign.Builder} from the beans of the child context and
+	 * the client properties.
+	 */
+	CONFIGURATION("configuration"),
+
+	/**
+	 * Application of the
+	 * {@link org.springframework.cloud.openfeign.FeignBuilderCustomizer
+	 * FeignBuilderCustomizer} beans.
+	 */
+	CUSTOMIZERS("customizers"),
+
+	/**
+	 * Creation of the proxy by the {@link org.springframework.cloud.openfeign.Targeter
+	 * Targeter}, including capability enrichment and contract parsing.
+	 */
+	TARGET("target"),
+
+	/**
+	 * Parsing of the client interface by the {@code Contract}, nested in {@link #TARGET}.
+	 */
+	CONTRACT("contract");
+
+	private final String id;
+
+	FeignClientCreationPhase(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * Returns the identifier of the phase.
+	 * @return the identifier
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the name of the {@link org.springframework.core.metrics.StartupStep}
+	 * recorded for the phase.
+	 * @return the step name
+	 */
+	public String getStepName() {
+		return FeignClientCreationTracker.STEP_NAME + "." + id;
+	}
+
+}
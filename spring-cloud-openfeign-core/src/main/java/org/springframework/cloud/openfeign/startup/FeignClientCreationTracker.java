@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import feign.Capability;
+import feign.Contract;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.cloud.openfeign.FeignClientInitializationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Tracks the phases of the creation of a Feign client. Each phase is recorded as a
+ * {@link StartupStep} nested in a {@value #STEP_NAME} step, as a JFR event and reported
+ * to the {@link FeignClientInitializationListener} beans.
+ *
+ * @since 5.1.0
+ */
+public final class FeignClientCreationTracker implements AutoCloseable {
+
+	/**
+	 * Name of the {@link StartupStep} recorded for the creation of a Feign client.
+	 */
+	public static final String STEP_NAME = "spring.cloud.openfeign.client";
+
+	private final ApplicationStartup applicationStartup;
+
+	private final List<FeignClientInitializationListener> listeners;
+
+	private final String contextId;
+
+	private final Class<?> type;
+
+	private final StartupStep step;
+
+	private FeignClientCreationTracker(ApplicationStartup applicationStartup,
+			List<FeignClientInitializationListener> listeners, String contextId, Class<?> type) {
+		this.applicationStartup = applicationStartup;
+		this.listeners = listeners;
+		this.contextId = contextId;
+		this.type = type;
+		this.step = applicationStartup.start(STEP_NAME).tag("contextId", contextId).tag("type", type.getName());
+	}
+
+	/**
+	 * Starts tracking the creation of a Feign client, unless nothing would record it: no
+	 * {@link FeignClientInitializationListener} bean, the default
+	 * {@link ApplicationStartup} and no JFR recording of creation events.
+	 * @param beanFactory the bean factory of the application, used to look up the
+	 * {@link ApplicationStartup} and the listeners
+	 * @param contextId the context id of the client
+	 * @param type the client interface
+	 * @return the tracker, to close once the client has been created, or {@code null} if
+	 * the creation is not tracked
+	 */
+	public static @Nullable FeignClientCreationTracker start(@Nullable BeanFactory beanFactory, String contextId,
+			Class<?> type) {
+		ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+		if (beanFactory instanceof ConfigurableApplicationContext context) {
+			applicationStartup = context.getApplicationStartup();
+		}
+		else if (beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory) {
+			applicationStartup = configurableBeanFactory.getApplicationStartup();
+		}
+		List<FeignClientInitializationListener> listeners = beanFactory != null
+				? beanFactory.getBeanProvider(FeignClientInitializationListener.class).orderedStream().toList()
+				: List.of();
+		if (listeners.isEmpty() && applicationStartup == ApplicationStartup.DEFAULT
+				&& !new FeignClientCreationEvent().isEnabled()) {
+			return null;
+		}
+		return new FeignClientCreationTracker(applicationStartup, listeners, contextId, type);
+	}
+
+	/**
+	 * Runs a phase of the creation.
+	 * @param phase the phase
+	 * @param action the work of the phase
+	 * @param <T> the result type of the phase
+	 * @return the result of the action
+	 */
+	public <T> T track(FeignClientCreationPhase phase, Supplier<T> action) {
+		Phase started = new Phase(phase);
+		try {
+			return action.get();
+		}
+		finally {
+			started.end();
+		}
+	}
+
+	/**
+	 * Returns a {@link Capability} tracking the {@link FeignClientCreationPhase#CONTRACT}
+	 * phase. It should be the last capability added to the builder, so that the parsing
+	 * of all other contract decorators is included.
+	 * @return the capability
+	 */
+	public Capability contractCapability() {
+		return new ContractTrackingCapability();
+	}
+
+	@Override
+	public void close() {
+		step.end();
+	}
+
+	/**
+	 * {@link Capability} tracking the parsing of the client interface. Public as Feign
+	 * invokes the enrichment methods reflectively.
+	 */
+	public final class ContractTrackingCapability implements Capability {
+
+		private ContractTrackingCapability() {
+		}
+
+		@Override
+		public Contract enrich(Contract contract) {
+			return targetType -> {
+				return track(FeignClientCreationPhase.CONTRACT, () -> contract.parseAndValidateMetadata(targetType));
+			};
+		}
+
+	}
+
+	/**
+	 * A started phase of the creation of a Feign client.
+	 */
+	private final class Phase {
+
+		private final FeignClientCreationPhase phase;
+
+		private final StartupStep step;
+
+		private final FeignClientCreationEvent event = new FeignClientCreationEvent();
+
+		private final long start = System.nanoTime();
+
+		private Phase(FeignClientCreationPhase phase) {
+			this.phase = phase;
+			this.step = applicationStartup.start(phase.getStepName()).tag("contextId", contextId);
+			event.begin();
+		}
+
+		void end() {
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+			event.end();
+			if (event.shouldCommit()) {
+				event.contextId = contextId;
+				event.clientType = type;
+				event.phase = phase.getId();
+				event.commit();
+			}
+			step.end();
+			listeners.forEach(listener -> listener.phaseCompleted(contextId, type, phase, duration));
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cloud.openfeign.startup.FeignClientStartupRecorder.FeignClientStartup;
+
+/**
+ * {@link Endpoint @Endpoint} exposing the time taken to create each Feign client, the
+ * slowest first.
+ *
+ * @since 5.1.0
+ */
+@Endpoint(id = "feignstartup")
+public class FeignClientStartupEndpoint {
+
+	private final FeignClientStartupRecorder recorder;
+
+	public FeignClientStartupEndpoint(FeignClientStartupRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@ReadOperation
+	public FeignClientsStartupDescriptor startup(@Nullable Integer limit) {
+		List<FeignClientStartup> clients = recorder.getClients();
+		if (limit != null && limit >= 0 && limit < clients.size()) {
+			clients = clients.subList(0, limit);
+		}
+		return new FeignClientsStartupDescriptor(clients);
+	}
+
+	/**
+	 * Description of the startup times of the Feign clients.
+	 *
+	 * @param clients the startup times of the clients, the slowest first
+	 */
+	public record FeignClientsStartupDescriptor(List<FeignClientStartup> clients) implements OperationResponseBody {
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cloud.openfeign.FeignClientInitializationListener;
+
+/**
+ * {@link FeignClientInitializationListener} that accumulates the time taken by each phase
+ * of the creation of every Feign client.
+ *
+ * @since 5.1.0
+ */
+public class FeignClientStartupRecorder implements FeignClientInitializationListener {
+
+	private final Map<String, ClientRecord> clients = new ConcurrentHashMap<>();
+
+	@Override
+	public void contextInitialized(String contextId, Duration duration) {
+		clients.computeIfAbsent(contextId, ClientRecord::new).contextInitialized(duration);
+	}
+
+	@Override
+	public void phaseCompleted(String contextId, Class<?> type, FeignClientCreationPhase phase, Duration duration) {
+		clients.computeIfAbsent(contextId, ClientRecord::new).phaseCompleted(type, phase, duration);
+	}
+
+	/**
+	 * Returns the startup times of all Feign clients, the slowest first.
+	 * @return the startup times
+	 */
+	public List<FeignClientStartup> getClients() {
+		return clients.values()
+			.stream()
+			.map(ClientRecord::toStartup)
+			.sorted(Comparator.comparing(FeignClientStartup::total)
+				.reversed()
+				.thenComparing(FeignClientStartup::contextId))
+			.toList();
+	}
+
+	/**
+	 * Startup time of a Feign client.
+	 *
+	 * @param contextId the context id of the client
+	 * @param type the name of the client interface, if the client proxy has been created
+	 * @param creations the number of times the client proxy has been created
+	 * @param total the total time taken to create the client proxy, including the
+	 * retrieval of its context
+	 * @param contextInitialization the time taken to create and refresh the child context
+	 * of the client, possibly on another thread or for another client sharing it
+	 * @param phases the time taken by each phase, keyed by phase id
+	 */
+	public record FeignClientStartup(String contextId, @Nullable String type, int creations, Duration total,
+			@Nullable Duration contextInitialization, Map<String, Duration> phases) {
+
+	}
+
+	private static final class ClientRecord {
+
+		private final String contextId;
+
+		private final Map<FeignClientCreationPhase, Duration> phases = new EnumMap<>(FeignClientCreationPhase.class);
+
+		private @Nullable Class<?> type;
+
+		private @Nullable Duration contextInitialization;
+
+		private int creations;
+
+		ClientRecord(String contextId) {
+			this.contextId = contextId;
+		}
+
+		synchronized void contextInitialized(Duration duration) {
+			contextInitialization = contextInitialization != null ? contextInitialization.plus(duration) : duration;
+		}
+
+		synchronized void phaseCompleted(Class<?> type, FeignClientCreationPhase phase, Duration duration) {
+			this.type = type;
+			if (phase == FeignClientCreationPhase.CONTEXT) {
+				creations++;
+			}
+			phases.merge(phase, duration, Duration::plus);
+		}
+
+		synchronized FeignClientStartup toStartup() {
+			Duration total = Duration.ZERO;
+			Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+			for (Map.Entry<FeignClientCreationPhase, Duration> entry : phases.entrySet()) {
+				phaseDurations.put(entry.getKey().getId(), entry.getValue());
+				// contract parsing is nested in the target phase
+				if (entry.getKey() != FeignClientCreationPhase.CONTRACT) {
+					total = total.plus(entry.getValue());
+				}
+			}
+			return new FeignClientStartup(contextId, type != null ? type.getName() : null, creations, total,
+					contextInitialization, phaseDurations);
+		}
+
+	}
+
+}
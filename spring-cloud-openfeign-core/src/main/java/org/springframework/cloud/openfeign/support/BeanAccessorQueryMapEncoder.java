@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import feign.codec.EncodeException;
+import feign.querymap.BeanQueryMapEncoder;
+
+/**
+ * A {@link BeanQueryMapEncoder} that reads bean properties through the cached accessor
+ * plans of {@link QueryMapAccessors} instead of reflective getter calls. The encoded
+ * query maps are the same as the ones of {@link BeanQueryMapEncoder}.
+ *
+ * @since 5.1.0
+ */
+public class BeanAccessorQueryMapEncoder extends BeanQueryMapEncoder {
+
+	@Override
+	public Map<String, Object> encode(Object object) {
+		if (object == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Object> queryMap = new HashMap<>();
+		try {
+			for (QueryMapAccessors.Accessor accessor : QueryMapAccessors.get(object.getClass())) {
+				Object value = accessor.getter().apply(object);
+				if (value != null && value != object) {
+					queryMap.put(accessor.name(), value);
+				}
+			}
+		}
+		catch (EncodeException ex) {
+			throw ex;
+		}
+		catch (RuntimeException ex) {
+			throw new EncodeException("Failure encoding object into query map", ex);
+		}
+		return queryMap;
+	}
+
+}
@@ -17,6 +17,9 @@
 package org.springframework.cloud.openfeign.support;
 
 import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import feign.http2client.Http2Client;
@@ -98,6 +101,11 @@ public class FeignHttpClientProperties {
 	 */
 	private Http2Properties http2 = new Http2Properties();
 
+	/**
+	 * Connection pool warm-up properties.
+	 */
+	private WarmupProperties warmup = new WarmupProperties();
+
 	public int getConnectionTimerRepeat() {
 		return connectionTimerRepeat;
 	}
@@ -178,6 +186,14 @@ public class FeignHttpClientProperties {
 		this.http2 = http2;
 	}
 
+	public WarmupProperties getWarmup() {
+		return warmup;
+	}
+
+	public void setWarmup(WarmupProperties warmup) {
+		this.warmup = warmup;
+	}
+
 	public static class Hc5Properties {
 
 		/**
@@ -240,6 +256,11 @@ public class FeignHttpClientProperties {
 		 */
 		private TimeUnit connectionRequestTimeoutUnit = DEFAULT_CONNECTION_REQUEST_TIMEOUT_UNIT;
 
+		/**
+		 * Async HttpClient 5 transport configuration.
+		 */
+		private AsyncProperties async = new AsyncProperties();
+
 		public PoolConcurrencyPolicy getPoolConcurrencyPolicy() {
 			return poolConcurrencyPolicy;
 		}
@@ -288,6 +309,14 @@ public class FeignHttpClientProperties {
 			this.connectionRequestTimeoutUnit = connectionRequestTimeoutUnit;
 		}
 
+		public AsyncProperties getAsync() {
+			return async;
+		}
+
+		public void setAsync(AsyncProperties async) {
+			this.async = async;
+		}
+
 		/**
 		 * Enumeration of pool concurrency policies.
 		 */
@@ -324,6 +353,96 @@ public class FeignHttpClientProperties {
 
 		}
 
+		/**
+		 * Properties of the transport based on the HttpClient 5
+		 * {@code CloseableHttpAsyncClient}, which supports HTTP/2 and multiplexes
+		 * requests over its connections.
+		 */
+		public static class AsyncProperties {
+
+			/**
+			 * Default value for the maximum number of concurrent HTTP/2 streams per
+			 * connection.
+			 */
+			public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+			/**
+			 * Enables the async HttpClient 5 transport instead of the classic one.
+			 */
+			private boolean enabled;
+
+			/**
+			 * HTTP protocol version policy.
+			 */
+			private HttpVersionPolicy versionPolicy = HttpVersionPolicy.NEGOTIATE;
+
+			/**
+			 * Maximum number of concurrent HTTP/2 streams per connection.
+			 */
+			private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+
+			/**
+			 * Number of I/O dispatch threads. Defaults to the number of available
+			 * processors.
+			 */
+			private Integer ioThreadCount;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public HttpVersionPolicy getVersionPolicy() {
+				return versionPolicy;
+			}
+
+			public void setVersionPolicy(HttpVersionPolicy versionPolicy) {
+				this.versionPolicy = versionPolicy;
+			}
+
+			public int getMaxConcurrentStreams() {
+				return maxConcurrentStreams;
+			}
+
+			public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+				this.maxConcurrentStreams = maxConcurrentStreams;
+			}
+
+			public Integer getIoThreadCount() {
+				return ioThreadCount;
+			}
+
+			public void setIoThreadCount(Integer ioThreadCount) {
+				this.ioThreadCount = ioThreadCount;
+			}
+
+			/**
+			 * Enumeration of HTTP protocol version policies.
+			 */
+			public enum HttpVersionPolicy {
+
+				/**
+				 * Negotiates HTTP/2 with TLS ALPN, using HTTP/1.1 otherwise.
+				 */
+				NEGOTIATE,
+
+				/**
+				 * Always uses HTTP/1.1.
+				 */
+				FORCE_HTTP_1,
+
+				/**
+				 * Always uses HTTP/2, including over cleartext connections.
+				 */
+				FORCE_HTTP_2
+
+			}
+
+		}
+
 	}
 
 	/**
@@ -337,6 +456,18 @@ public class FeignHttpClientProperties {
 		 */
 		private String version = "HTTP_2";
 
+		/**
+		 * Executor running the asynchronous tasks of the client.
+		 */
+		private ExecutorProperties executor = new ExecutorProperties();
+
+		/**
+		 * The {@code contextId}s of the Feign clients that get their own
+		 * {@link HttpClient} instance, with its own connection pool and executor, instead
+		 * of the shared one.
+		 */
+		private List<String> dedicatedClients = new ArrayList<>();
+
 		public String getVersion() {
 			return version;
 		}
@@ -345,6 +476,225 @@ public class FeignHttpClientProperties {
 			this.version = version;
 		}
 
+		public ExecutorProperties getExecutor() {
+			return executor;
+		}
+
+		public void setExecutor(ExecutorProperties executor) {
+			this.executor = executor;
+		}
+
+		public List<String> getDedicatedClients() {
+			return dedicatedClients;
+		}
+
+		public void setDedicatedClients(List<String> dedicatedClients) {
+			this.dedicatedClients = dedicatedClients;
+		}
+
+		/**
+		 * Executor configuration of the {@link HttpClient}.
+		 */
+		public static class ExecutorProperties {
+
+			/**
+			 * Default value for the maximum number of threads of a bounded executor.
+			 */
+			public static final int DEFAULT_MAX_THREADS = 16;
+
+			/**
+			 * Default value for the queue capacity of a bounded executor.
+			 */
+			public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+			/**
+			 * Type of executor.
+			 */
+			private ExecutorMode mode = ExecutorMode.DEFAULT;
+
+			/**
+			 * Maximum number of threads of a {@link ExecutorMode#BOUNDED} executor.
+			 */
+			private int maxThreads = DEFAULT_MAX_THREADS;
+
+			/**
+			 * Number of tasks a {@link ExecutorMode#BOUNDED} executor queues once all of
+			 * its threads are busy. Further tasks are rejected.
+			 */
+			private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+			/**
+			 * Name of the {@link java.util.concurrent.Executor} bean used by a
+			 * {@link ExecutorMode#BEAN} executor.
+			 */
+			private String beanName;
+
+			public ExecutorMode getMode() {
+				return mode;
+			}
+
+			public void setMode(ExecutorMode mode) {
+				this.mode = mode;
+			}
+
+			public int getMaxThreads() {
+				return maxThreads;
+			}
+
+			public void setMaxThreads(int maxThreads) {
+				this.maxThreads = maxThreads;
+			}
+
+			public int getQueueCapacity() {
+				return queueCapacity;
+			}
+
+			public void setQueueCapacity(int queueCapacity) {
+				this.queueCapacity = queueCapacity;
+			}
+
+			public String getBeanName() {
+				return beanName;
+			}
+
+			public void setBeanName(String beanName) {
+				this.beanName = beanName;
+			}
+
+			/**
+			 * Enumeration of executor types.
+			 */
+			public enum ExecutorMode {
+
+				/**
+				 * The default executor of the {@link HttpClient}, an unbounded cached
+				 * thread pool.
+				 */
+				DEFAULT,
+
+				/**
+				 * Runs each task on a new virtual thread. Requires Java 21 or later.
+				 */
+				VIRTUAL_THREADS,
+
+				/**
+				 * A fixed-size thread pool with a bounded queue.
+				 */
+				BOUNDED,
+
+				/**
+				 * An {@link java.util.concurrent.Executor} bean of the application.
+				 */
+				BEAN
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Properties for warming up the connection pools of Feign clients at startup.
+	 */
+	public static class WarmupProperties {
+
+		/**
+		 * Enables opening connections to the Feign client targets before the application
+		 * reports that it is ready to accept traffic.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Number of connections to open per target host.
+		 */
+		private int connectionsPerRoute = 1;
+
+		/**
+		 * Maximum time the warm-up may delay the application startup.
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+
+		/**
+		 * The {@code contextId}s of the Feign clients to warm up. All clients are warmed
+		 * up if empty.
+		 */
+		private List<String> clients = new ArrayList<>();
+
+		/**
+		 * Whether the instances of load-balanced clients, as returned by the
+		 * {@code DiscoveryClient}, should be warmed up as well.
+		 */
+		private boolean loadBalancedInstances = true;
+
+		/**
+		 * HTTP method of the probe requests sent to open connections with clients that do
+		 * not expose their connection pool, such as the Java {@code HttpClient}.
+		 */
+		private String probeMethod = "HEAD";
+
+		/**
+		 * Path of the probe requests sent to open connections with clients that do not
+		 * expose their connection pool. Should point to a resource without side effects,
+		 * such as a health check.
+		 */
+		private String probePath = "/";
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getConnectionsPerRoute() {
+			return connectionsPerRoute;
+		}
+
+		public void setConnectionsPerRoute(int connectionsPerRoute) {
+			this.connectionsPerRoute = connectionsPerRoute;
+		}
+
+		public Duration getTimeout() {
+			return timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public List<String> getClients() {
+			return clients;
+		}
+
+		public void setClients(List<String> clients) {
+			this.clients = clients;
+		}
+
+		public boolean isLoadBalancedInstances() {
+			return loadBalancedInstances;
+		}
+
+		public void setLoadBalancedInstances(boolean loadBalancedInstances) {
+			this.loadBalancedInstances = loadBalancedInstances;
+		}
+
+		public String getProbeMethod() {
+			return probeMethod;
+		}
+
+		public void setProbeMethod(String probeMethod) {
+			this.probeMethod = probeMethod;
+		}
+
+		public String getProbePath() {
+			return probePath;
+		}
+
+		public void setProbePath(String probePath) {
+			this.probePath = probePath;
+		}
+
 	}
 
 }
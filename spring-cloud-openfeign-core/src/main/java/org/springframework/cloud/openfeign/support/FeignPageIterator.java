@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} over the elements of all the pages returned by a Feign client method
+ * taking a {@link Pageable}. Pages are fetched on demand, starting from a given
+ * {@link Pageable} and following {@link Slice#nextPageable()} until a page is
+ * {@code null}, reports that it has no next page or has no content. Optionally, the next
+ * page is fetched on an {@link Executor} while the current one is being consumed.
+ * <p>
+ * For example, the following streams all the stores of a client, 500 at a time:
+ * <pre class="code">
+ * try (Stream&lt;Store&gt; stores = FeignPageIterator.of(storeClient::findAll, PageRequest.of(0, 500)).stream()) {
+ * 	stores.forEach(this::sync);
+ * }
+ * </pre> Instances are not thread-safe.
+ *
+ * @param <T> the type of the elements of the pages
+ * @since 5.1.0
+ */
+public final class FeignPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+	private final Function<Pageable, ? extends Slice<T>> fetcher;
+
+	private final @Nullable Executor executor;
+
+	private @Nullable Pageable nextPageable;
+
+	private @Nullable CompletableFuture<? extends Slice<T>> nextPage;
+
+	private @Nullable Iterator<T> elements;
+
+	private boolean closed;
+
+	private FeignPageIterator(Function<Pageable, ? extends Slice<T>> fetcher, Pageable pageable,
+			@Nullable Executor executor) {
+		Assert.notNull(fetcher, "Fetcher must not be null.");
+		Assert.notNull(pageable, "Pageable must not be null.");
+		this.fetcher = fetcher;
+		this.nextPageable = pageable;
+		this.executor = executor;
+	}
+
+	/**
+	 * Creates an iterator fetching each page when the elements of the previous one have
+	 * been consumed.
+	 * @param fetcher the client method returning the page for a {@link Pageable}
+	 * @param pageable the first page to fetch
+	 * @param <T> the type of the elements of the pages
+	 * @return the iterator
+	 */
+	public static <T> FeignPageIterator<T> of(Function<Pageable, ? extends Slice<T>> fetcher, Pageable pageable) {
+		return new FeignPageIterator<>(fetcher, pageable, null);
+	}
+
+	/**
+	 * Creates an iterator fetching the next page on the given executor as soon as the
+	 * current one has been received.
+	 * @param fetcher the client method returning the page for a {@link Pageable}
+	 * @param pageable the first page to fetch
+	 * @param executor the executor fetching the next pages
+	 * @param <T> the type of the elements of the pages
+	 * @return the iterator
+	 */
+	public static <T> FeignPageIterator<T> prefetching(Function<Pageable, ? extends Slice<T>> fetcher,
+			Pageable pageable, Executor executor) {
+		Assert.notNull(executor, "Executor must not be null.");
+		return new FeignPageIterator<>(fetcher, pageable, executor);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (elements == null || !elements.hasNext()) {
+			if (!advance()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return elements.next();
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the remaining elements, which closes this
+	 * iterator when closed.
+	 * @return the stream of the elements
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+			.onClose(this::close);
+	}
+
+	/**
+	 * Stops fetching pages and cancels the fetch of the next page, if in progress.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		nextPageable = null;
+		if (nextPage != null) {
+			nextPage.cancel(false);
+			nextPage = null;
+		}
+	}
+
+	private boolean advance() {
+		@Nullable Slice<T> page;
+		if (closed) {
+			return false;
+		}
+		else if (nextPage != null) {
+			page = join(nextPage);
+			nextPage = null;
+		}
+		else if (nextPageable != null) {
+			page = fetcher.apply(nextPageable);
+		}
+		else {
+			return false;
+		}
+		if (page == null) {
+			nextPageable = null;
+			return false;
+		}
+		elements = page.getContent().iterator();
+		nextPageable = (page.hasNext() && page.hasContent()) ? page.nextPageable() : null;
+		if (executor != null && nextPageable != null) {
+			Pageable pageable = nextPageable;
+			nextPageable = null;
+			nextPage = CompletableFuture.supplyAsync(() -> fetcher.apply(pageable), executor);
+		}
+		return true;
+	}
+
+	private static <T> Slice<T> join(CompletableFuture<? extends Slice<T>> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+}
@@ -16,27 +16,51 @@
 
 package org.springframework.cloud.openfeign.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.core.Version;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.deser.Deserializers;
+import tools.jackson.databind.deser.std.StdDeserializer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedModel;
 
 /**
- * This Jackson module provides support to deserialize Spring {@link Page} objects.
+ * This Jackson module provides support to deserialize Spring {@link Page} and
+ * {@link Slice} objects. A {@link Slice} only requires the {@code last} flag of the
+ * response, and not the total number of elements, so that servers can return slices
+ * without running count queries.
+ * <p>
+ * In streaming mode, pages and slices are read in a single pass over the response,
+ * matching the property names without alias lookups and reading the elements of the
+ * {@code content} one by one, instead of being bound through a creator. The elements are
+ * then exposed as they were read, without being copied into a {@link PageImpl} or a
+ * {@link SliceImpl}.
  *
  * @author Pascal Büttiker
  * @author Olga Maciaszek-Sharma
@@ -46,6 +70,22 @@ import org.springframework.data.web.PagedModel;
  */
 public class PageJacksonModule extends JacksonModule {
 
+	private final boolean streaming;
+
+	public PageJacksonModule() {
+		this(false);
+	}
+
+	/**
+	 * Creates a module deserializing pages and slices either through mix-ins or in
+	 * streaming mode.
+	 * @param streaming whether pages and slices are read in a single streaming pass
+	 * @since 5.1.0
+	 */
+	public PageJacksonModule(boolean streaming) {
+		this.streaming = streaming;
+	}
+
 	@Override
 	public String getModuleName() {
 		return "PageJacksonModule";
@@ -58,7 +98,13 @@ public class PageJacksonModule extends JacksonModule {
 
 	@Override
 	public void setupModule(SetupContext context) {
-		context.setMixIn(Page.class, PageMixIn.class);
+		if (streaming) {
+			context.addDeserializers(new StreamingChunkDeserializers());
+		}
+		else {
+			context.setMixIn(Page.class, PageMixIn.class);
+			context.setMixIn(Slice.class, SliceMixIn.class);
+		}
 		context.setMixIn(Pageable.class, PageableMixIn.class);
 	}
 
@@ -79,6 +125,12 @@ public class PageJacksonModule extends JacksonModule {
 
 	}
 
+	@JsonDeserialize(as = SimpleSliceImpl.class)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private interface SliceMixIn {
+
+	}
+
 	@JsonDeserialize(as = SimplePageable.class)
 	@JsonIgnoreProperties(ignoreUnknown = true)
 	private interface PageableMixIn {
@@ -239,6 +291,435 @@ public class PageJacksonModule extends JacksonModule {
 
 	}
 
+	static class SimpleSliceImpl<T> implements Slice<T> {
+
+		private final Slice<T> delegate;
+
+		SimpleSliceImpl(@JsonProperty("content") List<T> content, @JsonProperty("pageable") Pageable pageable,
+				@JsonProperty("number") @JsonAlias("pageNumber") Integer number,
+				@JsonProperty("size") @JsonAlias("pageSize") Integer size, @JsonProperty("sort") Sort sort,
+				@JsonProperty("last") Boolean last) {
+			boolean hasNext = last != null && !last;
+			if (size != null && size > 0) {
+				delegate = new SliceImpl<>(content, buildPageRequest((number == null) ? 0 : number, size, sort),
+						hasNext);
+			}
+			else if (pageable != null && pageable.getPageSize() > 0) {
+				delegate = new SliceImpl<>(content, pageable, hasNext);
+			}
+			else {
+				delegate = new SliceImpl<>(content);
+			}
+		}
+
+		@JsonProperty
+		@Override
+		public int getNumber() {
+			return delegate.getNumber();
+		}
+
+		@JsonProperty
+		@Override
+		public int getSize() {
+			return delegate.getSize();
+		}
+
+		@JsonProperty
+		@Override
+		public int getNumberOfElements() {
+			return delegate.getNumberOfElements();
+		}
+
+		@JsonProperty
+		@Override
+		public List<T> getContent() {
+			return delegate.getContent();
+		}
+
+		@JsonProperty
+		@Override
+		public boolean hasContent() {
+			return delegate.hasContent();
+		}
+
+		@JsonIgnore
+		@Override
+		public Sort getSort() {
+			return delegate.getSort();
+		}
+
+		@JsonProperty
+		@Override
+		public boolean isFirst() {
+			return delegate.isFirst();
+		}
+
+		@JsonProperty
+		@Override
+		public boolean isLast() {
+			return delegate.isLast();
+		}
+
+		@JsonIgnore
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@JsonIgnore
+		@Override
+		public boolean hasPrevious() {
+			return delegate.hasPrevious();
+		}
+
+		@JsonIgnore
+		@Override
+		public Pageable nextPageable() {
+			return delegate.nextPageable();
+		}
+
+		@JsonIgnore
+		@Override
+		public Pageable previousPageable() {
+			return delegate.previousPageable();
+		}
+
+		@JsonIgnore
+		@Override
+		public <S> Slice<S> map(Function<? super T, ? extends S> converter) {
+			return delegate.map(converter);
+		}
+
+		@JsonIgnore
+		@Override
+		public Iterator<T> iterator() {
+			return delegate.iterator();
+		}
+
+		@JsonIgnore
+		@Override
+		public Pageable getPageable() {
+			return delegate.getPageable();
+		}
+
+		@JsonIgnore
+		@Override
+		public boolean isEmpty() {
+			return delegate.isEmpty();
+		}
+
+		@Override
+		public int hashCode() {
+			return delegate.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return delegate.equals(obj);
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+	}
+
+	private static final class StreamingChunkDeserializers extends Deserializers.Base {
+
+		@Override
+		public ValueDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+				BeanDescription.Supplier beanDescRef) {
+			if (hasDeserializerFor(config, type.getRawClass())) {
+				return new StreamingChunkDeserializer(type);
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+			return valueType == Page.class || valueType == Slice.class;
+		}
+
+	}
+
+	private static final class StreamingChunkDeserializer extends StdDeserializer<Slice<?>> {
+
+		private final JavaType contentType;
+
+		StreamingChunkDeserializer(JavaType type) {
+			super(type);
+			this.contentType = type.containedTypeOrUnknown(0);
+		}
+
+		@Override
+		public Slice<?> deserialize(JsonParser p, DeserializationContext ctxt) {
+			if (!p.isExpectedStartObjectToken()) {
+				return (Slice<?>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+			}
+			List<Object> content = new ArrayList<>();
+			Pageable pageable = null;
+			PagedModel.PageMetadata pageMetadata = null;
+			Integer number = null;
+			Integer size = null;
+			Long totalElements = null;
+			Sort sort = null;
+			Boolean last = null;
+			for (String name = p.nextName(); name != null; name = p.nextName()) {
+				JsonToken token = p.nextToken();
+				if (token == JsonToken.VALUE_NULL) {
+					continue;
+				}
+				switch (normalize(name)) {
+					case "content" -> readContent(p, ctxt, content);
+					case "pageable" -> pageable = ctxt.readValue(p, Pageable.class);
+					case "page" -> pageMetadata = ctxt.readValue(p, PagedModel.PageMetadata.class);
+					case "number", "pagenumber" -> number = p.getValueAsInt();
+					case "size", "pagesize" -> size = p.getValueAsInt();
+					case "totalelements", "total" -> totalElements = p.getValueAsLong();
+					case "sort" -> sort = ctxt.readValue(p, Sort.class);
+					case "last" -> last = p.getValueAsBoolean();
+					default -> p.skipChildren();
+				}
+			}
+			if (Page.class.equals(handledType())) {
+				return page(content, pageable, pageMetadata, number, size, totalElements, sort);
+			}
+			return slice(content, pageable, number, size, sort, last);
+		}
+
+		private void readContent(JsonParser p, DeserializationContext ctxt, List<Object> content) {
+			if (!p.isExpectedStartArrayToken()) {
+				ctxt.handleUnexpectedToken(List.class, p);
+				return;
+			}
+			ValueDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(contentType);
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+				content.add((token == JsonToken.VALUE_NULL) ? null : deserializer.deserialize(p, ctxt));
+			}
+		}
+
+		private static Page<?> page(List<Object> content, Pageable pageable, PagedModel.PageMetadata pageMetadata,
+				Integer number, Integer size, Long totalElements, Sort sort) {
+			if (size != null && size > 0) {
+				return new StreamedPage<>(content, buildPageRequest((number == null) ? 0 : number, size, sort),
+						(totalElements == null) ? 0 : totalElements);
+			}
+			if (pageable != null && pageable.getPageSize() > 0) {
+				return new StreamedPage<>(content, pageable, (totalElements == null) ? 0 : totalElements);
+			}
+			if (pageMetadata != null && pageMetadata.size() > 0) {
+				return new StreamedPage<>(content,
+						buildPageRequest((int) pageMetadata.number(), (int) pageMetadata.size(), null),
+						pageMetadata.totalElements());
+			}
+			return new StreamedPage<>(content, Pageable.unpaged(), content.size());
+		}
+
+		private static Slice<?> slice(List<Object> content, Pageable pageable, Integer number, Integer size, Sort sort,
+				Boolean last) {
+			boolean hasNext = last != null && !last;
+			if (size != null && size > 0) {
+				return new StreamedSlice<>(content, buildPageRequest((number == null) ? 0 : number, size, sort),
+						hasNext);
+			}
+			if (pageable != null && pageable.getPageSize() > 0) {
+				return new StreamedSlice<>(content, pageable, hasNext);
+			}
+			return new StreamedSlice<>(content, Pageable.unpaged(), false);
+		}
+
+		private static String normalize(String name) {
+			return name.replace("-", "").replace("_", "").toLowerCase(Locale.ROOT);
+		}
+
+	}
+
+	/**
+	 * {@link Slice} over the content read by the {@link StreamingChunkDeserializer}.
+	 * Unlike {@link SliceImpl}, it does not copy the content, so that large slices are
+	 * not held twice in memory.
+	 */
+	private static class StreamedSlice<T> implements Slice<T> {
+
+		private final List<T> content;
+
+		private final Pageable pageable;
+
+		private final boolean hasNext;
+
+		StreamedSlice(List<T> content, Pageable pageable, boolean hasNext) {
+			this.content = Collections.unmodifiableList(content);
+			this.pageable = pageable;
+			this.hasNext = hasNext;
+		}
+
+		@Override
+		public int getNumber() {
+			return pageable.isPaged() ? pageable.getPageNumber() : 0;
+		}
+
+		@Override
+		public int getSize() {
+			return pageable.isPaged() ? pageable.getPageSize() : content.size();
+		}
+
+		@Override
+		public int getNumberOfElements() {
+			return content.size();
+		}
+
+		@Override
+		public boolean hasContent() {
+			return !content.isEmpty();
+		}
+
+		@Override
+		public List<T> getContent() {
+			return content;
+		}
+
+		@Override
+		public Sort getSort() {
+			return pageable.getSort();
+		}
+
+		@Override
+		public Pageable getPageable() {
+			return pageable;
+		}
+
+		@Override
+		public boolean isFirst() {
+			return !hasPrevious();
+		}
+
+		@Override
+		public boolean isLast() {
+			return !hasNext();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return getNumber() > 0;
+		}
+
+		@Override
+		public Pageable nextPageable() {
+			return hasNext() ? pageable.next() : Pageable.unpaged();
+		}
+
+		@Override
+		public Pageable previousPageable() {
+			return hasPrevious() ? pageable.previousOrFirst() : Pageable.unpaged();
+		}
+
+		@Override
+		public <U> Slice<U> map(Function<? super T, ? extends U> converter) {
+			return new SliceImpl<>(convert(converter), pageable, hasNext);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return content.iterator();
+		}
+
+		<U> List<U> convert(Function<? super T, ? extends U> converter) {
+			List<U> converted = new ArrayList<>(content.size());
+			for (T element : content) {
+				converted.add(converter.apply(element));
+			}
+			return converted;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			StreamedSlice<?> that = (StreamedSlice<?>) obj;
+			return hasNext == that.hasNext && content.equals(that.content) && pageable.equals(that.pageable);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(content, pageable, hasNext);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Slice %d containing %s instances", getNumber(), contentType());
+		}
+
+		String contentType() {
+			return (!content.isEmpty() && content.get(0) != null) ? content.get(0).getClass().getName() : "UNKNOWN";
+		}
+
+	}
+
+	/**
+	 * {@link Page} over the content read by the {@link StreamingChunkDeserializer}.
+	 * Unlike {@link PageImpl}, it does not copy the content, so that large pages are not
+	 * held twice in memory.
+	 */
+	private static final class StreamedPage<T> extends StreamedSlice<T> implements Page<T> {
+
+		private final long total;
+
+		StreamedPage(List<T> content, Pageable pageable, long total) {
+			super(content, pageable, false);
+			// Same correction of the total as PageImpl for the last page
+			this.total = (pageable.isPaged() && !content.isEmpty()
+					&& pageable.getOffset() + pageable.getPageSize() > total) ? pageable.getOffset() + content.size()
+							: total;
+		}
+
+		@Override
+		public int getTotalPages() {
+			return (getSize() == 0) ? 1 : (int) Math.ceil((double) total / (double) getSize());
+		}
+
+		@Override
+		public long getTotalElements() {
+			return total;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return getNumber() + 1 < getTotalPages();
+		}
+
+		@Override
+		public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+			return new PageImpl<>(convert(converter), getPageable(), total);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return super.equals(obj) && total == ((StreamedPage<?>) obj).total;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + Long.hashCode(total);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Page %s of %d containing %s instances", getNumber() + 1, getTotalPages(),
+					contentType());
+		}
+
+	}
+
 	static class SimplePageable implements Pageable {
 
 		private final PageRequest delegate;
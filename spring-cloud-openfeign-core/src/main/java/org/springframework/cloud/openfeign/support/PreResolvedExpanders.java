@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import feign.Param;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Pre-resolved {@link Param.Expander} instances for the simple parameter types that are
+ * most common in Feign client signatures: {@link String}, primitives and their wrappers,
+ * enums, {@link UUID} and the {@code java.time} types. Since Feign applies expanders to
+ * each element of an {@link Iterable}, collections of those types are covered as well.
+ * <p>
+ * Such an expander renders values directly instead of looking up a converter in the
+ * {@link ConversionService} on every call. It is only used when the conversion service
+ * renders a set of probe values of the parameter type exactly the same way, so custom
+ * converters or formatters (for example a {@code @DateTimeFormat} on the parameter)
+ * disable the fast path for the affected parameters.
+ *
+ * @since 5.1.0
+ */
+final class PreResolvedExpanders {
+
+	private static final TypeDescriptor STRING_TYPE_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+
+	private static final Param.Expander TO_STRING = value -> (value != null) ? value.toString() : null;
+
+	private static final Param.Expander ENUM_NAME = value -> (value != null) ? ((Enum<?>) value).name() : null;
+
+	private static final Map<Class<?>, List<?>> PROBES = Map.ofEntries(Map.entry(String.class, List.of("", "a b/c")),
+			Map.entry(Boolean.class, List.of(true, false)), Map.entry(Character.class, List.of('a', ' ')),
+			Map.entry(Byte.class, List.of((byte) 0, Byte.MIN_VALUE, Byte.MAX_VALUE)),
+			Map.entry(Short.class, List.of((short) 0, Short.MIN_VALUE, (short) 1234)),
+			Map.entry(Integer.class, List.of(0, -1, 1234567, Integer.MIN_VALUE)),
+			Map.entry(Long.class, List.of(0L, -1L, 1234567L, Long.MAX_VALUE)),
+			Map.entry(Float.class, List.of(0f, -1.5f, 1234567.5f)),
+			Map.entry(Double.class, List.of(0d, -1.5d, 1234567.125d)),
+			Map.entry(UUID.class, List.of(new UUID(0, 0), UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301"))),
+			Map.entry(LocalDate.class, List.of(LocalDate.of(2024, 1, 31))),
+			Map.entry(LocalTime.class, List.of(LocalTime.of(13, 5, 7, 120_000_000))),
+			Map.entry(LocalDateTime.class, List.of(LocalDateTime.of(2024, 1, 31, 13, 5, 7))),
+			Map.entry(OffsetDateTime.class,
+					List.of(OffsetDateTime.of(2024, 1, 31, 13, 5, 7, 0, ZoneOffset.ofHours(2)))),
+			Map.entry(OffsetTime.class, List.of(OffsetTime.of(13, 5, 7, 0, ZoneOffset.ofHours(2)))),
+			Map.entry(ZonedDateTime.class, List.of(ZonedDateTime.of(2024, 1, 31, 13, 5, 7, 0, ZoneOffset.UTC))),
+			Map.entry(Instant.class, List.of(Instant.ofEpochSecond(1706706307L))),
+			Map.entry(Year.class, List.of(Year.of(2024))), Map.entry(YearMonth.class, List.of(YearMonth.of(2024, 1))),
+			Map.entry(MonthDay.class, List.of(MonthDay.of(1, 31))),
+			Map.entry(Duration.class, List.of(Duration.ofSeconds(90))),
+			Map.entry(Period.class, List.of(Period.ofDays(3))));
+
+	private PreResolvedExpanders() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Returns a pre-resolved expander for the given parameter type, or {@code null} if
+	 * the type is not supported or the conversion service renders it differently.
+	 * @param conversionService the conversion service the contract was created with
+	 * @param typeDescriptor the type of the parameter, or of its elements for iterables
+	 * @return the expander to use, or {@code null} to go through the conversion service
+	 */
+	static Param.Expander find(ConversionService conversionService, TypeDescriptor typeDescriptor) {
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(typeDescriptor.getType());
+		Param.Expander expander;
+		List<?> probes;
+		if (type.isEnum()) {
+			expander = ENUM_NAME;
+			probes = Arrays.asList(type.getEnumConstants());
+		}
+		else {
+			expander = TO_STRING;
+			probes = PROBES.get(type);
+		}
+		if (probes == null || !rendersAlike(conversionService, typeDescriptor, expander, probes)) {
+			return null;
+		}
+		return expander;
+	}
+
+	private static boolean rendersAlike(ConversionService conversionService, TypeDescriptor typeDescriptor,
+			Param.Expander expander, List<?> probes) {
+		try {
+			for (Object probe : probes) {
+				Object converted = conversionService.convert(probe, typeDescriptor, STRING_TYPE_DESCRIPTOR);
+				if (!Objects.equals(converted, expander.expand(probe))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (RuntimeException ex) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import feign.CollectionFormat;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+
+import org.springframework.javapoet.CodeBlock;
+
+/**
+ * The result of parsing a Feign client method with {@link SpringMvcContract}, computed
+ * ahead of time. When the metadata of an interface has been registered, the contract
+ * rebuilds the {@link MethodMetadata} of its methods from it instead of reading their
+ * annotations, resolving parameter names and synthesizing annotations. Only interfaces
+ * without property placeholders, parsed with the default parameter processors, are
+ * precomputed.
+ *
+ * @since 5.1.0
+ * @see SpringMvcContract#precompute(Class)
+ */
+public final class PrecomputedMethodMetadata {
+
+	private static final Map<String, Registration> REGISTRATIONS = new ConcurrentHashMap<>();
+
+	private final String configKey;
+
+	private final String httpMethod;
+
+	private String uri;
+
+	private boolean decodeSlash = true;
+
+	private CollectionFormat collectionFormat = CollectionFormat.EXPLODED;
+
+	private final Map<String, List<String>> queries = new LinkedHashMap<>();
+
+	private final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+	private final Map<Integer, List<String>> names = new LinkedHashMap<>();
+
+	private final Map<Integer, Boolean> encoded = new LinkedHashMap<>();
+
+	private final Map<Integer, List<String>> formParams = new LinkedHashMap<>();
+
+	private final BitSet httpAnnotations = new BitSet();
+
+	private final BitSet converted = new BitSet();
+
+	private Integer queryMapIndex;
+
+	private Integer headerMapIndex;
+
+	private PrecomputedMethodMetadata(String configKey, String httpMethod) {
+		this.configKey = configKey;
+		this.httpMethod = httpMethod;
+	}
+
+	/**
+	 * Creates the metadata of a method.
+	 * @param configKey the Feign config key of the method
+	 * @param httpMethod the HTTP method of the request
+	 * @return the metadata
+	 */
+	public static PrecomputedMethodMetadata of(String configKey, String httpMethod) {
+		return new PrecomputedMethodMetadata(configKey, httpMethod);
+	}
+
+	/**
+	 * Registers the metadata of the methods of a Feign client interface.
+	 * @param typeName the name of the interface
+	 * @param decodeSlash the {@code decodeSlash} setting the metadata was computed with
+	 * @param removeTrailingSlash the {@code removeTrailingSlash} setting the metadata was
+	 * computed with
+	 * @param methods the metadata of the methods
+	 */
+	public static void register(String typeName, boolean decodeSlash, boolean removeTrailingSlash,
+			PrecomputedMethodMetadata... methods) {
+		Map<String, PrecomputedMethodMetadata> byConfigKey = new LinkedHashMap<>();
+		for (PrecomputedMethodMetadata method : methods) {
+			byConfigKey.put(method.configKey, method);
+		}
+		REGISTRATIONS.put(typeName, new Registration(decodeSlash, removeTrailingSlash, byConfigKey));
+	}
+
+	static PrecomputedMethodMetadata get(Class<?> type, String configKey, boolean decodeSlash,
+			boolean removeTrailingSlash) {
+		if (REGISTRATIONS.isEmpty()) {
+			return null;
+		}
+		Registration registration = REGISTRATIONS.get(type.getName());
+		if (registration == null || registration.decodeSlash() != decodeSlash
+				|| registration.removeTrailingSlash() != removeTrailingSlash) {
+			return null;
+		}
+		return registration.methods().get(configKey);
+	}
+
+	static void clear() {
+		REGISTRATIONS.clear();
+	}
+
+	public PrecomputedMethodMetadata uri(String uri) {
+		this.uri = uri;
+		return this;
+	}
+
+	public PrecomputedMethodMetadata decodeSlash(boolean decodeSlash) {
+		this.decodeSlash = decodeSlash;
+		return this;
+	}
+
+	public PrecomputedMethodMetadata collectionFormat(CollectionFormat collectionFormat) {
+		this.collectionFormat = collectionFormat;
+		return this;
+	}
+
+	public PrecomputedMethodMetadata query(String name, String... values) {
+		queries.put(name, Arrays.asList(values));
+		return this;
+	}
+
+	public PrecomputedMethodMetadata header(String name, String... values) {
+		headers.put(name, Arrays.asList(values));
+		return this;
+	}
+
+	/**
+	 * Records the outcome of processing the annotations of a parameter.
+	 * @param index the index of the parameter
+	 * @param httpAnnotation whether the parameter has an HTTP annotation
+	 * @param converted whether the parameter is expanded with the
+	 * {@link org.springframework.core.convert.ConversionService}, if it can be converted
+	 * @param names the template parameter names of the parameter
+	 * @return this instance
+	 */
+	public PrecomputedMethodMetadata parameter(int index, boolean httpAnnotation, boolean converted, String... names) {
+		this.httpAnnotations.set(index, httpAnnotation);
+		this.converted.set(index, converted);
+		if (names.length > 0) {
+			this.names.put(index, List.of(names));
+		}
+		return this;
+	}
+
+	public PrecomputedMethodMetadata encoded(int index, boolean encoded) {
+		this.encoded.put(index, encoded);
+		return this;
+	}
+
+	public PrecomputedMethodMetadata formParams(int index, String... formParams) {
+		this.formParams.put(index, List.of(formParams));
+		return this;
+	}
+
+	public PrecomputedMethodMetadata queryMapIndex(int queryMapIndex) {
+		this.queryMapIndex = queryMapIndex;
+		return this;
+	}
+
+	public PrecomputedMethodMetadata headerMapIndex(int headerMapIndex) {
+		this.headerMapIndex = headerMapIndex;
+		return this;
+	}
+
+	String configKey() {
+		return configKey;
+	}
+
+	void applyTo(RequestTemplate template) {
+		template.method(Request.HttpMethod.valueOf(httpMethod));
+		template.collectionFormat(collectionFormat);
+		if (uri != null) {
+			template.uri(uri, true);
+			if (template.decodeSlash() != decodeSlash) {
+				template.decodeSlash(decodeSlash);
+			}
+		}
+		// a parameter without a value is reported as an empty list, which
+		// RequestTemplate would treat as a removal
+		queries.forEach(
+				(name, values) -> template.query(name, values.isEmpty() ? Collections.singletonList(null) : values));
+		headers.forEach(template::header);
+	}
+
+	/**
+	 * Applies the outcome of processing the annotations of a parameter.
+	 * @param data the metadata being built
+	 * @param index the index of the parameter
+	 * @return whether the parameter has an HTTP annotation
+	 */
+	boolean applyTo(MethodMetadata data, int index) {
+		List<String> parameterNames = names.get(index);
+		if (parameterNames != null) {
+			data.indexToName().put(index, new ArrayList<>(parameterNames));
+		}
+		Boolean parameterEncoded = encoded.get(index);
+		if (parameterEncoded != null) {
+			data.indexToEncoded().put(index, parameterEncoded);
+		}
+		List<String> parameterFormParams = formParams.get(index);
+		if (parameterFormParams != null) {
+			data.formParams().addAll(parameterFormParams);
+		}
+		if (queryMapIndex != null && queryMapIndex == index) {
+			data.queryMapIndex(index);
+		}
+		if (headerMapIndex != null && headerMapIndex == index) {
+			data.headerMapIndex(index);
+		}
+		return httpAnnotations.get(index);
+	}
+
+	boolean isConverted(int index) {
+		return converted.get(index);
+	}
+
+	/**
+	 * Returns the code creating this metadata.
+	 * @return the code
+	 */
+	public CodeBlock toCodeBlock() {
+		CodeBlock.Builder code = CodeBlock.builder()
+			.add("$T.of($S, $S)", PrecomputedMethodMetadata.class, configKey, httpMethod);
+		if (uri != null) {
+			code.add(".uri($S)", uri);
+		}
+		if (!decodeSlash) {
+			code.add(".decodeSlash(false)");
+		}
+		if (collectionFormat != CollectionFormat.EXPLODED) {
+			code.add(".collectionFormat($T.$L)", CollectionFormat.class, collectionFormat.name());
+		}
+		queries.forEach((name, values) -> code.add(".query($S$L)", name, varargs(values)));
+		headers.forEach((name, values) -> code.add(".header($S$L)", name, varargs(values)));
+		Set<Integer> parameters = new TreeSet<>(names.keySet());
+		httpAnnotations.stream().forEach(parameters::add);
+		converted.stream().forEach(parameters::add);
+		for (int i : parameters) {
+			code.add(".parameter($L, $L, $L$L)", i, httpAnnotations.get(i), converted.get(i),
+					varargs(names.getOrDefault(i, List.of())));
+		}
+		encoded.forEach((index, value) -> code.add(".encoded($L, $L)", index, value));
+		formParams.forEach((index, values) -> code.add(".formParams($L$L)", index, varargs(values)));
+		if (queryMapIndex != null) {
+			code.add(".queryMapIndex($L)", queryMapIndex);
+		}
+		if (headerMapIndex != null) {
+			code.add(".headerMapIndex($L)", headerMapIndex);
+		}
+		return code.build();
+	}
+
+	private static CodeBlock varargs(Collection<String> values) {
+		CodeBlock.Builder code = CodeBlock.builder();
+		values.forEach(value -> code.add(", $S", value));
+		return code.build();
+	}
+
+	private record Registration(boolean decodeSlash, boolean removeTrailingSlash,
+			Map<String, PrecomputedMethodMetadata> methods) {
+
+	}
+
+}
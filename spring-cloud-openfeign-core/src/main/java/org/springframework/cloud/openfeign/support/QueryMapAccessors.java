@@ -0,0 +1,181 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import feign.Param;
+import feign.codec.EncodeException;
+
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Cached accessor plans for encoding beans into query maps. A plan lists the readable
+ * properties of a class in the same way Feign's
+ * {@link feign.querymap.BeanQueryMapEncoder} does, with the query parameter name resolved
+ * once and a getter that is invoked without reflection where possible. Plans can be
+ * generated ahead of time and registered with {@link #register}.
+ *
+ * @since 5.1.0
+ * @see BeanAccessorQueryMapEncoder
+ */
+public final class QueryMapAccessors {
+
+	private static final Map<Class<?>, Accessor[]> REGISTRATIONS = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Accessor[]> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private QueryMapAccessors() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Registers the accessor plan of a class.
+	 * @param type the class of the beans
+	 * @param accessors the accessors of its readable properties
+	 */
+	public static void register(Class<?> type, Accessor... accessors) {
+		REGISTRATIONS.put(type, accessors);
+	}
+
+	static void clear() {
+		REGISTRATIONS.clear();
+		CACHE.clear();
+	}
+
+	static Accessor[] get(Class<?> type) {
+		Accessor[] accessors = REGISTRATIONS.get(type);
+		if (accessors != null) {
+			return accessors;
+		}
+		accessors = CACHE.get(type);
+		if (accessors == null) {
+			accessors = introspect(type).stream()
+				.map(property -> new Accessor(property.name(), getter(property.readMethod())))
+				.toArray(Accessor[]::new);
+			CACHE.put(type, accessors);
+		}
+		return accessors;
+	}
+
+	/**
+	 * Generates the code registering the accessor plan of a class, for use in AOT
+	 * generated initializers.
+	 * @param type the class of the beans
+	 * @return the code, or {@code null} if the class or one of its getters is not
+	 * publicly accessible
+	 */
+	public static CodeBlock toCodeBlock(Class<?> type) {
+		if (!isPublic(type)) {
+			return null;
+		}
+		List<Property> properties;
+		try {
+			properties = introspect(type);
+		}
+		catch (EncodeException ex) {
+			return null;
+		}
+		CodeBlock.Builder accessors = CodeBlock.builder();
+		for (Property property : properties) {
+			Method method = property.readMethod();
+			if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())) {
+				return null;
+			}
+			accessors.add(",\nnew $T($S, bean -> (($T) bean).$N())", Accessor.class, property.name(), type,
+					method.getName());
+		}
+		return CodeBlock.of("$T.register($T.class$L)", QueryMapAccessors.class, type, accessors.build());
+	}
+
+	private static List<Property> introspect(Class<?> type) {
+		try {
+			List<Property> properties = new ArrayList<>();
+			for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+				Method readMethod = descriptor.getReadMethod();
+				if (readMethod != null && !"class".equals(descriptor.getName())) {
+					Param alias = readMethod.getAnnotation(Param.class);
+					properties.add(new Property(alias != null ? alias.value() : descriptor.getName(), readMethod));
+				}
+			}
+			return properties;
+		}
+		catch (IntrospectionException ex) {
+			throw new EncodeException("Failure encoding object into query map", ex);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> getter(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (Modifier.isPublic(method.getModifiers()) && isPublic(declaringClass)
+				&& ClassUtils.isVisible(declaringClass, QueryMapAccessors.class.getClassLoader())) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				MethodHandle handle = lookup.unreflect(method);
+				CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+				return (Function<Object, Object>) site.getTarget().invoke();
+			}
+			catch (Throwable ex) {
+				// fall back to reflection
+			}
+		}
+		return bean -> ReflectionUtils.invokeMethod(method, bean);
+	}
+
+	private static boolean isPublic(Class<?> type) {
+		for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+			if (!Modifier.isPublic(current.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private record Property(String name, Method readMethod) {
+
+	}
+
+	/**
+	 * Reads one property of a bean.
+	 *
+	 * @param name the query parameter name of the property
+	 * @param getter the function returning the value of the property
+	 */
+	public record Accessor(String name, Function<Object, Object> getter) {
+
+	}
+
+}
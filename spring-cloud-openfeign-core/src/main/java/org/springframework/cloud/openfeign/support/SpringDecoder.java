@@ -28,6 +28,7 @@ import feign.codec.DecodeException;
 import feign.codec.Decoder;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.openfeign.jfr.FeignDecodeEvent;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
@@ -55,7 +56,14 @@ public class SpringDecoder implements Decoder {
 			HttpMessageConverterExtractor<?> extractor = new HttpMessageConverterExtractor(type,
 					converters.getObject().getConverters());
 
-			return extractor.extractData(new FeignResponseAdapter(response));
+			FeignDecodeEvent event = new FeignDecodeEvent();
+			event.begin();
+			try {
+				return extractor.extractData(new FeignResponseAdapter(response));
+			}
+			finally {
+				event.commit(response, type);
+			}
 		}
 		throw new DecodeException(response.status(), "type is not an instance of Class or ParameterizedType: " + type,
 				response.request());
@@ -23,6 +23,7 @@ import java.lang.reflect.Type;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +38,7 @@ import feign.MethodMetadata;
 import feign.Param;
 import feign.QueryMap;
 import feign.Request;
+import feign.RequestTemplate;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -123,6 +125,10 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 
 	private final boolean removeTrailingSlash;
 
+	private final boolean defaultParameterProcessors;
+
+	private Map<String, Recording> recordings;
+
 	public SpringMvcContract() {
 		this(Collections.emptyList());
 	}
@@ -143,6 +149,7 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 
 		List<AnnotatedParameterProcessor> processors = getDefaultAnnotatedArgumentsProcessors();
 		processors.addAll(annotatedParameterProcessors);
+		defaultParameterProcessors = annotatedParameterProcessors.isEmpty();
 
 		annotatedArgumentProcessors = toAnnotatedArgumentProcessorMap(processors);
 		this.conversionService = conversionService;
@@ -187,8 +194,109 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 		this.resourceLoader = resourceLoader;
 	}
 
+	/**
+	 * Parses the given Feign client interface and returns the result in a form that can
+	 * be generated ahead of time and registered with
+	 * {@link PrecomputedMethodMetadata#register}. The interface is parsed with the
+	 * default parameter processors and properties.
+	 * @param targetType the Feign client interface
+	 * @return the metadata of the methods, or {@code null} if the interface uses property
+	 * placeholders or features whose result cannot be precomputed
+	 */
+	public static List<PrecomputedMethodMetadata> precompute(Class<?> targetType) {
+		SpringMvcContract contract = new SpringMvcContract();
+		contract.recordings = new HashMap<>();
+		List<MethodMetadata> metadata;
+		try {
+			metadata = contract.parseAndValidateMetadata(targetType);
+		}
+		catch (RuntimeException ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Could not precompute the metadata of " + targetType.getName(), ex);
+			}
+			return null;
+		}
+		List<PrecomputedMethodMetadata> precomputed = new ArrayList<>();
+		for (MethodMetadata data : metadata) {
+			PrecomputedMethodMetadata method = contract.toPrecomputed(data);
+			if (method == null) {
+				return null;
+			}
+			precomputed.add(method);
+		}
+		return precomputed;
+	}
+
+	private PrecomputedMethodMetadata toPrecomputed(MethodMetadata data) {
+		Recording recording = recordings.get(data.configKey());
+		RequestTemplate template = data.template();
+		if (recording == null || recording.uris.size() > 1 || template.bodyTemplate() != null
+				|| data.queryMapEncoder() != null || !data.indexToExpanderClass().isEmpty()
+				|| data.indexToExpander() != null && data.indexToExpander()
+					.keySet()
+					.stream()
+					.anyMatch(index -> !recording.converted.get(index))) {
+			return null;
+		}
+		PrecomputedMethodMetadata precomputed = PrecomputedMethodMetadata.of(data.configKey(), template.method())
+			.decodeSlash(template.decodeSlash())
+			.collectionFormat(template.collectionFormat());
+		if (!recording.uris.isEmpty()) {
+			if (hasPlaceholder(recording.uris.get(0))) {
+				return null;
+			}
+			// the queries of the URI are recorded along with the other queries below
+			String uri = recording.uris.get(0);
+			int queryStart = uri.indexOf('?');
+			precomputed.uri((queryStart >= 0) ? uri.substring(0, queryStart) : uri);
+		}
+		for (Map.Entry<String, Collection<String>> query : template.queries().entrySet()) {
+			if (hasPlaceholder(query.getKey()) || query.getValue().stream().anyMatch(this::hasPlaceholder)) {
+				return null;
+			}
+			precomputed.query(query.getKey(), query.getValue().toArray(String[]::new));
+		}
+		for (Map.Entry<String, Collection<String>> header : template.headers().entrySet()) {
+			if (hasPlaceholder(header.getKey()) || header.getValue().stream().anyMatch(this::hasPlaceholder)) {
+				return null;
+			}
+			precomputed.header(header.getKey(), header.getValue().toArray(String[]::new));
+		}
+		for (int i = 0; i < data.method().getParameterCount(); i++) {
+			Collection<String> names = data.indexToName().get(i);
+			precomputed.parameter(i, recording.httpAnnotations.get(i), recording.converted.get(i),
+					names != null ? names.toArray(String[]::new) : new String[0]);
+			List<String> formParams = recording.formParams.get(i);
+			if (formParams != null && !formParams.isEmpty()) {
+				precomputed.formParams(i, formParams.toArray(String[]::new));
+			}
+		}
+		data.indexToEncoded().forEach(precomputed::encoded);
+		if (data.queryMapIndex() != null) {
+			precomputed.queryMapIndex(data.queryMapIndex());
+		}
+		if (data.headerMapIndex() != null) {
+			precomputed.headerMapIndex(data.headerMapIndex());
+		}
+		return precomputed;
+	}
+
+	private boolean hasPlaceholder(String value) {
+		return value != null && value.contains("${");
+	}
+
+	private PrecomputedMethodMetadata precomputed(MethodMetadata data) {
+		if (!defaultParameterProcessors || recordings != null) {
+			return null;
+		}
+		return PrecomputedMethodMetadata.get(data.targetType(), data.configKey(), decodeSlash, removeTrailingSlash);
+	}
+
 	@Override
 	protected void processAnnotationOnClass(MethodMetadata data, Class<?> clz) {
+		if (precomputed(data) != null) {
+			return;
+		}
 		RequestMapping classAnnotation = findMergedAnnotation(clz, RequestMapping.class);
 		if (classAnnotation != null) {
 			LOG.error("Cannot process class: " + clz.getName()
@@ -204,6 +312,9 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 	@Override
 	public MethodMetadata parseAndValidateMetadata(Class<?> targetType, Method method) {
 		processedMethods.put(Feign.configKey(targetType, method), method);
+		if (recordings != null) {
+			recordings.put(Feign.configKey(targetType, method), new Recording());
+		}
 		MethodMetadata metadata = super.parseAndValidateMetadata(targetType, method);
 
 		if (isGetMethod(metadata) && method.getParameterCount() > 0
@@ -250,6 +361,15 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 
 	@Override
 	protected void processAnnotationOnMethod(MethodMetadata data, Annotation methodAnnotation, Method method) {
+		PrecomputedMethodMetadata precomputed = precomputed(data);
+		if (precomputed != null) {
+			if (data.template().method() == null) {
+				precomputed.applyTo(data.template());
+				data.indexToExpander(new LinkedHashMap<>());
+			}
+			return;
+		}
+
 		if (methodAnnotation instanceof CollectionFormat) {
 			CollectionFormat collectionFormat = findMergedAnnotation(method, CollectionFormat.class);
 			data.template().collectionFormat(collectionFormat.value());
@@ -283,6 +403,9 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 					pathValue = pathValue.substring(0, pathValue.length() - 1);
 				}
 				data.template().uri(pathValue, true);
+				if (recordings != null) {
+					recording(data).uris.add(pathValue);
+				}
 				if (data.template().decodeSlash() != decodeSlash) {
 					data.template().decodeSlash(decodeSlash);
 				}
@@ -324,6 +447,15 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 
 	@Override
 	protected boolean processAnnotationsOnParameter(MethodMetadata data, Annotation[] annotations, int paramIndex) {
+		PrecomputedMethodMetadata precomputed = precomputed(data);
+		if (precomputed != null) {
+			boolean isHttpAnnotation = precomputed.applyTo(data, paramIndex);
+			if (precomputed.isConverted(paramIndex)) {
+				addConvertingExpander(data, data.method(), paramIndex);
+			}
+			return isHttpAnnotation;
+		}
+		int formParamCount = data.formParams().size();
 		boolean isHttpAnnotation = false;
 
 		try {
@@ -356,18 +488,35 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 			}
 		}
 
-		if (!isMultipartFormData(data) && isHttpAnnotation && data.indexToExpander().get(paramIndex) == null) {
-			TypeDescriptor typeDescriptor = createTypeDescriptor(method, paramIndex);
-			if (conversionService.canConvert(typeDescriptor, STRING_TYPE_DESCRIPTOR)) {
-				Param.Expander expander = convertingExpanderFactory.getExpander(typeDescriptor);
-				if (expander != null) {
-					data.indexToExpander().put(paramIndex, expander);
-				}
-			}
+		boolean converted = !isMultipartFormData(data) && isHttpAnnotation
+				&& data.indexToExpander().get(paramIndex) == null;
+		if (converted) {
+			addConvertingExpander(data, method, paramIndex);
+		}
+		if (recordings != null) {
+			Recording recording = recording(data);
+			recording.httpAnnotations.set(paramIndex, isHttpAnnotation);
+			recording.converted.set(paramIndex, converted);
+			recording.formParams.put(paramIndex,
+					new ArrayList<>(data.formParams().subList(formParamCount, data.formParams().size())));
 		}
 		return isHttpAnnotation;
 	}
 
+	private void addConvertingExpander(MethodMetadata data, Method method, int paramIndex) {
+		TypeDescriptor typeDescriptor = createTypeDescriptor(method, paramIndex);
+		if (conversionService.canConvert(typeDescriptor, STRING_TYPE_DESCRIPTOR)) {
+			Param.Expander expander = convertingExpanderFactory.getExpander(typeDescriptor);
+			if (expander != null) {
+				data.indexToExpander().put(paramIndex, expander);
+			}
+		}
+	}
+
+	private Recording recording(MethodMetadata data) {
+		return recordings.computeIfAbsent(data.configKey(), key -> new Recording());
+	}
+
 	private boolean queryMapParamPresent(MethodMetadata data) {
 		Annotation[][] paramsAnnotations = data.method().getParameterAnnotations();
 		for (int i = 0; i < paramsAnnotations.length; i++) {
@@ -496,6 +645,10 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 	private record ConvertingExpanderFactory(ConversionService conversionService) {
 
 		Param.Expander getExpander(TypeDescriptor typeDescriptor) {
+			Param.Expander preResolved = PreResolvedExpanders.find(conversionService, typeDescriptor);
+			if (preResolved != null) {
+				return preResolved;
+			}
 			return value -> {
 				Object converted = conversionService.convert(value, typeDescriptor, STRING_TYPE_DESCRIPTOR);
 				return (String) converted;
@@ -537,6 +690,18 @@ public class SpringMvcContract extends Contract.BaseContract implements Resource
 
 	}
 
+	private static final class Recording {
+
+		private final List<String> uris = new ArrayList<>();
+
+		private final BitSet httpAnnotations = new BitSet();
+
+		private final BitSet converted = new BitSet();
+
+		private final Map<Integer, List<String>> formParams = new HashMap<>();
+
+	}
+
 	private static class NameValueResolver {
 
 		private final String name;
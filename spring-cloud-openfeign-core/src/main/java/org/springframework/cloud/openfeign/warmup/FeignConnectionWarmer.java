@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Opens connections of a Feign client transport ahead of the first requests, so that the
+ * TCP and TLS handshakes are not paid by the requests served right after startup.
+ *
+ * @since 5.1.0
+ * @see FeignConnectionWarmupListener
+ */
+public interface FeignConnectionWarmer {
+
+	/**
+	 * Opens connections to the given target and keeps them in the connection pool of the
+	 * transport.
+	 * @param target the scheme, host and port to connect to
+	 * @param connections the number of connections to open
+	 * @param timeout the maximum time to spend warming up the target
+	 * @return the number of connections opened
+	 * @throws Exception if opening the connections fails
+	 */
+	int warmUp(URI target, int connections, Duration timeout) throws Exception;
+
+}
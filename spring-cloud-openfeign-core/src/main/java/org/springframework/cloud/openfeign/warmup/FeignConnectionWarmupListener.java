@@ -0,0 +1,138 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Warms up the connection pools of the Feign client transports once the application
+ * context has been started. As the {@link ApplicationStartedEvent} is published before
+ * the {@link ApplicationReadyEvent} and the switch of the readiness state to
+ * {@code ACCEPTING_TRAFFIC}, the application only reports itself as ready once the
+ * warm-up has completed or timed out. Failures are logged and never prevent the
+ * application from starting.
+ *
+ * @since 5.1.0
+ */
+public class FeignConnectionWarmupListener implements ApplicationListener<ApplicationStartedEvent> {
+
+	private static final Log LOG = LogFactory.getLog(FeignConnectionWarmupListener.class);
+
+	private static final int MAX_THREADS = 8;
+
+	private final List<FeignConnectionWarmer> warmers;
+
+	private final FeignConnectionWarmupTargets targets;
+
+	private final FeignHttpClientProperties.WarmupProperties properties;
+
+	public FeignConnectionWarmupListener(List<FeignConnectionWarmer> warmers, FeignConnectionWarmupTargets targets,
+			FeignHttpClientProperties.WarmupProperties properties) {
+		this.warmers = warmers;
+		this.targets = targets;
+		this.properties = properties;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationStartedEvent event) {
+		ConfigurableApplicationContext context = event.getApplicationContext();
+		if (warmers.isEmpty()) {
+			return;
+		}
+		Set<URI> resolved = targets.resolve(context.getBeanFactory(), context.getEnvironment());
+		if (!resolved.isEmpty()) {
+			warmUp(resolved);
+		}
+	}
+
+	/**
+	 * Opens the configured number of connections to each of the given targets with every
+	 * available {@link FeignConnectionWarmer}, waiting at most for the configured
+	 * timeout.
+	 * @param resolved the targets to warm up
+	 * @return the number of connections opened
+	 */
+	public int warmUp(Set<URI> resolved) {
+		AtomicInteger opened = new AtomicInteger();
+		int tasks = resolved.size() * warmers.size();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks, MAX_THREADS),
+				new CustomizableThreadFactory("feign-warmup-"));
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>(tasks);
+			for (URI target : resolved) {
+				for (FeignConnectionWarmer warmer : warmers) {
+					futures.add(CompletableFuture.runAsync(() -> warmUp(warmer, target, opened), executor));
+				}
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+				.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			LOG.warn("Feign connection warm-up did not complete within " + properties.getTimeout());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception ex) {
+			LOG.warn("Feign connection warm-up failed", ex);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		if (LOG.isInfoEnabled()) {
+			LOG.info("Opened " + opened.get() + " Feign connections to " + resolved.size() + " targets");
+		}
+		return opened.get();
+	}
+
+	private void warmUp(FeignConnectionWarmer warmer, URI target, AtomicInteger opened) {
+		try {
+			opened.addAndGet(warmer.warmUp(target, properties.getConnectionsPerRoute(), properties.getTimeout()));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Could not warm up connections to " + target, ex);
+			}
+			else if (LOG.isWarnEnabled()) {
+				LOG.warn("Could not warm up connections to " + target + ": " + ex.getMessage());
+			}
+		}
+	}
+
+}
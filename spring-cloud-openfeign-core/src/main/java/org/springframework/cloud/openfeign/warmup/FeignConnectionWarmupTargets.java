@@ -0,0 +1,153 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.openfeign.FeignClientFactoryBean;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the hosts the registered Feign clients talk to, either from their configured
+ * URL or, for load-balanced clients, from the instances known to the
+ * {@link DiscoveryClient}.
+ *
+ * @since 5.1.0
+ */
+public class FeignConnectionWarmupTargets {
+
+	private static final Log LOG = LogFactory.getLog(FeignConnectionWarmupTargets.class);
+
+	private final FeignHttpClientProperties.WarmupProperties properties;
+
+	private final FeignClientProperties clientProperties;
+
+	private final ObjectProvider<DiscoveryClient> discoveryClient;
+
+	public FeignConnectionWarmupTargets(FeignHttpClientProperties.WarmupProperties properties,
+			FeignClientProperties clientProperties, ObjectProvider<DiscoveryClient> discoveryClient) {
+		this.properties = properties;
+		this.clientProperties = clientProperties;
+		this.discoveryClient = discoveryClient;
+	}
+
+	/**
+	 * Resolves the targets of all Feign clients registered in the given bean factory.
+	 * @param beanFactory the bean factory holding the Feign client definitions
+	 * @param environment the environment used to resolve URL placeholders
+	 * @return the distinct {@code scheme://host:port} targets to warm up
+	 */
+	public Set<URI> resolve(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+		Set<URI> targets = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+			ClientInfo client = clientInfo(definition);
+			if (client == null || !isIncluded(client)) {
+				continue;
+			}
+			String url = client.url();
+			if (!StringUtils.hasText(url) && clientProperties != null) {
+				FeignClientProperties.FeignClientConfiguration config = clientProperties.getConfig()
+					.get(client.contextId());
+				url = config != null ? config.getUrl() : null;
+			}
+			if (StringUtils.hasText(url)) {
+				addTarget(targets, environment.resolvePlaceholders(url));
+			}
+			else if (properties.isLoadBalancedInstances()) {
+				addInstances(targets, client.name());
+			}
+		}
+		return targets;
+	}
+
+	private boolean isIncluded(ClientInfo client) {
+		Collection<String> clients = properties.getClients();
+		return clients.isEmpty() || clients.contains(client.contextId()) || clients.contains(client.name());
+	}
+
+	private void addInstances(Set<URI> targets, String serviceId) {
+		DiscoveryClient client = discoveryClient.getIfAvailable();
+		if (client == null || !StringUtils.hasText(serviceId)) {
+			return;
+		}
+		try {
+			for (ServiceInstance instance : client.getInstances(serviceId)) {
+				addTarget(targets, instance.getUri().toString());
+			}
+		}
+		catch (RuntimeException ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Could not resolve instances of service [" + serviceId + "] for connection warm-up", ex);
+			}
+		}
+	}
+
+	private static void addTarget(Set<URI> targets, String url) {
+		String value = url.contains("://") ? url : "http://" + url;
+		try {
+			URI uri = URI.create(value);
+			if (uri.getHost() != null) {
+				targets.add(new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), null, null, null));
+			}
+		}
+		catch (Exception ex) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Skipping connection warm-up for invalid URL [" + url + "]", ex);
+			}
+		}
+	}
+
+	private static ClientInfo clientInfo(BeanDefinition definition) {
+		Object factoryBean = definition.getAttribute("feignClientsRegistrarFactoryBean");
+		if (factoryBean instanceof FeignClientFactoryBean feignClientFactoryBean) {
+			return new ClientInfo(feignClientFactoryBean.getName(), feignClientFactoryBean.getContextId(),
+					feignClientFactoryBean.getUrl());
+		}
+		if (!FeignClientFactoryBean.class.getName().equals(definition.getBeanClassName())) {
+			return null;
+		}
+		PropertyValues values = definition.getPropertyValues();
+		return new ClientInfo(stringValue(values, "name"), stringValue(values, "contextId"),
+				stringValue(values, "url"));
+	}
+
+	private static String stringValue(PropertyValues values, String name) {
+		Object value = values.getPropertyValue(name) != null ? values.getPropertyValue(name).getValue() : null;
+		return value != null ? value.toString() : null;
+	}
+
+	private record ClientInfo(String name, String contextId, String url) {
+
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link FeignConnectionWarmer} for the Java {@link HttpClient}. As the JDK client does
+ * not expose its connection pool, connections are opened by sending real probe requests
+ * to the target, {@code HEAD /} by default. The probe should target a path without side
+ * effects, such as a health check. With HTTP/2, a single connection is multiplexed, so
+ * additional connections per target are only opened for HTTP/1.1 targets.
+ *
+ * @since 5.1.0
+ */
+public class Http2ClientConnectionWarmer implements FeignConnectionWarmer {
+
+	private final HttpClient httpClient;
+
+	private final String probeMethod;
+
+	private final String probePath;
+
+	public Http2ClientConnectionWarmer(HttpClient httpClient) {
+		this(httpClient, "HEAD", "/");
+	}
+
+	public Http2ClientConnectionWarmer(HttpClient httpClient, String probeMethod, String probePath) {
+		this.httpClient = httpClient;
+		this.probeMethod = probeMethod;
+		this.probePath = probePath;
+	}
+
+	@Override
+	public int warmUp(URI target, int connections, Duration timeout) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(target.resolve(probePath))
+			.method(probeMethod, HttpRequest.BodyPublishers.noBody())
+			.timeout(timeout)
+			.build();
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+		for (int i = 0; i < connections; i++) {
+			responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+		}
+		try {
+			CompletableFuture.allOf(responses).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			// Only the probes that completed successfully in time are counted
+		}
+		int completed = 0;
+		for (CompletableFuture<?> response : responses) {
+			if (response.isDone() && !response.isCompletedExceptionally()) {
+				completed++;
+			}
+			else {
+				response.cancel(true);
+			}
+		}
+		return completed;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * {@link FeignConnectionWarmer} that leases and connects endpoints of an Apache
+ * HttpClient 5 {@link HttpClientConnectionManager} and returns them to the pool as
+ * reusable connections, without sending any request.
+ *
+ * @since 5.1.0
+ */
+public class HttpClient5ConnectionWarmer implements FeignConnectionWarmer {
+
+	private final HttpClientConnectionManager connectionManager;
+
+	private final TimeValue connectTimeout;
+
+	private final TimeValue keepAlive;
+
+	public HttpClient5ConnectionWarmer(HttpClientConnectionManager connectionManager, TimeValue connectTimeout,
+			TimeValue keepAlive) {
+		this.connectionManager = connectionManager;
+		this.connectTimeout = connectTimeout;
+		this.keepAlive = keepAlive;
+	}
+
+	@Override
+	public int warmUp(URI target, int connections, Duration timeout) throws Exception {
+		HttpRoute route = route(target);
+		long deadline = System.nanoTime() + timeout.toNanos();
+		List<ConnectionEndpoint> endpoints = new ArrayList<>(connections);
+		int opened = 0;
+		try {
+			// all endpoints are leased before any is released, so that distinct
+			// connections are opened instead of reusing the first one
+			for (int i = 0; i < connections; i++) {
+				Timeout remaining = Timeout
+					.ofMilliseconds(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+				ConnectionEndpoint endpoint = connectionManager.lease("feign-warmup-" + i, route, remaining, null)
+					.get(remaining);
+				endpoints.add(endpoint);
+				if (!endpoint.isConnected()) {
+					connectionManager.connect(endpoint, connectTimeout, HttpClientContext.create());
+					opened++;
+				}
+			}
+		}
+		finally {
+			for (ConnectionEndpoint endpoint : endpoints) {
+				connectionManager.release(endpoint, null, keepAlive);
+			}
+		}
+		return opened;
+	}
+
+	static HttpRoute route(URI target) {
+		boolean secure = URIScheme.HTTPS.same(target.getScheme());
+		int port = target.getPort() > 0 ? target.getPort() : (secure ? 443 : 80);
+		return new HttpRoute(new HttpHost(target.getScheme(), target.getHost(), port), null, secure);
+	}
+
+}
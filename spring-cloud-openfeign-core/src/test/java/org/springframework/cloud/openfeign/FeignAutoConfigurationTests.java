@@ -17,9 +17,13 @@
 package org.springframework.cloud.openfeign;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
 
+import feign.Feign;
 import feign.Target;
 import org.assertj.core.api.Condition;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -27,10 +31,18 @@ import org.springframework.boot.test.context.assertj.AssertableApplicationContex
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
 import org.springframework.cloud.openfeign.FeignAutoConfiguration.CircuitBreakerPresentFeignTargeterConfiguration.AlphanumericCircuitBreakerNameResolver;
+import org.springframework.cloud.openfeign.jfr.FeignFlightRecorderCapability;
+import org.springframework.cloud.openfeign.logging.FeignAsyncLogAppender;
+import org.springframework.cloud.openfeign.logging.SampledFeignLoggerFactory;
+import org.springframework.cloud.openfeign.micrometer.MicrometerFeignCallPhaseListener;
+import org.springframework.cloud.openfeign.micrometer.MicrometerOAuth2AccessTokenRefreshListener;
+import org.springframework.cloud.openfeign.micrometer.MicrometerPayloadSizeCapability;
+import org.springframework.cloud.openfeign.security.OAuth2AccessTokenCache;
 import org.springframework.cloud.openfeign.security.OAuth2AccessTokenInterceptor;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -117,6 +129,75 @@ class FeignAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	void shouldConfigureOAuth2AccessTokenCache() {
+		runner
+			.withPropertyValues("spring.cloud.openfeign.oauth2.enabled=true",
+					"spring.cloud.openfeign.oauth2.token-cache.enabled=true",
+					"spring.cloud.openfeign.oauth2.token-cache.refresh-skew=10s",
+					"spring.cloud.openfeign.oauth2.token-cache.background-refresh=true")
+			.withBean(OAuth2AuthorizedClientService.class, () -> mock(OAuth2AuthorizedClientService.class))
+			.withBean(ClientRegistrationRepository.class, () -> mock(ClientRegistrationRepository.class))
+			.run(ctx -> {
+				assertOauth2AccessTokenInterceptorExists(ctx);
+				assertThat(ctx.getBean(OAuth2AccessTokenInterceptor.class)).extracting("tokenCache")
+					.hasFieldOrPropertyWithValue("refreshSkew", Duration.ofSeconds(10))
+					.hasFieldOrPropertyWithValue("backgroundRefresh", true);
+				assertThat(ctx.getBean(OAuth2AccessTokenCache.class))
+					.extracting("refreshListeners", InstanceOfAssertFactories.LIST)
+					.singleElement()
+					.isInstanceOf(MicrometerOAuth2AccessTokenRefreshListener.class);
+			});
+	}
+
+	@Test
+	void shouldConfigureCallPhaseListenerWhenEnabled() {
+		runner.withPropertyValues("spring.cloud.openfeign.micrometer.phases.enabled=true")
+			.run(ctx -> assertThat(ctx).hasSingleBean(MicrometerFeignCallPhaseListener.class));
+	}
+
+	@Test
+	void shouldNotConfigureCallPhaseListenerByDefault() {
+		runner.run(ctx -> assertThat(ctx).doesNotHaveBean(MicrometerFeignCallPhaseListener.class));
+	}
+
+	@Test
+	void shouldConfigurePayloadSizeCapabilityWhenEnabled() {
+		runner.withPropertyValues("spring.cloud.openfeign.micrometer.payload.enabled=true")
+			.run(ctx -> assertThat(ctx).hasSingleBean(MicrometerPayloadSizeCapability.class));
+	}
+
+	@Test
+	void shouldConfigureSampledLoggerFactoryWhenEnabled() {
+		runner.withPropertyValues("spring.cloud.openfeign.logging.sampled.enabled=true")
+			.run(ctx -> assertThat(ctx).hasSingleBean(FeignAsyncLogAppender.class)
+				.getBean(FeignLoggerFactory.class)
+				.isInstanceOf(SampledFeignLoggerFactory.class));
+	}
+
+	@Test
+	void shouldNotConfigureSampledLoggerFactoryByDefault() {
+		runner.run(ctx -> assertThat(ctx).doesNotHaveBean(FeignLoggerFactory.class));
+	}
+
+	@Test
+	void shouldConfigureFlightRecorderCapabilityByDefault() {
+		runner.run(ctx -> {
+			assertThat(ctx).hasBean("feignFlightRecorderCustomizer")
+				.doesNotHaveBean(FeignFlightRecorderCapability.class);
+			Feign.Builder builder = Feign.builder();
+			ctx.getBean("feignFlightRecorderCustomizer", FeignBuilderCustomizer.class).customize(builder);
+			assertThat((List<?>) ReflectionTestUtils.getField(builder, "capabilities")).singleElement()
+				.isInstanceOf(FeignFlightRecorderCapability.class);
+		});
+	}
+
+	@Test
+	void shouldNotConfigureFlightRecorderCapabilityWhenDisabled() {
+		runner.withPropertyValues("spring.cloud.openfeign.jfr.enabled=false")
+			.run(ctx -> assertThat(ctx).doesNotHaveBean("feignFlightRecorderCustomizer"));
+	}
+
 	private void assertOauth2AccessTokenInterceptorExists(ConfigurableApplicationContext ctx) {
 		AssertableApplicationContext context = AssertableApplicationContext.get(() -> ctx);
 		assertThat(context).hasSingleBean(OAuth2AccessTokenInterceptor.class);
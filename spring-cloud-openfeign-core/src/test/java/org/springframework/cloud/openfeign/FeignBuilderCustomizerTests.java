@@ -22,11 +22,14 @@ import java.util.stream.Stream;
 import feign.Client;
 import feign.Feign;
 import feign.Logger;
+import feign.Target.HardCodedTarget;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.cloud.openfeign.startup.FeignClientCreationTracker;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -140,6 +143,30 @@ class FeignBuilderCustomizerTests {
 		context.close();
 	}
 
+	@Test
+	void testOverriddenLoadBalanceIsUsedWhenCreationIsTracked() {
+		ArgumentCaptor<Feign.Builder> feignBuilderCaptor = ArgumentCaptor.forClass(Feign.Builder.class);
+		doCallRealMethod().when(targeterSpy).target(any(), feignBuilderCaptor.capture(), any(), any());
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+		applicationStartup.addFilter(step -> step.getName().startsWith(FeignClientCreationTracker.STEP_NAME));
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.setApplicationStartup(applicationStartup);
+		context.register(OverriddenLoadBalanceConfiguration.class);
+		context.refresh();
+		LoadBalanceOverridingFeignClientFactoryBean clientFactoryBean = context
+			.getBean(LoadBalanceOverridingFeignClientFactoryBean.class);
+		clientFactoryBean.getTarget();
+
+		assertThat(clientFactoryBean.loadBalanced).isTrue();
+		assertFeignBuilderField(feignBuilderCaptor.getValue(), "dismiss404", true);
+		assertThat(applicationStartup.getBufferedTimeline().getEvents())
+			.extracting(event -> event.getStartupStep().getName())
+			.contains("spring.cloud.openfeign.client.customizers", "spring.cloud.openfeign.client.target");
+
+		context.close();
+	}
+
 	private static FeignClientFactoryBean defaultFeignClientFactoryBean(String url) {
 		FeignClientFactoryBean feignClientFactoryBean = new FeignClientFactoryBean();
 		feignClientFactoryBean.setContextId("test");
@@ -252,4 +279,33 @@ class FeignBuilderCustomizerTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@Import(SampleConfiguration3.class)
+	protected static class OverriddenLoadBalanceConfiguration {
+
+		@Primary
+		@Bean
+		LoadBalanceOverridingFeignClientFactoryBean feignClientFactoryBean() {
+			LoadBalanceOverridingFeignClientFactoryBean feignClientFactoryBean = new LoadBalanceOverridingFeignClientFactoryBean();
+			feignClientFactoryBean.setContextId("test");
+			feignClientFactoryBean.setName("test");
+			feignClientFactoryBean.setType(FeignClientFactoryTests.TestType.class);
+			feignClientFactoryBean.setPath("");
+			return feignClientFactoryBean;
+		}
+
+	}
+
+	static class LoadBalanceOverridingFeignClientFactoryBean extends FeignClientFactoryBean {
+
+		private boolean loadBalanced;
+
+		@Override
+		protected <T> T loadBalance(Feign.Builder builder, FeignClientFactory context, HardCodedTarget<T> target) {
+			loadBalanced = true;
+			return super.loadBalance(builder, context, target);
+		}
+
+	}
+
 }
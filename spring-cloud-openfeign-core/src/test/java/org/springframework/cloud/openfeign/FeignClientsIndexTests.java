@@ -0,0 +1,138 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.cloud.openfeign.feignclientsregistrar.TopLevelClient;
+import org.springframework.cloud.openfeign.feignclientsregistrar.sub.SubLevelClient;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FeignClientsIndex}.
+ */
+class FeignClientsIndexTests {
+
+	@TempDir
+	Path indexDirectory;
+
+	@Test
+	void shouldReturnNullWithoutIndex() {
+		assertThat(FeignClientsIndex.load(new URLClassLoader(new URL[0], null))).isNull();
+	}
+
+	@Test
+	void shouldFindIndexedFeignClientsOfBasePackage() throws IOException {
+		ClassLoader classLoader = classLoaderWithIndex(TopLevelClient.class.getName(),
+				"org.springframework.cloud.openfeign.feignclientsregistrar.RemovedClient",
+				FeignClientsIndexTests.class.getName());
+
+		List<AnnotatedBeanDefinition> candidates = FeignClientsIndex.load(classLoader)
+			.findCandidateComponents("org.springframework.cloud.openfeign", new DefaultResourceLoader(classLoader));
+
+		assertThat(candidates).extracting(candidate -> candidate.getMetadata().getClassName())
+			.containsExactly(TopLevelClient.class.getName());
+	}
+
+	@Test
+	void shouldMatchBasePackagePattern() throws IOException {
+		ClassLoader classLoader = classLoaderWithIndex(TopLevelClient.class.getName());
+
+		FeignClientsIndex index = FeignClientsIndex.load(classLoader);
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+
+		assertThat(index.findCandidateComponents("org.springframework.cloud.*.feignclientsregistrar", resourceLoader))
+			.hasSize(1);
+		assertThat(index.findCandidateComponents("org.springframework.cloud.openfeign.feign", resourceLoader))
+			.isEmpty();
+	}
+
+	@Test
+	void shouldCoverBasePackageOnlyWhenAllItsClassesAreIndexed() throws IOException {
+		Path client = indexDirectory.resolve("indexed/covered/Client.class");
+		Files.createDirectories(client.getParent());
+		Files.write(client, new byte[0]);
+		ClassLoader classLoader = classLoaderWithIndex("indexed.covered.Client");
+
+		FeignClientsIndex index = FeignClientsIndex.load(classLoader);
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+
+		assertThat(index.covers("indexed.covered", resourceLoader)).isTrue();
+		assertThat(index.covers("indexed.*", resourceLoader)).isTrue();
+		assertThat(index.covers(TopLevelClient.class.getPackageName(), resourceLoader)).isFalse();
+	}
+
+	@Test
+	void shouldNotCoverBasePackageWhenAnotherRootWithoutIndexHoldsIt(@TempDir Path otherRoot) throws IOException {
+		Files.createDirectories(indexDirectory.resolve("indexed/covered"));
+		Files.createDirectories(otherRoot.resolve("indexed/covered"));
+		ClassLoader classLoader = new URLClassLoader(new URL[] { otherRoot.toUri().toURL() },
+				classLoaderWithIndex("indexed.covered.Client"));
+
+		FeignClientsIndex index = FeignClientsIndex.load(classLoader);
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+
+		assertThat(index.covers("indexed.covered", resourceLoader)).isFalse();
+		assertThat(index.covers("indexed.*", resourceLoader)).isFalse();
+		assertThat(index.covers("other", resourceLoader)).isTrue();
+	}
+
+	@Test
+	void shouldScanBasePackageWhenIndexFromAnotherJarCoversOnlySomeClients() throws IOException {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.setClassLoader(classLoaderWithIndex(TopLevelClient.class.getName()));
+		context.register(IndexedClientsConfiguration.class);
+		context.refresh();
+
+		assertThat(context.getBeanNamesForType(TopLevelClient.class)).hasSize(1);
+		assertThat(context.getBeanNamesForType(SubLevelClient.class)).hasSize(1);
+		context.close();
+	}
+
+	private ClassLoader classLoaderWithIndex(String... types) throws IOException {
+		Path index = indexDirectory.resolve(FeignClientsIndex.INDEX_LOCATION);
+		Files.createDirectories(index.getParent());
+		StringBuilder content = new StringBuilder();
+		for (String type : types) {
+			content.append(type).append('=').append(FeignClient.class.getName()).append('\n');
+		}
+		Files.writeString(index, content);
+		return new URLClassLoader(new URL[] { indexDirectory.toUri().toURL() }, getClass().getClassLoader());
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ImportAutoConfiguration(FeignAutoConfiguration.class)
+	@EnableFeignClients(basePackageClasses = TopLevelClient.class)
+	static class IndexedClientsConfiguration {
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import feign.Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.clientconfig.Http2ClientFeignConfiguration;
+import org.springframework.cloud.openfeign.micrometer.MicrometerHttp2ClientExecutorInstrumentation;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the executor and the dedicated instances of the Java HttpClient.
+ */
+class FeignHttp2ClientExecutorTests {
+
+	private ConfigurableApplicationContext context;
+
+	@BeforeEach
+	void setUp() {
+		context = new SpringApplicationBuilder().web(WebApplicationType.NONE)
+			.properties(Map.of("spring.cloud.openfeign.http2client.enabled", true,
+					"spring.cloud.openfeign.httpclient.hc5.enabled", false,
+					"spring.cloud.openfeign.httpclient.http2.executor.mode", "bounded",
+					"spring.cloud.openfeign.httpclient.http2.executor.max-threads", 4,
+					"spring.cloud.openfeign.httpclient.http2.dedicated-clients", "dedicated"))
+			.sources(MeterRegistryConfiguration.class, FeignAutoConfiguration.class)
+			.run();
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void shouldUseBoundedExecutorWithMetrics() {
+		HttpClient httpClient = context.getBean(HttpClient.class);
+		MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+		assertThat(httpClient.executor()).isPresent();
+		assertThat(registry.get("feign.http2client.executor.pool.max").tag("client", "shared").gauge().value())
+			.isEqualTo(4);
+		assertThat(registry.get(MicrometerHttp2ClientExecutorInstrumentation.REJECTED_METRIC)
+			.tag("client", "shared")
+			.counter()
+			.count()).isZero();
+	}
+
+	@Test
+	void shouldRejectTasksOfSaturatedBoundedExecutor() {
+		ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils
+			.getField(context.getBean(Http2ClientFeignConfiguration.class), "executorService");
+
+		assertThat(executor).isNotNull();
+		assertThat(executor.allowsCoreThreadTimeOut()).isTrue();
+		assertThat(executor.getRejectedExecutionHandler()).isNotInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+	}
+
+	@Test
+	void shouldCreateDedicatedHttpClientInChildContext() {
+		FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+		MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+		HttpClient dedicated = factory.getInstanceWithoutAncestors("dedicated", HttpClient.class);
+		Client client = factory.getInstance("dedicated", Client.class);
+
+		assertThat(dedicated).isNotNull().isNotSameAs(context.getBean(HttpClient.class));
+		assertThat(client).isInstanceOf(Http2Client.class).isNotSameAs(context.getBean(Client.class));
+		assertThat(registry.get("feign.http2client.executor.pool.max").tag("client", "dedicated").gauge()).isNotNull();
+		assertThat(factory.getInstanceWithoutAncestors("other", HttpClient.class)).isNull();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class MeterRegistryConfiguration {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.clientconfig.AsyncHttpClient5Client;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the async Apache HttpClient 5 transport.
+ */
+class FeignHttpClient5AsyncConfigurationTests {
+
+	@Test
+	void shouldNotInstantiateAsyncHttpClient5ByDefault() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder().web(WebApplicationType.NONE)
+			.sources(FeignAutoConfiguration.class)
+			.run()) {
+			assertThat(context.getBeansOfType(CloseableHttpAsyncClient.class)).isEmpty();
+			assertThat(context.getBean(Client.class)).isNotInstanceOf(AsyncHttpClient5Client.class);
+		}
+	}
+
+	@Test
+	void shouldInstantiateAsyncHttpClient5WhenEnabled() throws Exception {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder().web(WebApplicationType.NONE)
+			.properties("spring.cloud.openfeign.httpclient.hc5.async.enabled=true")
+			.sources(FeignAutoConfiguration.class)
+			.run()) {
+			assertThat(context.getBeansOfType(CloseableHttpClient.class)).isEmpty();
+			assertThat(context.getBean(AsyncClientConnectionManager.class)).isNotNull();
+			Client client = context.getBean(Client.class);
+			assertThat(client).isInstanceOf(AsyncHttpClient5Client.class);
+
+			Request request = Request.create(Request.HttpMethod.GET,
+					"http://localhost:" + server.getAddress().getPort() + "/test", Collections.emptyMap(),
+					Request.Body.empty(), new RequestTemplate());
+			try (Response response = client.execute(request, new Request.Options())) {
+				assertThat(response.status()).isEqualTo(200);
+				assertThat(Util.toString(response.body().asReader(StandardCharsets.UTF_8))).isEqualTo("hello");
+			}
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+}
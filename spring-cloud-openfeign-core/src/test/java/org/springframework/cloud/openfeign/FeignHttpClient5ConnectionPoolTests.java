@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.util.Map;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for per-client Apache HttpClient 5 connection pools.
+ */
+class FeignHttpClient5ConnectionPoolTests {
+
+	private ConfigurableApplicationContext context;
+
+	@BeforeEach
+	void setUp() {
+		context = new SpringApplicationBuilder().web(WebApplicationType.NONE)
+			.properties(Map.of("spring.cloud.openfeign.client.config.dedicated.connection-pool.max-connections", 5,
+					"spring.cloud.openfeign.client.config.dedicated.connection-pool.max-connections-per-route", 3,
+					"spring.cloud.openfeign.client.config.dedicated.connection-pool.max-connections-per-host[example.com]",
+					2,
+					"spring.cloud.openfeign.client.config.shared.connection-pool.max-connections-per-host[localhost:8080]",
+					7))
+			.sources(FeignAutoConfiguration.class)
+			.run();
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void shouldCreateDedicatedConnectionPoolInChildContext() {
+		FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+
+		Client client = factory.getInstance("dedicated", Client.class);
+		PoolingHttpClientConnectionManager connectionManager = factory.getInstanceWithoutAncestors("dedicated",
+				PoolingHttpClientConnectionManager.class);
+
+		assertThat(client).isInstanceOf(ApacheHttp5Client.class).isNotSameAs(context.getBean(Client.class));
+		assertThat(connectionManager).isNotSameAs(context.getBean(HttpClientConnectionManager.class));
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(5);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(3);
+		assertThat(
+				connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "example.com", 80), null, false)))
+			.isEqualTo(2);
+	}
+
+	@Test
+	void shouldUseSharedConnectionPoolWithPerHostLimits() {
+		FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+
+		Client client = factory.getInstance("shared", Client.class);
+		PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) context
+			.getBean(HttpClientConnectionManager.class);
+
+		assertThat(client).isSameAs(context.getBean(Client.class));
+		assertThat(factory.getInstanceWithoutAncestors("shared", PoolingHttpClientConnectionManager.class)).isNull();
+		assertThat(
+				connectionManager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 8080), null, false)))
+			.isEqualTo(7);
+	}
+
+}
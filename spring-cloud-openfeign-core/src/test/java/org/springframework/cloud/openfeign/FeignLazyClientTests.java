@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for Feign clients injected as lazy proxies.
+ */
+class FeignLazyClientTests {
+
+	@Test
+	void shouldCreateClientOnFirstCall() {
+		try (ConfigurableApplicationContext context = application()
+			.run("--spring.cloud.openfeign.initialization.background-initialization=false")) {
+			FirstClient client = context.getBean(Consumer.class).client();
+			FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+
+			assertThat(AopUtils.isAopProxy(client)).isTrue();
+			assertThat(targetSource(client).isInitialized()).isFalse();
+			assertThat(factory.getContextNames()).isEmpty();
+
+			assertThat(client.toString()).contains("first");
+			assertThat(targetSource(client).isInitialized()).isTrue();
+			assertThat(factory.getContextNames()).containsExactly("first");
+		}
+	}
+
+	@Test
+	void shouldCreateClientsInBackgroundOnceReady() {
+		try (ConfigurableApplicationContext context = application().run()) {
+			FirstClient first = context.getBean(FirstClient.class);
+			SecondClient second = context.getBean(SecondClient.class);
+
+			await().atMost(Duration.ofSeconds(10))
+				.untilAsserted(
+						() -> assertThat(targetSource(first).isInitialized() && targetSource(second).isInitialized())
+							.isTrue());
+			assertThat(context.getBean(FeignClientFactory.class).getContextNames()).containsExactlyInAnyOrder("first",
+					"second");
+			LazyFeignClientInitializer initializer = context.getBean(LazyFeignClientInitializer.class);
+			await().atMost(Duration.ofSeconds(10))
+				.untilAsserted(() -> assertThat(targetSources(initializer)).isEmpty());
+
+			initializer.createProxy(FirstClient.class, "first", () -> first);
+			assertThat(targetSources(initializer)).isEmpty();
+		}
+	}
+
+	@Test
+	void shouldNotRetainProxiesWithoutBackgroundInitialization() {
+		try (ConfigurableApplicationContext context = application()
+			.run("--spring.cloud.openfeign.initialization.background-initialization=false")) {
+			LazyFeignClientInitializer initializer = context.getBean(LazyFeignClientInitializer.class);
+
+			initializer.createProxy(FirstClient.class, "first", () -> null);
+
+			assertThat(targetSources(initializer)).isEmpty();
+		}
+	}
+
+	@Test
+	void shouldCreateClientsEagerlyByDefault() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+			.web(WebApplicationType.NONE)
+			.run()) {
+			assertThat(AopUtils.isAopProxy(context.getBean(FirstClient.class))).isFalse();
+			assertThat(context.getBeansOfType(LazyFeignClientInitializer.class)).isEmpty();
+		}
+	}
+
+	private static AbstractLazyCreationTargetSource targetSource(Object client) {
+		return (AbstractLazyCreationTargetSource) ((Advised) client).getTargetSource();
+	}
+
+	private static List<?> targetSources(LazyFeignClientInitializer initializer) {
+		return (List<?>) ReflectionTestUtils.getField(initializer, "targetSources");
+	}
+
+	private static SpringApplicationBuilder application() {
+		return new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE)
+			.properties("spring.cloud.openfeign.initialization.lazy=true");
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(clients = { FirstClient.class, SecondClient.class })
+	@EnableAutoConfiguration
+	static class Application {
+
+		@Bean
+		Consumer consumer(FirstClient client) {
+			return new Consumer(client);
+		}
+
+	}
+
+	record Consumer(FirstClient client) {
+	}
+
+	@FeignClient(name = "first", url = "http://localhost:1")
+	interface FirstClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "second", url = "http://localhost:1")
+	interface SecondClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.openfeign.micrometer.MicrometerFeignClientInitializationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the parallel creation of the child contexts of Feign clients.
+ */
+class FeignParallelInitializationTests {
+
+	private static final Map<String, String> CREATING_THREADS = new ConcurrentHashMap<>();
+
+	@Test
+	void shouldCreateContextsOfInjectedClientsInParallel() {
+		CREATING_THREADS.clear();
+		try (ConfigurableApplicationContext context = application(Application.class).run()) {
+			FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+			MeterRegistry registry = context.getBean(MeterRegistry.class);
+			Consumer consumer = context.getBean(Consumer.class);
+
+			assertThat(List.of(consumer.first(), consumer.second(), consumer.third()))
+				.allSatisfy(client -> assertThat(AopUtils.isAopProxy(client)).isTrue());
+			assertThat(factory.getContextNames()).contains("first", "second", "third");
+			assertThat(CREATING_THREADS).containsOnlyKeys("first", "second", "third");
+			assertThat(CREATING_THREADS.values())
+				.allSatisfy(thread -> assertThat(thread).startsWith("feign-context-init-"));
+			assertThat(factory.getInstance("second", ThreadRecorder.class).contextId).isEqualTo("second");
+			assertThat(Set.of("first", "second", "third")).allSatisfy(
+					client -> assertThat(registry.get(MicrometerFeignClientInitializationListener.INITIALIZATION_METRIC)
+						.tag("client", client)
+						.timer()
+						.count()).isOne());
+		}
+	}
+
+	@Test
+	void shouldCreateContextsDependingOnParentBeansCreatedLater() {
+		CREATING_THREADS.clear();
+		try (ConfigurableApplicationContext context = application(ParentBeanApplication.class)
+			.properties("spring.cloud.openfeign.initialization.timeout=5s")
+			.run()) {
+			FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+			ParentBean parentBean = context.getBean(ParentBean.class);
+
+			assertThat(factory.getInstance("first", ParentBeanUser.class).parentBean).isSameAs(parentBean);
+			assertThat(factory.getInstance("second", ParentBeanUser.class).parentBean).isSameAs(parentBean);
+			assertThat(CREATING_THREADS.get("second")).startsWith("feign-context-init-");
+		}
+	}
+
+	@Test
+	void shouldReportFailuresOrderedByClient() {
+		assertThatThrownBy(() -> application(FailingApplication.class).run().close())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Failed to create the contexts of Feign clients [a-failing, b-failing]")
+			.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1))
+			.rootCause()
+			.hasMessage("Failing client");
+	}
+
+	private static SpringApplicationBuilder application(Class<?> source) {
+		return new SpringApplicationBuilder(source).web(WebApplicationType.NONE)
+			.properties("spring.cloud.openfeign.initialization.parallel=true",
+					"spring.cloud.openfeign.initialization.max-threads=2");
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(clients = { FirstClient.class, SecondClient.class, ThirdClient.class })
+	@EnableAutoConfiguration
+	static class Application {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		Consumer consumer(FirstClient first, SecondClient second, ThirdClient third) {
+			return new Consumer(first, second, third);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(clients = { AFailingClient.class, BFailingClient.class, ThirdClient.class })
+	@EnableAutoConfiguration
+	static class FailingApplication {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(defaultConfiguration = ParentBeanUserConfiguration.class,
+			clients = { FirstClient.class, SecondClient.class })
+	@EnableAutoConfiguration
+	static class ParentBeanApplication {
+
+		@Bean
+		FirstClientConsumer consumer(FirstClient client) {
+			return new FirstClientConsumer(client);
+		}
+
+		@Bean
+		ParentBean parentBean() {
+			return new ParentBean();
+		}
+
+	}
+
+	record Consumer(FirstClient first, SecondClient second, ThirdClient third) {
+	}
+
+	record FirstClientConsumer(FirstClient client) {
+	}
+
+	static class ParentBean {
+
+	}
+
+	record ParentBeanUser(ParentBean parentBean) {
+	}
+
+	static class ParentBeanUserConfiguration {
+
+		@Bean
+		ParentBeanUser parentBeanUser(ParentBean parentBean) {
+			return new ParentBeanUser(parentBean);
+		}
+
+	}
+
+	@FeignClient(name = "first", url = "http://localhost:1", configuration = ThreadRecordingConfiguration.class)
+	interface FirstClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "second", url = "http://localhost:1", configuration = ThreadRecordingConfiguration.class)
+	interface SecondClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "third", url = "http://localhost:1", configuration = ThreadRecordingConfiguration.class)
+	interface ThirdClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "b-failing", url = "http://localhost:1", configuration = FailingConfiguration.class)
+	interface BFailingClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "a-failing", url = "http://localhost:1", configuration = FailingConfiguration.class)
+	interface AFailingClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	static class ThreadRecorder {
+
+		private final String contextId;
+
+		ThreadRecorder(String contextId) {
+			this.contextId = contextId;
+			CREATING_THREADS.put(contextId, Thread.currentThread().getName());
+		}
+
+	}
+
+	static class ThreadRecordingConfiguration {
+
+		@Bean
+		ThreadRecorder threadRecorder(Environment environment) {
+			return new ThreadRecorder(environment.getProperty("spring.cloud.openfeign.client.name"));
+		}
+
+	}
+
+	static class FailingConfiguration {
+
+		@Bean
+		ThreadRecorder threadRecorder() {
+			throw new IllegalStateException("Failing client");
+		}
+
+	}
+
+}
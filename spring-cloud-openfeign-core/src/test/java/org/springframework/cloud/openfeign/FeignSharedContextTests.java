@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign;
+
+import feign.Contract;
+import feign.RequestLine;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for sharing child contexts between Feign clients with equivalent configuration.
+ */
+class FeignSharedContextTests {
+
+	@Test
+	void shouldShareContextsOfEquivalentClients() {
+		try (ConfigurableApplicationContext context = application().run(
+				"--spring.cloud.openfeign.initialization.shared-contexts=true",
+				"--spring.cloud.openfeign.client.config.overridden.read-timeout=1000")) {
+			FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+
+			assertThat(factory.getSharedContextIds()).containsOnly(entry("configured", "configured"),
+					entry("first", "first"), entry("overridden", "overridden"), entry("second", "first"),
+					entry("third", "first"));
+			assertThat(factory.getInstance("second", Decoder.class))
+				.isSameAs(factory.getInstance("first", Decoder.class))
+				.isSameAs(factory.getInstance("third", Decoder.class));
+			assertThat(factory.getInstance("overridden", Decoder.class))
+				.isNotSameAs(factory.getInstance("first", Decoder.class));
+			assertThat(factory.getInstance("configured", Contract.class)).isInstanceOf(Contract.Default.class);
+			assertThat(factory.getInstance("first", Contract.class)).isNotInstanceOf(Contract.Default.class);
+			assertThat(context.getBean(SecondClient.class)).isNotNull();
+			assertThat(factory.getContextNames()).containsExactlyInAnyOrder("first", "overridden", "configured");
+		}
+	}
+
+	@Test
+	void shouldNotShareContextsByDefault() {
+		try (ConfigurableApplicationContext context = application().run()) {
+			FeignClientFactory factory = context.getBean(FeignClientFactory.class);
+
+			assertThat(factory.getSharedContextIds()).isEmpty();
+			assertThat(factory.getInstance("second", Decoder.class))
+				.isNotSameAs(factory.getInstance("first", Decoder.class));
+		}
+	}
+
+	private static SpringApplicationBuilder application() {
+		return new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(clients = { FirstClient.class, SecondClient.class, ThirdClient.class, OverriddenClient.class,
+			ConfiguredClient.class })
+	@EnableAutoConfiguration
+	static class Application {
+
+	}
+
+	@FeignClient(name = "first", url = "http://localhost:1")
+	interface FirstClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "second", url = "http://localhost:1")
+	interface SecondClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "third", url = "http://localhost:1")
+	interface ThirdClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "overridden", url = "http://localhost:1")
+	interface OverriddenClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "configured", url = "http://localhost:1", configuration = DefaultContractConfiguration.class)
+	interface ConfiguredClient {
+
+		@RequestLine("GET /")
+		String get();
+
+	}
+
+	static class DefaultContractConfiguration {
+
+		@Bean
+		Contract feignContract() {
+			return new Contract.Default();
+		}
+
+	}
+
+}
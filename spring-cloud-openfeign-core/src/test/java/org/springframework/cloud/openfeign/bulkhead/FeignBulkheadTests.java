@@ -0,0 +1,180 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import feign.InvocationHandlerFactory;
+import feign.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.openfeign.FeignClientProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link FeignBulkhead} implementations and {@link FeignBulkheadCapability}.
+ */
+class FeignBulkheadTests {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	private final InvocationHandlerFactory.MethodHandler blockingHandler = argv -> {
+		started.countDown();
+		release.await(5, TimeUnit.SECONDS);
+		return "done";
+	};
+
+	private final FeignBulkheadRegistry registry = new FeignBulkheadRegistry();
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		registry.destroy();
+	}
+
+	@Test
+	void semaphoreBulkheadRejectsCallsWhenFull() throws Throwable {
+		SemaphoreFeignBulkhead bulkhead = new SemaphoreFeignBulkhead("test", 1, Duration.ZERO);
+		CompletableFuture<Object> inFlight = runAsync(bulkhead);
+		started.await(5, TimeUnit.SECONDS);
+
+		assertThat(bulkhead.getActiveCalls()).isEqualTo(1);
+		assertThatExceptionOfType(BulkheadFullException.class)
+			.isThrownBy(() -> bulkhead.invoke(argv -> "rejected", new Object[0]))
+			.satisfies(e -> assertThat(e.getClientName()).isEqualTo("test"));
+
+		release.countDown();
+		assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+		assertThat(bulkhead.getActiveCalls()).isZero();
+		assertThat(bulkhead.invoke(argv -> "accepted", new Object[0])).isEqualTo("accepted");
+	}
+
+	@Test
+	void threadPoolBulkheadRunsCallsOnDedicatedThreads() throws Throwable {
+		ThreadPoolFeignBulkhead bulkhead = new ThreadPoolFeignBulkhead("test", 1, 0, false);
+		try {
+			Object threadName = bulkhead.invoke(argv -> Thread.currentThread().getName(), new Object[0]);
+
+			assertThat((String) threadName).startsWith("feign-bulkhead-test-");
+		}
+		finally {
+			bulkhead.shutdown();
+		}
+	}
+
+	@Test
+	void threadPoolBulkheadRejectsCallsWhenThreadsAndQueueAreFull() throws Exception {
+		ThreadPoolFeignBulkhead bulkhead = new ThreadPoolFeignBulkhead("test", 1, 0, false);
+		try {
+			CompletableFuture<Object> inFlight = runAsync(bulkhead);
+			started.await(5, TimeUnit.SECONDS);
+
+			assertThatExceptionOfType(BulkheadFullException.class)
+				.isThrownBy(() -> bulkhead.invoke(argv -> "rejected", new Object[0]));
+
+			release.countDown();
+			assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+		}
+		finally {
+			bulkhead.shutdown();
+		}
+	}
+
+	@Test
+	void threadPoolBulkheadPropagatesExceptions() {
+		ThreadPoolFeignBulkhead bulkhead = new ThreadPoolFeignBulkhead("test", 1, 0, false);
+		try {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> bulkhead.invoke(argv -> {
+				throw new IllegalArgumentException("boom");
+			}, new Object[0])).withMessage("boom");
+		}
+		finally {
+			bulkhead.shutdown();
+		}
+	}
+
+	@Test
+	void registryReturnsSameBulkheadPerContextId() {
+		FeignClientProperties.BulkheadProperties properties = new FeignClientProperties.BulkheadProperties();
+		properties.setEnabled(true);
+
+		FeignBulkhead first = registry.getOrCreate("foo", properties);
+
+		assertThat(first).isInstanceOf(SemaphoreFeignBulkhead.class);
+		assertThat(registry.getOrCreate("foo", properties)).isSameAs(first);
+		assertThat(registry.getOrCreate("bar", properties)).isNotSameAs(first);
+		assertThat(registry.getBulkheads()).containsOnlyKeys("foo", "bar");
+	}
+
+	@Test
+	void registryCreatesThreadPoolBulkhead() {
+		FeignClientProperties.BulkheadProperties properties = new FeignClientProperties.BulkheadProperties();
+		properties.setType(FeignClientProperties.BulkheadProperties.BulkheadType.THREAD_POOL);
+		properties.setMaxConcurrentCalls(3);
+
+		FeignBulkhead bulkhead = registry.getOrCreate("foo", properties);
+
+		assertThat(bulkhead).isInstanceOf(ThreadPoolFeignBulkhead.class);
+		assertThat(((ThreadPoolFeignBulkhead) bulkhead).getMaxConcurrentCalls()).isEqualTo(3);
+	}
+
+	@Test
+	void capabilityGuardsDispatchedMethodHandlers() throws Throwable {
+		SemaphoreFeignBulkhead bulkhead = new SemaphoreFeignBulkhead("test", 1, Duration.ZERO);
+		AtomicReference<Integer> activeCallsDuringInvocation = new AtomicReference<>();
+		Method method = Object.class.getMethod("toString");
+		Map<Method, InvocationHandlerFactory.MethodHandler> dispatch = new HashMap<>();
+		dispatch.put(method, argv -> {
+			activeCallsDuringInvocation.set(bulkhead.getActiveCalls());
+			return "result";
+		});
+		InvocationHandlerFactory factory = new FeignBulkheadCapability(bulkhead)
+			.enrich((InvocationHandlerFactory) (target,
+					methodHandlers) -> (proxy, invoked, args) -> methodHandlers.get(invoked).invoke(args));
+
+		InvocationHandler handler = factory.create(new Target.HardCodedTarget<>(Object.class, "http://localhost"),
+				dispatch);
+
+		assertThat(handler.invoke(null, method, new Object[0])).isEqualTo("result");
+		assertThat(activeCallsDuringInvocation.get()).isEqualTo(1);
+	}
+
+	private CompletableFuture<Object> runAsync(FeignBulkhead bulkhead) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return bulkhead.invoke(blockingHandler, new Object[0]);
+			}
+			catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+}
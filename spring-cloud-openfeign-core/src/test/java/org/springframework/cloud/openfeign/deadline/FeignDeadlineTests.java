@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.deadline;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for deadline propagation of Feign calls.
+ */
+class FeignDeadlineTests {
+
+	private final AtomicReference<Request.Options> usedOptions = new AtomicReference<>();
+
+	private final Client client = new FeignDeadlineCapability().enrich((Client) (request, options) -> {
+		usedOptions.set(options);
+		return Response.builder().status(200).request(request).headers(Collections.emptyMap()).build();
+	});
+
+	private final Request.Options options = new Request.Options(1, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true);
+
+	@AfterEach
+	void tearDown() {
+		FeignDeadlineContextHolder.clear();
+	}
+
+	@Test
+	void shouldUseConfiguredOptionsWithoutDeadline() throws Exception {
+		client.execute(request(), options);
+
+		assertThat(usedOptions.get()).isSameAs(options);
+	}
+
+	@Test
+	void shouldLimitReadTimeoutToRemainingBudget() throws Exception {
+		FeignDeadlineContextHolder.setDeadline(FeignDeadline.after(Duration.ofSeconds(2)));
+
+		client.execute(request(), options);
+
+		assertThat(usedOptions.get().readTimeoutMillis()).isBetween(1, 2000);
+		assertThat(usedOptions.get().connectTimeoutMillis()).isEqualTo(1000);
+		assertThat(usedOptions.get().isFollowRedirects()).isTrue();
+	}
+
+	@Test
+	void shouldKeepReadTimeoutShorterThanRemainingBudget() throws Exception {
+		FeignDeadlineContextHolder.setDeadline(FeignDeadline.after(Duration.ofMinutes(1)));
+
+		client.execute(request(), options);
+
+		assertThat(usedOptions.get()).isSameAs(options);
+	}
+
+	@Test
+	void shouldNotExecuteRequestWhenDeadlineExpired() {
+		FeignDeadlineContextHolder.setDeadline(FeignDeadline.afterMillis(0));
+
+		assertThatExceptionOfType(FeignDeadlineExceededException.class)
+			.isThrownBy(() -> client.execute(request(), options));
+		assertThat(usedOptions.get()).isNull();
+	}
+
+	@Test
+	void shouldForwardRemainingBudget() {
+		RequestTemplate template = new RequestTemplate();
+		template.header(FeignDeadlineProperties.DEFAULT_HEADER_NAME, "999999");
+
+		FeignDeadlineContextHolder.callWithDeadline(FeignDeadline.after(Duration.ofSeconds(5)), () -> {
+			new FeignDeadlineRequestInterceptor(FeignDeadlineProperties.DEFAULT_HEADER_NAME).apply(template);
+			return null;
+		});
+
+		assertThat(template.headers().get(FeignDeadlineProperties.DEFAULT_HEADER_NAME)).singleElement()
+			.satisfies(value -> assertThat(Long.parseLong(value)).isBetween(1L, 5000L));
+		assertThat(FeignDeadlineContextHolder.getDeadline()).isNull();
+	}
+
+	@Test
+	void shouldKeepEarlierDeadlineWhenNested() {
+		FeignDeadlineContextHolder.setDeadline(FeignDeadline.after(Duration.ofSeconds(1)));
+
+		long remaining = FeignDeadlineContextHolder.callWithDeadline(FeignDeadline.after(Duration.ofMinutes(1)),
+				() -> FeignDeadlineContextHolder.getDeadline().remainingMillis());
+
+		assertThat(remaining).isLessThanOrEqualTo(1000);
+	}
+
+	@Test
+	void shouldCaptureDeadlineFromIncomingRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(FeignDeadlineProperties.DEFAULT_HEADER_NAME, "3000");
+		AtomicReference<FeignDeadline> deadline = new AtomicReference<>();
+
+		new FeignDeadlineFilter(FeignDeadlineProperties.DEFAULT_HEADER_NAME).doFilter(request,
+				new MockHttpServletResponse(), new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+					@Override
+					protected void service(jakarta.servlet.http.HttpServletRequest req,
+							jakarta.servlet.http.HttpServletResponse resp) {
+						deadline.set(FeignDeadlineContextHolder.getDeadline());
+					}
+				}));
+
+		assertThat(deadline.get()).isNotNull();
+		assertThat(deadline.get().remainingMillis()).isBetween(1L, 3000L);
+		assertThat(request.getAttribute(FeignDeadlineContextHolder.DEADLINE_ATTRIBUTE)).isSameAs(deadline.get());
+		assertThat(FeignDeadlineContextHolder.getDeadline()).isNull();
+	}
+
+	@Test
+	void shouldIgnoreInvalidDeadlineHeader() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(FeignDeadlineProperties.DEFAULT_HEADER_NAME, "soon");
+
+		new FeignDeadlineFilter(FeignDeadlineProperties.DEFAULT_HEADER_NAME).doFilter(request,
+				new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(request.getAttribute(FeignDeadlineContextHolder.DEADLINE_ATTRIBUTE)).isNull();
+	}
+
+	private static Request request() {
+		return Request.create(Request.HttpMethod.GET, "http://localhost/test", Collections.emptyMap(), new byte[0],
+				StandardCharsets.UTF_8, new RequestTemplate());
+	}
+
+}
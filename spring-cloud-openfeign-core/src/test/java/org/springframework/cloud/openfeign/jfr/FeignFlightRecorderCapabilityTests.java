@@ -0,0 +1,112 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link FeignFlightRecorderCapability}.
+ */
+class FeignFlightRecorderCapabilityTests {
+
+	private static final String REQUEST_EVENT = "org.springframework.cloud.openfeign.FeignRequest";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldRecordRequests() throws IOException {
+		TestClient testClient = testClient((request,
+				options) -> Response.builder().status(204).request(request).headers(Collections.emptyMap()).build());
+
+		List<RecordedEvent> events = record(testClient::ping);
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getString("clientName")).isEqualTo("test");
+			assertThat(event.getString("methodKey")).isEqualTo("TestClient#ping()");
+			assertThat(event.getString("httpMethod")).isEqualTo("GET");
+			assertThat(event.getString("url")).isEqualTo("http://localhost/ping");
+			assertThat(event.getInt("status")).isEqualTo(204);
+			assertThat(event.getString("exception")).isNull();
+		});
+	}
+
+	@Test
+	void shouldRecordFailedRequests() throws IOException {
+		TestClient testClient = testClient((request, options) -> {
+			throw new IOException("test");
+		});
+
+		List<RecordedEvent> events = record(
+				() -> assertThatExceptionOfType(RetryableException.class).isThrownBy(testClient::ping));
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getInt("status")).isZero();
+			assertThat(event.getString("exception")).isEqualTo("java.io.IOException: test");
+		});
+	}
+
+	private List<RecordedEvent> record(Runnable runnable) throws IOException {
+		Path file = tempDir.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(REQUEST_EVENT);
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file)
+			.stream()
+			.filter(event -> event.getEventType().getName().equals(REQUEST_EVENT))
+			.toList();
+	}
+
+	private TestClient testClient(Client client) {
+		return Feign.builder()
+			.client(client)
+			.retryer(Retryer.NEVER_RETRY)
+			.addCapability(new FeignFlightRecorderCapability())
+			.target(new Target.HardCodedTarget<>(TestClient.class, "test", "http://localhost"));
+	}
+
+	interface TestClient {
+
+		@RequestLine("GET /ping")
+		void ping();
+
+	}
+
+}
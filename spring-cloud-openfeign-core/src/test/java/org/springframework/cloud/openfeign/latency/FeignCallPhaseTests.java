@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.latency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.Response;
+import feign.Target;
+import feign.Util;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FeignCallPhaseCapability}.
+ */
+class FeignCallPhaseTests {
+
+	private final List<Map<FeignCallPhase, Duration>> calls = new ArrayList<>();
+
+	private final AtomicLong startInClient = new AtomicLong(-1);
+
+	private final Client client = (request, options) -> {
+		startInClient.set(FeignCallPhaseRecorder.start());
+		FeignCallPhaseRecorder.record(FeignCallPhase.LOAD_BALANCER, Duration.ofMillis(5).toNanos());
+		return Response.builder()
+			.status(200)
+			.request(request)
+			.headers(Collections.emptyMap())
+			.body("pong", StandardCharsets.UTF_8)
+			.build();
+	};
+
+	@Test
+	void shouldReportPhasesOfSampledCalls() {
+		TestClient testClient = testClient(1, (clientName, methodName, phases) -> {
+			assertThat(clientName).isEqualTo("test");
+			assertThat(methodName).isEqualTo("ping");
+			calls.add(phases);
+		});
+
+		assertThat(testClient.ping("ping")).isEqualTo("pong");
+
+		assertThat(calls).singleElement()
+			.satisfies(phases -> assertThat(phases)
+				.containsOnlyKeys(FeignCallPhase.ENCODE, FeignCallPhase.INTERCEPTORS, FeignCallPhase.LOAD_BALANCER,
+						FeignCallPhase.RESPONSE, FeignCallPhase.BODY_READ, FeignCallPhase.DECODE)
+				.containsEntry(FeignCallPhase.LOAD_BALANCER, Duration.ofMillis(5)));
+		assertThat(startInClient.get()).isNotZero();
+		assertThat(FeignCallPhaseRecorder.current()).isNull();
+	}
+
+	@Test
+	void shouldNotMeasureCallsThatAreNotSampled() {
+		TestClient testClient = testClient(0, (clientName, methodName, phases) -> calls.add(phases));
+
+		assertThat(testClient.ping("ping")).isEqualTo("pong");
+
+		assertThat(calls).isEmpty();
+		assertThat(startInClient.get()).isZero();
+	}
+
+	@Test
+	void shouldIgnoreFailingListeners() {
+		TestClient testClient = testClient(1, (clientName, methodName, phases) -> {
+			throw new IllegalStateException("test");
+		});
+
+		assertThat(testClient.ping("ping")).isEqualTo("pong");
+		assertThat(FeignCallPhaseRecorder.current()).isNull();
+	}
+
+	private TestClient testClient(double sampleRate, FeignCallPhaseListener listener) {
+		return Feign.builder()
+			.client(client)
+			.encoder((object, bodyType, template) -> template.body(String.valueOf(object)))
+			.decoder((response, type) -> Util.toString(response.body().asReader(StandardCharsets.UTF_8)))
+			.requestInterceptor(template -> template.header("X-Test", "test"))
+			.addCapability(new FeignCallPhaseCapability(List.of(listener), sampleRate))
+			.target(new Target.HardCodedTarget<>(TestClient.class, "test", "http://localhost"));
+	}
+
+	interface TestClient {
+
+		@RequestLine("POST /ping")
+		String ping(String body);
+
+	}
+
+}
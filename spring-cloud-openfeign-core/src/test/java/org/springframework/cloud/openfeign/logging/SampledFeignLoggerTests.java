@@ -0,0 +1,190 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SampledFeignLogger} and {@link FeignAsyncLogAppender}.
+ */
+class SampledFeignLoggerTests {
+
+	private static final String CONFIG_KEY = "TestClient#hello()";
+
+	private final Log log = mock(Log.class);
+
+	private FeignAsyncLogAppender appender;
+
+	private SampledFeignLogger logger;
+
+	@BeforeEach
+	void setUp() {
+		when(log.isDebugEnabled()).thenReturn(true);
+		appender = new FeignAsyncLogAppender(16);
+		logger = new SampledFeignLogger(log, appender, 0, Duration.ofSeconds(1), 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		appender.close();
+	}
+
+	@Test
+	void shouldNotLogFastSuccessfulCallsWhenNotSampled() throws IOException {
+		Request request = request();
+		logger.logRequest(CONFIG_KEY, Logger.Level.FULL, request);
+		Response response = response(request, 200, "hello");
+
+		Response logged = logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.FULL, response, 10);
+
+		assertThat(logged).isSameAs(response);
+		verify(log, after(200).never()).debug(any());
+	}
+
+	@Test
+	void shouldAlwaysLogFailedCalls() throws IOException {
+		Request request = request();
+		logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request);
+
+		logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response(request, 503, "unavailable"), 10);
+
+		assertThat(loggedMessage()).contains("---> GET http://localhost/hello HTTP/1.1")
+			.contains("<--- HTTP/1.1 503 (10ms)");
+	}
+
+	@Test
+	void shouldAlwaysLogSlowCalls() throws IOException {
+		Request request = request();
+		logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request);
+
+		logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.BASIC, response(request, 200, "hello"), 1500);
+
+		assertThat(loggedMessage()).contains("<--- HTTP/1.1 200 (1500ms)");
+	}
+
+	@Test
+	void shouldLogSampledCalls() throws IOException {
+		logger = new SampledFeignLogger(log, appender, 1, Duration.ofSeconds(1), 10);
+		Request request = request();
+		logger.logRequest(CONFIG_KEY, Logger.Level.HEADERS, request);
+
+		logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.HEADERS, response(request, 200, "hello"), 10);
+
+		assertThat(loggedMessage()).contains("Accept: text/plain").contains("<--- HTTP/1.1 200 (10ms)");
+	}
+
+	@Test
+	void shouldTruncateResponseBodyWithoutConsumingIt() throws IOException {
+		Request request = request();
+		logger.logRequest(CONFIG_KEY, Logger.Level.FULL, request);
+		String body = "0123456789abcdefghij";
+
+		Response logged = logger.logAndRebufferResponse(CONFIG_KEY, Logger.Level.FULL, response(request, 500, body),
+				10);
+
+		assertThat(loggedMessage()).contains("0123456789... (truncated)")
+			.doesNotContain("abcdefghij")
+			.contains("<--- END HTTP (body truncated to 10 bytes)");
+		try (InputStream inputStream = logged.body().asInputStream()) {
+			assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+		}
+	}
+
+	@Test
+	void shouldAlwaysLogIOExceptions() {
+		logger.logRequest(CONFIG_KEY, Logger.Level.BASIC, request());
+
+		IOException exception = logger.logIOException(CONFIG_KEY, Logger.Level.BASIC,
+				new SocketTimeoutException("Read timed out"), 20);
+
+		assertThat(exception).hasMessage("Read timed out");
+		assertThat(loggedMessage()).contains("---> GET http://localhost/hello HTTP/1.1")
+			.contains("<--- ERROR SocketTimeoutException: Read timed out (20ms)");
+	}
+
+	@Test
+	void shouldDropRecordsWhenQueueIsFull() throws InterruptedException {
+		FeignAsyncLogAppender smallAppender = new FeignAsyncLogAppender(1);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Log blockingLog = mock(Log.class);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			return null;
+		}).when(blockingLog).debug(any());
+		try {
+			assertThat(smallAppender.append(blockingLog, () -> "first")).isTrue();
+			assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(smallAppender.append(blockingLog, () -> "second")).isTrue();
+
+			assertThat(smallAppender.append(blockingLog, () -> "third")).isFalse();
+			assertThat(smallAppender.getDroppedCount()).isEqualTo(1);
+		}
+		finally {
+			release.countDown();
+			smallAppender.close();
+		}
+	}
+
+	private String loggedMessage() {
+		ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+		verify(log, timeout(5000)).debug(message.capture());
+		return (String) message.getValue();
+	}
+
+	private static Request request() {
+		return Request.create(Request.HttpMethod.GET, "http://localhost/hello",
+				Collections.singletonMap("Accept", Collections.singletonList("text/plain")), null,
+				StandardCharsets.UTF_8, null);
+	}
+
+	private static Response response(Request request, int status, String body) {
+		return Response.builder()
+			.request(request)
+			.status(status)
+			.headers(Collections.emptyMap())
+			.body(body, StandardCharsets.UTF_8)
+			.build();
+	}
+
+}
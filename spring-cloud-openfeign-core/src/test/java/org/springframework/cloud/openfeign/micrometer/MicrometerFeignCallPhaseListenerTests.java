@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.openfeign.latency.FeignCallPhase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerFeignCallPhaseListener}.
+ */
+class MicrometerFeignCallPhaseListenerTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void shouldReuseTimersAcrossCalls() {
+		MicrometerFeignCallPhaseListener listener = listener();
+
+		listener.callCompleted("test", "ping",
+				Map.of(FeignCallPhase.ENCODE, Duration.ofMillis(1), FeignCallPhase.RESPONSE, Duration.ofMillis(5)));
+		listener.callCompleted("test", "ping", Map.of(FeignCallPhase.RESPONSE, Duration.ofMillis(7)));
+
+		assertThat(registry.get(MicrometerFeignCallPhaseListener.PHASE_METRIC).timers()).hasSize(2);
+		assertThat(timer(FeignCallPhase.ENCODE).count()).isEqualTo(1);
+		assertThat(timer(FeignCallPhase.RESPONSE).count()).isEqualTo(2);
+		assertThat(timer(FeignCallPhase.RESPONSE).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12);
+	}
+
+	private MicrometerFeignCallPhaseListener listener() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("meterRegistry", registry);
+		return new MicrometerFeignCallPhaseListener(beanFactory.getBeanProvider(MeterRegistry.class));
+	}
+
+	private Timer timer(FeignCallPhase phase) {
+		return registry.get(MicrometerFeignCallPhaseListener.PHASE_METRIC)
+			.tag("client", "test")
+			.tag("method", "ping")
+			.tag("phase", phase.getId())
+			.timer();
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.micrometer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import feign.Client;
+import feign.Feign;
+import feign.Headers;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Target;
+import feign.Util;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerPayloadSizeCapability}.
+ */
+class MicrometerPayloadSizeCapabilityTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final AtomicReference<Request> sentRequest = new AtomicReference<>();
+
+	private final Client client = (request, options) -> {
+		sentRequest.set(request);
+		return Response.builder()
+			.status(200)
+			.request(request)
+			.headers(Collections.emptyMap())
+			.body("pong!", StandardCharsets.UTF_8)
+			.build();
+	};
+
+	@Test
+	void shouldRecordRequestAndResponseSizes() {
+		TestClient testClient = testClient();
+
+		assertThat(testClient.ping("ping")).isEqualTo("pong!");
+
+		assertThat(summary(MicrometerPayloadSizeCapability.REQUEST_SIZE_METRIC).totalAmount()).isEqualTo(4);
+		assertThat(summary(MicrometerPayloadSizeCapability.RESPONSE_SIZE_METRIC).totalAmount()).isEqualTo(5);
+		assertThat(registry.find(MicrometerPayloadSizeCapability.COMPRESSION_UNCOMPRESSED_SIZE_METRIC).meter())
+			.isNull();
+	}
+
+	@Test
+	void shouldRecordUncompressedSizeOfCompressedRequests() {
+		TestClient testClient = testClient();
+		String body = "ping".repeat(100);
+
+		testClient.compressedPing(body);
+
+		assertThat(sentRequest.get().body()).hasSize(400);
+		DistributionSummary uncompressed = registry
+			.get(MicrometerPayloadSizeCapability.COMPRESSION_UNCOMPRESSED_SIZE_METRIC)
+			.tag("encoding", "gzip")
+			.summary();
+		assertThat(uncompressed.totalAmount()).isEqualTo(400);
+	}
+
+	@Test
+	void shouldReuseSummariesAcrossCalls() {
+		TestClient testClient = testClient();
+
+		testClient.ping("ping");
+		testClient.ping("pong");
+
+		assertThat(registry.get(MicrometerPayloadSizeCapability.REQUEST_SIZE_METRIC).summaries()).hasSize(1);
+		assertThat(summary(MicrometerPayloadSizeCapability.REQUEST_SIZE_METRIC).count()).isEqualTo(2);
+		assertThat(summary(MicrometerPayloadSizeCapability.RESPONSE_SIZE_METRIC).totalAmount()).isEqualTo(10);
+	}
+
+	private DistributionSummary summary(String name) {
+		return registry.get(name).tag("client", "test").tag("method", "ping").summary();
+	}
+
+	private TestClient testClient() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("meterRegistry", registry);
+		return Feign.builder()
+			.client(client)
+			.encoder((object, bodyType, template) -> template.body(String.valueOf(object)))
+			.decoder((response, type) -> Util.toString(response.body().asReader(StandardCharsets.UTF_8)))
+			.addCapability(new MicrometerPayloadSizeCapability(beanFactory.getBeanProvider(MeterRegistry.class)))
+			.target(new Target.HardCodedTarget<>(TestClient.class, "test", "http://localhost"));
+	}
+
+	interface TestClient {
+
+		@RequestLine("POST /ping")
+		String ping(String body);
+
+		@RequestLine("POST /ping")
+		@Headers("Content-Encoding: gzip")
+		String compressedPing(String body);
+
+	}
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.openfeign.micrometer.MicrometerOAuth2AccessTokenRefreshListener;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link OAuth2AccessTokenCache}.
+ */
+class OAuth2AccessTokenCacheTests {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+	private final OAuth2AccessTokenCache cache = new OAuth2AccessTokenCache(Duration.ofSeconds(30));
+
+	private final AtomicInteger fetches = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		setTime(NOW);
+	}
+
+	@Test
+	void shouldCacheTokenPerClientRegistrationAndPrincipal() {
+		OAuth2AccessToken first = cache.getToken("client", "user", () -> fetch("first", 300));
+		OAuth2AccessToken second = cache.getToken("client", "user", () -> fetch("second", 300));
+		OAuth2AccessToken other = cache.getToken("client", "other", () -> fetch("other", 300));
+
+		assertThat(second).isSameAs(first);
+		assertThat(other.getTokenValue()).isEqualTo("other");
+		assertThat(fetches).hasValue(2);
+	}
+
+	@Test
+	void shouldRenewTokenAboutToExpire() {
+		cache.getToken("client", "user", () -> fetch("first", 300));
+		setTime(NOW.plusSeconds(280));
+
+		assertThat(cache.getToken("client", "user", () -> fetch("second", 300)).getTokenValue()).isEqualTo("second");
+	}
+
+	@Test
+	void shouldKeepValidTokenWhenRenewalFails() {
+		cache.getToken("client", "user", () -> fetch("first", 300));
+		setTime(NOW.plusSeconds(280));
+
+		assertThat(cache.getToken("client", "user", () -> {
+			throw new IllegalStateException("token endpoint down");
+		}).getTokenValue()).isEqualTo("first");
+		assertThat(cache.getToken("client", "user", () -> null).getTokenValue()).isEqualTo("first");
+	}
+
+	@Test
+	void shouldNotCacheMissingToken() {
+		assertThat(cache.getToken("client", "user", () -> null)).isNull();
+		assertThat(cache.getToken("client", "user", () -> fetch("first", 300)).getTokenValue()).isEqualTo("first");
+	}
+
+	@Test
+	void shouldLetSingleThreadRenewTokenWhileOthersUseCurrentOne() throws Exception {
+		cache.getToken("client", "user", () -> fetch("first", 300));
+		setTime(NOW.plusSeconds(280));
+		CountDownLatch renewing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<OAuth2AccessToken> renewal = CompletableFuture
+			.supplyAsync(() -> cache.getToken("client", "user", () -> {
+				renewing.countDown();
+				awaitQuietly(release);
+				return fetch("second", 300);
+			}));
+		assertThat(renewing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		OAuth2AccessToken current = cache.getToken("client", "user", () -> fetch("unexpected", 300));
+		release.countDown();
+
+		assertThat(current.getTokenValue()).isEqualTo("first");
+		assertThat(renewal.get(5, TimeUnit.SECONDS).getTokenValue()).isEqualTo("second");
+		assertThat(fetches).hasValue(2);
+	}
+
+	@Test
+	void shouldEvictToken() {
+		cache.getToken("client", "user", () -> fetch("first", 300));
+		cache.evict("client", "user");
+
+		assertThat(cache.getToken("client", "user", () -> fetch("second", 300)).getTokenValue()).isEqualTo("second");
+	}
+
+	@Test
+	void shouldRefreshTokenInBackground() {
+		cache.setBackgroundRefresh(true);
+		AtomicInteger calls = new AtomicInteger();
+		Supplier<OAuth2AccessToken> tokenSupplier = () -> (calls.incrementAndGet() == 1) ? fetch("first", 20)
+				: fetch("second", 300);
+
+		assertThat(cache.getToken("client", "user", tokenSupplier).getTokenValue()).isEqualTo("first");
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(
+					() -> assertThat(cache.getToken("client", "user", () -> fetch("unexpected", 300)).getTokenValue())
+						.isEqualTo("second"));
+		assertThat(fetches).hasValue(2);
+		cache.destroy();
+	}
+
+	@Test
+	void shouldReportFailedBackgroundRefreshesAndKeepCurrentToken() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("registry", meterRegistry));
+		cache.setRefreshListeners(List
+			.of(new MicrometerOAuth2AccessTokenRefreshListener(beanFactory.getBeanProvider(MeterRegistry.class))));
+		cache.setBackgroundRefresh(true);
+		cache.setRetryInterval(Duration.ofMillis(10));
+		AtomicInteger calls = new AtomicInteger();
+		Supplier<OAuth2AccessToken> tokenSupplier = () -> {
+			if (calls.incrementAndGet() == 1) {
+				return fetch("first", 20);
+			}
+			throw new IllegalStateException("token endpoint down");
+		};
+
+		cache.getToken("client", "user", tokenSupplier);
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> assertThat(meterRegistry.get("feign.oauth2.token.refresh.consecutive.failures")
+				.tag("client.registration", "client")
+				.gauge()
+				.value()).isGreaterThanOrEqualTo(3));
+		assertThat(meterRegistry.get("feign.oauth2.token.refresh").tag("outcome", "failure").counter().count())
+			.isGreaterThanOrEqualTo(3);
+		assertThat(cache.getToken("client", "user", () -> fetch("unexpected", 300)).getTokenValue()).isEqualTo("first");
+		cache.destroy();
+	}
+
+	@Test
+	void shouldFallBackToRequestThreadWhenBackgroundRefreshGivesUp() {
+		List<Integer> failures = new CopyOnWriteArrayList<>();
+		cache.setRefreshListeners(List.of(new OAuth2AccessTokenRefreshListener() {
+			@Override
+			public void refreshFailed(String clientRegistrationId, int consecutiveFailures, Instant expiresAt,
+					Throwable cause) {
+				failures.add(consecutiveFailures);
+			}
+		}));
+		cache.setBackgroundRefresh(true);
+		cache.setRetryInterval(Duration.ofMinutes(1));
+		AtomicInteger calls = new AtomicInteger();
+
+		cache.getToken("client", "user", () -> (calls.incrementAndGet() == 1) ? fetch("first", 20) : null);
+		await().atMost(Duration.ofSeconds(5)).until(() -> failures.equals(List.of(1)));
+
+		assertThat(cache.getToken("client", "user", () -> fetch("second", 300)).getTokenValue()).isEqualTo("second");
+		cache.destroy();
+	}
+
+	@Test
+	void shouldNotRenewTokenInBackgroundAgainUntilItIsRead() {
+		cache.setBackgroundRefresh(true);
+
+		cache.getToken("client", "user", () -> fetch("token", 20));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> fetches.get() == 2);
+		await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(5)).until(() -> fetches.get() == 2);
+		assertThat(cache.getToken("client", "user", () -> fetch("unexpected", 20)).getTokenValue()).isEqualTo("token");
+		await().atMost(Duration.ofSeconds(5)).until(() -> fetches.get() == 3);
+		cache.destroy();
+	}
+
+	@Test
+	void shouldNotRefreshTokenInBackgroundWhenNotSupportedBySupplier() {
+		cache.setBackgroundRefresh(true);
+
+		cache.getToken("client", "user", () -> fetch("first", 20), false);
+
+		await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(5)).until(() -> fetches.get() == 1);
+		assertThat(cache.getToken("client", "user", () -> fetch("second", 300), false).getTokenValue())
+			.isEqualTo("second");
+		cache.destroy();
+	}
+
+	private OAuth2AccessToken fetch(String value, long lifetimeSeconds) {
+		fetches.incrementAndGet();
+		Instant issuedAt = NOW;
+		return new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, value, issuedAt,
+				issuedAt.plusSeconds(lifetimeSeconds));
+	}
+
+	private void setTime(Instant instant) {
+		cache.setClock(Clock.fixed(instant, ZoneOffset.UTC));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
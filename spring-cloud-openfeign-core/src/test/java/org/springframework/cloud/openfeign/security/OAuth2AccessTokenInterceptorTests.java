@@ -16,7 +16,11 @@
 
 package org.springframework.cloud.openfeign.security;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import feign.Request.HttpMethod;
 import feign.RequestTemplate;
@@ -25,20 +29,30 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.web.HttpSessionOAuth2AuthorizedClientRepository;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -143,6 +157,64 @@ class OAuth2AccessTokenInterceptorTests {
 		assertThat(requestTemplate.headers().get("Authorization")).contains("Bearer Valid Token");
 	}
 
+	@Test
+	void shouldReuseCachedToken() {
+		oAuth2AccessTokenInterceptor = new OAuth2AccessTokenInterceptor(DEFAULT_CLIENT_REGISTRATION_ID,
+				mockOAuth2AuthorizedClientManager);
+		oAuth2AccessTokenInterceptor.setTokenCache(new OAuth2AccessTokenCache(Duration.ofSeconds(30)));
+		when(mockOAuth2AuthorizedClientManager
+			.authorize(argThat(matchAuthorizeRequest(DEFAULT_CLIENT_REGISTRATION_ID))))
+			.thenReturn(validTokenOAuth2AuthorizedClient());
+
+		oAuth2AccessTokenInterceptor.apply(requestTemplate);
+		RequestTemplate secondRequestTemplate = new RequestTemplate().method(HttpMethod.GET);
+		secondRequestTemplate.feignTarget(requestTemplate.feignTarget());
+		oAuth2AccessTokenInterceptor.apply(secondRequestTemplate);
+
+		assertThat(secondRequestTemplate.headers().get("Authorization")).containsExactly("Bearer Valid Token");
+		verify(mockOAuth2AuthorizedClientManager, times(1)).authorize(any());
+	}
+
+	@Test
+	void shouldNotRefreshTokenInBackgroundWithRequestBoundAuthorizedClientManager() {
+		AtomicInteger authorizations = new AtomicInteger();
+		DefaultOAuth2AuthorizedClientManager authorizedClientManager = new DefaultOAuth2AuthorizedClientManager(
+				new InMemoryClientRegistrationRepository(defaultClientRegistration()),
+				new HttpSessionOAuth2AuthorizedClientRepository());
+		authorizedClientManager.setAuthorizedClientProvider(context -> {
+			authorizations.incrementAndGet();
+			return new OAuth2AuthorizedClient(context.getClientRegistration(), context.getPrincipal().getName(),
+					new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "Short-lived Token", Instant.now(),
+							Instant.now().plusSeconds(20L)));
+		});
+		List<Throwable> failures = new CopyOnWriteArrayList<>();
+		OAuth2AccessTokenCache tokenCache = new OAuth2AccessTokenCache(Duration.ofSeconds(30));
+		tokenCache.setBackgroundRefresh(true);
+		tokenCache.setRefreshListeners(List.of(new OAuth2AccessTokenRefreshListener() {
+			@Override
+			public void refreshFailed(String clientRegistrationId, int consecutiveFailures, Instant expiresAt,
+					Throwable cause) {
+				failures.add(cause);
+			}
+		}));
+		oAuth2AccessTokenInterceptor = new OAuth2AccessTokenInterceptor(DEFAULT_CLIENT_REGISTRATION_ID,
+				authorizedClientManager);
+		oAuth2AccessTokenInterceptor.setTokenCache(tokenCache);
+		RequestContextHolder.setRequestAttributes(
+				new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+		try {
+			oAuth2AccessTokenInterceptor.apply(requestTemplate);
+		}
+		finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+
+		await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(5)).until(failures::isEmpty);
+		assertThat(requestTemplate.headers().get("Authorization")).containsExactly("Bearer Short-lived Token");
+		assertThat(authorizations).hasValue(1);
+		tokenCache.destroy();
+	}
+
 	private ArgumentMatcher<OAuth2AuthorizeRequest> matchAuthorizeRequest(String clientRegistrationId) {
 		return matchAuthorizeRequestWithPrincipalName(clientRegistrationId, "anonymousUser");
 	}
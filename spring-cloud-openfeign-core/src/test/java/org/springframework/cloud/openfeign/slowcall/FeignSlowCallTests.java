@@ -0,0 +1,211 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.slowcall;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import feign.Client;
+import feign.Feign;
+import feign.Headers;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Retryer;
+import feign.Target;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder.FeignSlowCall;
+import org.springframework.cloud.openfeign.slowcall.FeignSlowCallRecorder.FeignSlowCallAttempt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the capture of slow Feign calls.
+ */
+class FeignSlowCallTests {
+
+	private final FeignSlowCallRecorder recorder = new FeignSlowCallRecorder(10);
+
+	private final SlowClient client = new SlowClient();
+
+	@Test
+	void shouldCaptureCallsSlowerThanThreshold() {
+		TestApi api = api(new FeignSlowCallCapability(recorder, 0.5, 2, 50), Retryer.NEVER_RETRY);
+		for (int i = 0; i < 50; i++) {
+			api.hello("token");
+		}
+		assertThat(recorder.getSlowCalls()).isEmpty();
+
+		client.delayMillis = 200;
+		api.hello("token");
+
+		assertThat(recorder.getSlowCalls()).singleElement().satisfies(call -> {
+			assertThat(call.clientName()).isEqualTo("test");
+			assertThat(call.method()).isEqualTo("TestApi#hello(String)");
+			assertThat(call.duration()).isGreaterThan(call.threshold()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+			assertThat(call.retries()).isZero();
+			assertThat(call.attempts()).singleElement().satisfies(attempt -> {
+				assertThat(attempt.method()).isEqualTo("GET");
+				assertThat(attempt.url()).isEqualTo("http://localhost/hello");
+				assertThat(attempt.instance()).isEqualTo("http://localhost");
+				assertThat(attempt.status()).isEqualTo(200);
+				assertThat(attempt.headers()).containsEntry("Authorization", List.of("******"));
+			});
+		});
+	}
+
+	@Test
+	void shouldNotCaptureCallsBeforeMinimumCalls() {
+		TestApi api = api(new FeignSlowCallCapability(recorder, 0.5, 2, 50), Retryer.NEVER_RETRY);
+		api.hello("token");
+
+		client.delayMillis = 200;
+		api.hello("token");
+
+		assertThat(recorder.getSlowCalls()).isEmpty();
+	}
+
+	@Test
+	void shouldCaptureRetriedAttempts() {
+		TestApi api = api(new FeignSlowCallCapability(recorder, 0.5, 2, 50), new Retryer.Default(1, 1, 2));
+		for (int i = 0; i < 50; i++) {
+			api.hello("token");
+		}
+
+		client.failures.set(1);
+		client.delayMillis = 200;
+		api.hello("token");
+
+		FeignSlowCall call = recorder.getSlowCalls().get(0);
+		assertThat(call.retries()).isOne();
+		assertThat(call.attempts()).extracting(FeignSlowCallAttempt::error)
+			.containsExactly("java.io.IOException: connection reset", null);
+	}
+
+	@Test
+	void shouldEvictOldestCalls() {
+		FeignSlowCallRecorder recorder = new FeignSlowCallRecorder(2);
+		for (int i = 0; i < 3; i++) {
+			recorder.record(new FeignSlowCall(null, "test", "call" + i, Duration.ZERO, Duration.ZERO, 0, Duration.ZERO,
+					List.of()));
+		}
+
+		assertThat(recorder.getSlowCalls()).extracting(FeignSlowCall::method).containsExactly("call2", "call1");
+	}
+
+	@Test
+	void shouldExposeSlowCallsEndpoint() {
+		new ApplicationContextRunner()
+			.withConfiguration(
+					AutoConfigurations.of(FeignAutoConfiguration.class, FeignSlowCallEndpointAutoConfiguration.class))
+			.withPropertyValues("spring.cloud.openfeign.slow-calls.enabled=true",
+					"spring.cloud.openfeign.slow-calls.capacity=5", "management.endpoints.web.exposure.include=*")
+			.run(context -> {
+				assertThat(context).hasSingleBean(FeignSlowCallCapability.class);
+				FeignSlowCallRecorder recorder = context.getBean(FeignSlowCallRecorder.class);
+				for (int i = 0; i < 3; i++) {
+					recorder.record(new FeignSlowCall(null, "test", "call" + i, Duration.ZERO, Duration.ZERO, 0,
+							Duration.ZERO, List.of()));
+				}
+				FeignSlowCallEndpoint endpoint = context.getBean(FeignSlowCallEndpoint.class);
+
+				assertThat(endpoint.slowCalls(null).calls()).hasSize(3);
+				assertThat(endpoint.slowCalls(1).calls()).extracting(FeignSlowCall::method).containsExactly("call2");
+
+				endpoint.clear();
+				assertThat(endpoint.slowCalls(null).calls()).isEmpty();
+			});
+	}
+
+	@Test
+	void shouldNotConfigureSlowCallCaptureByDefault() {
+		new ApplicationContextRunner()
+			.withConfiguration(
+					AutoConfigurations.of(FeignAutoConfiguration.class, FeignSlowCallEndpointAutoConfiguration.class))
+			.withPropertyValues("management.endpoints.web.exposure.include=*")
+			.run(context -> assertThat(context).doesNotHaveBean(FeignSlowCallCapability.class)
+				.doesNotHaveBean(FeignSlowCallEndpoint.class));
+	}
+
+	@Test
+	void shouldComputePercentileUpperBound() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getValueAtPercentile(0.5)).isBetween(TimeUnit.MILLISECONDS.toNanos(50),
+				TimeUnit.MILLISECONDS.toNanos(63));
+		assertThat(histogram.getValueAtPercentile(0.99)).isBetween(TimeUnit.MILLISECONDS.toNanos(99),
+				TimeUnit.MILLISECONDS.toNanos(124));
+	}
+
+	private TestApi api(FeignSlowCallCapability capability, Retryer retryer) {
+		return Feign.builder()
+			.client(client)
+			.retryer(retryer)
+			.addCapability(capability)
+			.target(new Target.HardCodedTarget<>(TestApi.class, "test", "http://localhost"));
+	}
+
+	interface TestApi {
+
+		@RequestLine("GET /hello")
+		@Headers("Authorization: Bearer {token}")
+		String hello(@Param("token") String token);
+
+	}
+
+	static class SlowClient implements Client {
+
+		final AtomicInteger failures = new AtomicInteger();
+
+		volatile long delayMillis;
+
+		@Override
+		public Response execute(Request request, Request.Options options) throws IOException {
+			if (failures.getAndDecrement() > 0) {
+				throw new IOException("connection reset");
+			}
+			try {
+				Thread.sleep(delayMillis);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Response.builder()
+				.request(request)
+				.status(200)
+				.headers(Collections.emptyMap())
+				.body("hello", StandardCharsets.UTF_8)
+				.build();
+		}
+
+	}
+
+}
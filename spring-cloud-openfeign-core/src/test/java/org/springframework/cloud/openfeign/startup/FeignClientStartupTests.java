@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.startup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.FeignClientInitializationListener;
+import org.springframework.cloud.openfeign.startup.FeignClientStartupRecorder.FeignClientStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the tracking of the creation of Feign clients.
+ */
+class FeignClientStartupTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldRecordStartupStepsAndExposeEndpoint() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(1000);
+		applicationStartup.addFilter(step -> step.getName().startsWith(FeignClientCreationTracker.STEP_NAME));
+		try (ConfigurableApplicationContext context = application().applicationStartup(applicationStartup).run()) {
+			context.getBean(SecondClient.class);
+
+			List<TimelineEvent> steps = applicationStartup.getBufferedTimeline().getEvents();
+			assertThat(steps).extracting(event -> event.getStartupStep().getName())
+				.contains(FeignClientCreationTracker.STEP_NAME, "spring.cloud.openfeign.client.context",
+						"spring.cloud.openfeign.client.configuration", "spring.cloud.openfeign.client.customizers",
+						"spring.cloud.openfeign.client.target", "spring.cloud.openfeign.client.contract");
+			assertThat(steps).allSatisfy(event -> assertThat(event.getStartupStep().getTags())
+				.anySatisfy(tag -> assertThat(tag.getKey()).isEqualTo("contextId")));
+
+			FeignClientStartupEndpoint endpoint = context.getBean(FeignClientStartupEndpoint.class);
+			List<FeignClientStartup> clients = endpoint.startup(null).clients();
+			assertThat(clients).extracting(FeignClientStartup::contextId).containsExactlyInAnyOrder("first", "second");
+			assertThat(clients.get(0).total()).isGreaterThanOrEqualTo(clients.get(1).total());
+			assertThat(clients).allSatisfy(client -> {
+				assertThat(client.creations()).isOne();
+				assertThat(client.contextInitialization()).isNotNull();
+				assertThat(client.phases()).containsOnlyKeys("context", "configuration", "customizers", "target",
+						"contract");
+			});
+			assertThat(endpoint.startup(1).clients()).containsExactly(clients.get(0));
+		}
+	}
+
+	@Test
+	void shouldRecordJfrEvents() throws Exception {
+		Path file = tempDir.resolve("feign.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.springframework.cloud.openfeign.ClientCreation");
+			recording.start();
+			application().run().close();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).isNotEmpty().allSatisfy(event -> {
+			assertThat(event.getString("contextId")).isEqualTo("first");
+			assertThat(event.getClass("clientType").getName()).isEqualTo(FirstClient.class.getName());
+		});
+		assertThat(events).extracting(event -> event.getString("phase"))
+			.containsExactlyInAnyOrder("context", "configuration", "customizers", "contract", "target");
+		assertThat(Files.size(file)).isPositive();
+	}
+
+	@Test
+	void shouldNotTrackCreationWithoutRecorder() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		assertThat(FeignClientCreationTracker.start(beanFactory, "first", FirstClient.class)).isNull();
+
+		beanFactory.registerSingleton("listener", (FeignClientInitializationListener) (contextId, duration) -> {
+		});
+		assertThat(FeignClientCreationTracker.start(beanFactory, "first", FirstClient.class)).isNotNull();
+	}
+
+	private static SpringApplicationBuilder application() {
+		return new SpringApplicationBuilder(Application.class).web(WebApplicationType.NONE)
+			.properties("management.endpoints.web.exposure.include=feignstartup");
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableFeignClients(clients = { FirstClient.class, SecondClient.class })
+	@EnableAutoConfiguration
+	static class Application {
+
+		@Bean
+		Consumer consumer(FirstClient client) {
+			return new Consumer(client);
+		}
+
+	}
+
+	record Consumer(FirstClient client) {
+	}
+
+	@FeignClient(name = "first", url = "http://localhost:1")
+	interface FirstClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+	@FeignClient(name = "second", url = "http://localhost:1")
+	interface SecondClient {
+
+		@GetMapping("/")
+		String get();
+
+	}
+
+}
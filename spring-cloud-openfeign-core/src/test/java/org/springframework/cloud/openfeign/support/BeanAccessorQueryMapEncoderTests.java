@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.Map;
+
+import feign.Param;
+import feign.codec.EncodeException;
+import feign.querymap.BeanQueryMapEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link BeanAccessorQueryMapEncoder} and {@link QueryMapAccessors}.
+ */
+public class BeanAccessorQueryMapEncoderTests {
+
+	private final BeanAccessorQueryMapEncoder encoder = new BeanAccessorQueryMapEncoder();
+
+	@AfterEach
+	void tearDown() {
+		QueryMapAccessors.clear();
+	}
+
+	@Test
+	void shouldEncodeLikeBeanQueryMapEncoder() {
+		SearchParams params = new SearchParams();
+		params.setName("feign");
+		params.setPage(3);
+		params.setOwner("spring");
+
+		Map<String, Object> encoded = encoder.encode(params);
+
+		assertThat(encoded).containsExactlyInAnyOrderEntriesOf(
+				Map.of("name", "feign", "page", 3, "active", false, "created_by", "spring"));
+		assertThat(encoded).isEqualTo(new BeanQueryMapEncoder().encode(params));
+		assertThat(encoder.encode(null)).isEmpty();
+	}
+
+	@Test
+	void shouldFailLikeBeanQueryMapEncoderForInaccessibleGetters() {
+		HiddenParams params = new HiddenParams();
+
+		assertThatExceptionOfType(EncodeException.class).isThrownBy(() -> new BeanQueryMapEncoder().encode(params));
+		assertThatExceptionOfType(EncodeException.class).isThrownBy(() -> encoder.encode(params));
+	}
+
+	@Test
+	void shouldUseRegisteredAccessors() {
+		QueryMapAccessors.register(SearchParams.class,
+				new QueryMapAccessors.Accessor("q", bean -> ((SearchParams) bean).getName()));
+		SearchParams params = new SearchParams();
+		params.setName("feign");
+
+		assertThat(encoder.encode(params)).containsExactlyEntriesOf(Map.of("q", "feign"));
+	}
+
+	@Test
+	void shouldGenerateRegistrationCode() {
+		String code = QueryMapAccessors.toCodeBlock(SearchParams.class).toString();
+
+		assertThat(code).startsWith(
+				"org.springframework.cloud.openfeign.support.QueryMapAccessors.register(org.springframework.cloud.openfeign.support.BeanAccessorQueryMapEncoderTests.SearchParams.class");
+		assertThat(code).contains("\"created_by\", bean -> ((org.springframework.cloud.openfeign.support"
+				+ ".BeanAccessorQueryMapEncoderTests.SearchParams) bean).getOwner())");
+		assertThat(QueryMapAccessors.toCodeBlock(HiddenParams.class)).isNull();
+	}
+
+	public static class BaseParams {
+
+		private boolean active;
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+	}
+
+	public static class SearchParams extends BaseParams {
+
+		private String name;
+
+		private String sort;
+
+		private int page;
+
+		private String owner;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getSort() {
+			return sort;
+		}
+
+		public void setSort(String sort) {
+			this.sort = sort;
+		}
+
+		public int getPage() {
+			return page;
+		}
+
+		public void setPage(int page) {
+			this.page = page;
+		}
+
+		@Param("created_by")
+		public String getOwner() {
+			return owner;
+		}
+
+		public void setOwner(String owner) {
+			this.owner = owner;
+		}
+
+		public SearchParams getSelf() {
+			return this;
+		}
+
+	}
+
+	static class HiddenParams {
+
+		public String getValue() {
+			return "hidden";
+		}
+
+	}
+
+}
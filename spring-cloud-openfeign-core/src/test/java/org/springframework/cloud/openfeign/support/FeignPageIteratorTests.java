@@ -0,0 +1,164 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link FeignPageIterator}.
+ */
+class FeignPageIteratorTests {
+
+	private static final List<Integer> ELEMENTS = IntStream.range(0, 7).boxed().toList();
+
+	private final List<Pageable> requested = new CopyOnWriteArrayList<>();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldIterateOverAllPages() {
+		FeignPageIterator<Integer> iterator = FeignPageIterator.of(this::page, PageRequest.of(0, 3));
+
+		List<Integer> elements = new ArrayList<>();
+		iterator.forEachRemaining(elements::add);
+
+		assertThat(elements).isEqualTo(ELEMENTS);
+		assertThat(requested).extracting(Pageable::getPageNumber).containsExactly(0, 1, 2);
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+	}
+
+	@Test
+	void shouldFetchPagesOnDemand() {
+		FeignPageIterator<Integer> iterator = FeignPageIterator.of(this::page, PageRequest.of(0, 3));
+
+		assertThat(requested).isEmpty();
+		for (int i = 0; i < 3; i++) {
+			iterator.next();
+		}
+
+		assertThat(requested).hasSize(1);
+	}
+
+	@Test
+	void shouldIterateOverSlices() {
+		try (Stream<Integer> stream = FeignPageIterator.of(this::slice, PageRequest.of(1, 2)).stream()) {
+			assertThat(stream.toList()).isEqualTo(ELEMENTS.subList(2, 7));
+		}
+	}
+
+	@Test
+	void shouldPrefetchNextPage() {
+		FeignPageIterator<Integer> iterator = FeignPageIterator.prefetching(this::page, PageRequest.of(0, 3), executor);
+
+		iterator.next();
+
+		await().untilAsserted(() -> assertThat(requested).hasSize(2));
+		iterator.close();
+	}
+
+	@Test
+	void shouldIterateOverPrefetchedPages() {
+		try (Stream<Integer> stream = FeignPageIterator.prefetching(this::page, PageRequest.of(0, 3), executor)
+			.stream()) {
+			assertThat(stream.toList()).isEqualTo(ELEMENTS);
+		}
+		assertThat(requested).extracting(Pageable::getPageNumber).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void shouldPropagatePrefetchFailure() {
+		Function<Pageable, Page<Integer>> failing = pageable -> {
+			if (pageable.getPageNumber() > 0) {
+				throw new IllegalStateException("unavailable");
+			}
+			return page(pageable);
+		};
+		FeignPageIterator<Integer> iterator = FeignPageIterator.prefetching(failing, PageRequest.of(0, 3), executor);
+		for (int i = 0; i < 3; i++) {
+			iterator.next();
+		}
+
+		assertThatIllegalStateException().isThrownBy(iterator::hasNext).withMessage("unavailable");
+	}
+
+	@Test
+	void shouldStopWhenClosed() {
+		FeignPageIterator<Integer> iterator = FeignPageIterator.of(this::page, PageRequest.of(0, 3));
+		iterator.next();
+
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isTrue();
+		iterator.next();
+		iterator.next();
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(requested).hasSize(1);
+	}
+
+	@Test
+	void shouldStopOnEmptyPage() {
+		FeignPageIterator<Integer> iterator = FeignPageIterator
+			.of(pageable -> new SliceImpl<Integer>(List.of(), pageable, true), PageRequest.of(0, 3));
+
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	private Page<Integer> page(Pageable pageable) {
+		requested.add(pageable);
+		return new PageImpl<>(content(pageable), pageable, ELEMENTS.size());
+	}
+
+	private Slice<Integer> slice(Pageable pageable) {
+		requested.add(pageable);
+		List<Integer> content = content(pageable);
+		return new SliceImpl<>(content, pageable, pageable.getOffset() + content.size() < ELEMENTS.size());
+	}
+
+	private static List<Integer> content(Pageable pageable) {
+		int from = (int) Math.min(pageable.getOffset(), ELEMENTS.size());
+		return ELEMENTS.subList(from, Math.min(from + pageable.getPageSize(), ELEMENTS.size()));
+	}
+
+}
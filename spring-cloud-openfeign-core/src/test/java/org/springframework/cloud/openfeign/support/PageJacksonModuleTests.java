@@ -19,11 +19,13 @@ package org.springframework.cloud.openfeign.support;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -31,6 +33,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,12 +52,18 @@ class PageJacksonModuleTests {
 
 	private static ObjectMapper objectMapper;
 
+	private static ObjectMapper streamingObjectMapper;
+
 	@BeforeAll
 	static void initialize() {
 		objectMapper = JsonMapper.builder()
 			.addModule(new PageJacksonModule())
 			.addModule(new SortJacksonModule())
 			.build();
+		streamingObjectMapper = JsonMapper.builder()
+			.addModule(new PageJacksonModule(true))
+			.addModule(new SortJacksonModule())
+			.build();
 	}
 
 	@ParameterizedTest
@@ -100,6 +110,112 @@ class PageJacksonModuleTests {
 		assertThat(result.getPageable().getSort()).isEqualTo(Sort.unsorted());
 	}
 
+	@Test
+	void deserializeSliceWithoutTotalElements() {
+		// Given
+		String sliceJson = "{\"content\":[\"A name\"], \"number\":1, \"size\":2, \"last\": false}";
+		// When
+		Slice<?> result = objectMapper.readValue(sliceJson, Slice.class);
+		// Then
+		assertThat(result.getContent()).isEqualTo(List.of("A name"));
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.getPageable().getPageSize()).isEqualTo(2);
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(1);
+	}
+
+	@Test
+	void serializeAndDeserializeSlice() {
+		// Given
+		SliceImpl<Object> slice = new SliceImpl<>(List.of("first element", "second element"), PageRequest.of(3, 2),
+				false);
+		String sliceJson = objectMapper.writeValueAsString(slice);
+		// When
+		Slice<?> result = objectMapper.readValue(sliceJson, Slice.class);
+		// Then
+		assertThat(result.getContent()).isEqualTo(List.of("first element", "second element"));
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.isLast()).isTrue();
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(3);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "totalElements", "total-elements", "total_elements", "totalelements", "TotalElements",
+			"total" })
+	void deserializePageInStreamingMode(String totalElements) {
+		// Given
+		String pageJson = "{\"content\":[\"A name\"], \"number\":1, \"size\":2, \"" + totalElements + "\": 3}";
+		// When
+		Page<?> result = streamingObjectMapper.readValue(pageJson, Page.class);
+		// Then
+		assertThat(result.getTotalElements()).isEqualTo(3);
+		assertThat(result.getContent()).isEqualTo(List.of("A name"));
+		assertThat(result.getPageable().getPageSize()).isEqualTo(2);
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(1);
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	@ParameterizedTest
+	@ValueSource(strings = { "./src/test/resources/withPageable.json", "./src/test/resources/withoutPageable.json",
+			"./src/test/resources/withPageableAliasUnderscore.json" })
+	void deserializePageFromFileInStreamingMode(String filePath) throws IOException {
+		File file = new File(filePath);
+
+		Page<?> expected = objectMapper.readValue(file, Page.class);
+		Page<?> result = streamingObjectMapper.readValue(file, Page.class);
+
+		assertThat(result.getTotalElements()).isEqualTo(expected.getTotalElements());
+		assertThat(result.getContent()).isEqualTo(expected.getContent());
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(expected.getPageable().getPageNumber());
+		assertThat(result.getPageable().getPageSize()).isEqualTo(expected.getPageable().getPageSize());
+		assertThat(result.getPageable().getSort()).isEqualTo(expected.getPageable().getSort());
+	}
+
+	@Test
+	void deserializePageFromFileWithPageInStreamingMode() {
+		Page<?> result = streamingObjectMapper.readValue(new File("./src/test/resources/withPage.json"), Page.class);
+
+		assertThat(result.getTotalElements()).isEqualTo(11);
+		assertThat(result.getContent()).hasSize(10);
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(0);
+	}
+
+	@Test
+	void deserializeTypedSliceInStreamingMode() {
+		// Given
+		String sliceJson = "{\"content\":[1, null, 3], \"pageable\":{\"pageNumber\":4, \"pageSize\":3}, \"last\": false}";
+		// When
+		Slice<Integer> result = streamingObjectMapper.readValue(sliceJson, new TypeReference<Slice<Integer>>() {
+		});
+		// Then
+		assertThat(result.getContent()).containsExactly(1, null, 3);
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.getPageable().getPageNumber()).isEqualTo(4);
+		assertThat(result.getPageable().getPageSize()).isEqualTo(3);
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 7, 0 })
+	void deserializePageInStreamingModeLikePageImpl(long totalElements) {
+		// Given
+		String pageJson = "{\"content\":[\"a\", \"bc\"], \"number\":1, \"size\":2, \"totalElements\": " + totalElements
+				+ "}";
+		Page<String> expected = new PageImpl<>(List.of("a", "bc"), PageRequest.of(1, 2), totalElements);
+		// When
+		Page<String> result = streamingObjectMapper.readValue(pageJson, new TypeReference<Page<String>>() {
+		});
+		// Then
+		assertThat(result).isNotInstanceOf(PageImpl.class);
+		assertThat(result.getContent()).isEqualTo(expected.getContent());
+		assertThat(result.getTotalElements()).isEqualTo(expected.getTotalElements());
+		assertThat(result.getTotalPages()).isEqualTo(expected.getTotalPages());
+		assertThat(result.getNumberOfElements()).isEqualTo(expected.getNumberOfElements());
+		assertThat(result.hasNext()).isEqualTo(expected.hasNext());
+		assertThat(result.hasPrevious()).isEqualTo(expected.hasPrevious());
+		assertThat(result.nextPageable()).isEqualTo(expected.nextPageable());
+		assertThat(result.previousPageable()).isEqualTo(expected.previousPageable());
+		assertThat(result.map(String::length)).isEqualTo(expected.map(String::length));
+	}
+
 	@Test
 	void serializeAndDeserializeEmpty() {
 		// Given
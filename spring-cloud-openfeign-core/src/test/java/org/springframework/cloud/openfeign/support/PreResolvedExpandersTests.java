@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import feign.MethodMetadata;
+import feign.Param;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PreResolvedExpanders}.
+ */
+class PreResolvedExpandersTests {
+
+	@Test
+	void shouldPreResolveSimpleTypes() {
+		DefaultConversionService conversionService = new DefaultConversionService();
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(expander(conversionService, String.class).expand("a b")).isEqualTo("a b");
+		assertThat(expander(conversionService, int.class).expand(42)).isEqualTo("42");
+		assertThat(expander(conversionService, Boolean.class).expand(true)).isEqualTo("true");
+		assertThat(expander(conversionService, Color.class).expand(Color.GREEN)).isEqualTo("GREEN");
+		assertThat(expander(conversionService, UUID.class).expand(uuid)).isEqualTo(uuid.toString());
+		assertThat(expander(conversionService, Object.class)).isNull();
+	}
+
+	@Test
+	void shouldPreResolveTemporalTypesFormattedAsIso() {
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService(false);
+		DateTimeFormatterRegistrar registrar = new DateTimeFormatterRegistrar();
+		registrar.setUseIsoFormat(true);
+		registrar.registerFormatters(conversionService);
+
+		assertThat(expander(conversionService, LocalDate.class).expand(LocalDate.of(2025, 3, 4)))
+			.isEqualTo("2025-03-04");
+		assertThat(expander(conversionService, Instant.class).expand(Instant.EPOCH)).isEqualTo("1970-01-01T00:00:00Z");
+	}
+
+	@Test
+	void shouldFallBackWhenConversionServiceRendersDifferently() {
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+		conversionService.addConverter(UUID.class, String.class, uuid -> uuid.toString().toUpperCase());
+		conversionService.addConverter(Color.class, String.class, color -> color.name().toLowerCase());
+
+		assertThat(expander(conversionService, UUID.class)).isNull();
+		assertThat(expander(conversionService, Color.class)).isNull();
+		assertThat(expander(conversionService, LocalDate.class)).isNull();
+		assertThat(expander(conversionService, Long.class)).isNotNull();
+	}
+
+	@Test
+	void shouldExpandParametersAsBefore() throws NoSuchMethodException {
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+		conversionService.addConverter(Color.class, String.class, color -> color.name().toLowerCase());
+		SpringMvcContract contract = new SpringMvcContract(List.of(), conversionService);
+		MethodMetadata data = contract.parseAndValidateMetadata(TestClient.class,
+				TestClient.class.getMethod("find", Set.class, List.class, LocalDate.class, LocalDate.class, int.class));
+		LocalDate date = LocalDate.of(2025, 3, 4);
+
+		assertThat(data.indexToExpander().get(0).expand(Color.RED)).isEqualTo("red");
+		assertThat(data.indexToExpander().get(1).expand(7L)).isEqualTo("7");
+		assertThat(data.indexToExpander().get(2).expand(date)).isEqualTo(conversionService.convert(date, String.class));
+		assertThat(data.indexToExpander().get(3).expand(date)).isEqualTo("04.03.2025");
+		assertThat(data.indexToExpander().get(4).expand(3)).isEqualTo("3");
+	}
+
+	private static Param.Expander expander(org.springframework.core.convert.ConversionService conversionService,
+			Class<?> type) {
+		return PreResolvedExpanders.find(conversionService, TypeDescriptor.valueOf(type));
+	}
+
+	enum Color {
+
+		RED, GREEN
+
+	}
+
+	interface TestClient {
+
+		@GetMapping("/find")
+		String find(@RequestParam("colors") Set<Color> colors, @RequestParam("ids") List<Long> ids,
+				@RequestParam("from") LocalDate from,
+				@RequestParam("to") @DateTimeFormat(pattern = "dd.MM.yyyy") LocalDate to,
+				@RequestParam("page") int page);
+
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import feign.MethodMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.openfeign.annotation.PathVariableParameterProcessor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.MatrixVariable;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrecomputedMethodMetadata}.
+ */
+class PrecomputedMethodMetadataTests {
+
+	@AfterEach
+	void tearDown() {
+		PrecomputedMethodMetadata.clear();
+	}
+
+	@Test
+	void shouldRebuildSameMetadataAsParsing() {
+		List<Class<?>> interfaces = new ArrayList<>(List.of(TestClient.class));
+		Arrays.stream(SpringMvcContractTests.class.getDeclaredClasses())
+			.filter(Class::isInterface)
+			.forEach(interfaces::add);
+		int precomputedCount = 0;
+		for (Class<?> type : interfaces) {
+			List<PrecomputedMethodMetadata> precomputed = SpringMvcContract.precompute(type);
+			if (precomputed == null) {
+				continue;
+			}
+			precomputedCount++;
+			List<MethodMetadata> parsed = new SpringMvcContract().parseAndValidateMetadata(type);
+			PrecomputedMethodMetadata.register(type.getName(), true, false,
+					precomputed.toArray(PrecomputedMethodMetadata[]::new));
+			List<MethodMetadata> rebuilt = new SpringMvcContract().parseAndValidateMetadata(type);
+
+			assertThat(rebuilt).hasSameSizeAs(parsed);
+			for (int i = 0; i < parsed.size(); i++) {
+				assertSameMetadata(rebuilt.get(i), parsed.get(i));
+			}
+		}
+		assertThat(precomputedCount).isGreaterThan(10);
+	}
+
+	@Test
+	void shouldUseRegisteredMetadata() {
+		List<PrecomputedMethodMetadata> precomputed = SpringMvcContract.precompute(TestClient.class);
+		PrecomputedMethodMetadata.register(TestClient.class.getName(), true, false,
+				precomputed.stream()
+					.map(method -> method.configKey().startsWith("TestClient#get(")
+							? PrecomputedMethodMetadata.of(method.configKey(), "GET")
+								.uri("/precomputed/{id}")
+								.parameter(0, true, true, "id")
+							: method)
+					.toArray(PrecomputedMethodMetadata[]::new));
+
+		MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(TestClient.class)
+			.stream()
+			.filter(data -> data.configKey().startsWith("TestClient#get("))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(metadata.template().url()).isEqualTo("/precomputed/{id}");
+		assertThat(metadata.indexToExpander().get(0).expand(42L)).isEqualTo("42");
+	}
+
+	@Test
+	void shouldNotDuplicateQueryOfMappingPath() {
+		List<PrecomputedMethodMetadata> precomputed = SpringMvcContract.precompute(TestClient.class);
+		PrecomputedMethodMetadata.register(TestClient.class.getName(), true, false,
+				precomputed.toArray(PrecomputedMethodMetadata[]::new));
+
+		MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(TestClient.class)
+			.stream()
+			.filter(data -> data.configKey().startsWith("TestClient#byType("))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(metadata.template().url()).isEqualTo("/items?type=a");
+		assertThat(metadata.template().queries()).containsOnlyKeys("type");
+		assertThat(metadata.template().queries().get("type")).containsExactly("a");
+	}
+
+	@Test
+	void shouldIgnoreRegisteredMetadataForOtherSettingsOrCustomProcessors() {
+		PrecomputedMethodMetadata.register(TestClient.class.getName(), false, false,
+				SpringMvcContract.precompute(TestClient.class).toArray(PrecomputedMethodMetadata[]::new));
+
+		assertThat(PrecomputedMethodMetadata.get(TestClient.class, "TestClient#get(Long,String)", true, false))
+			.isNull();
+
+		PrecomputedMethodMetadata.register(TestClient.class.getName(), true, false,
+				PrecomputedMethodMetadata.of("TestClient#get(Long,String)", "GET")
+					.uri("/precomputed/{id}")
+					.parameter(0, true, true, "id"));
+		MethodMetadata metadata = new SpringMvcContract(List.of(new PathVariableParameterProcessor()))
+			.parseAndValidateMetadata(TestClient.class)
+			.stream()
+			.filter(data -> data.configKey().startsWith("TestClient#get("))
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(metadata.template().url()).doesNotStartWith("/precomputed");
+	}
+
+	@Test
+	void shouldNotPrecomputeInterfacesWithPlaceholdersOrCustomExpanders() {
+		assertThat(SpringMvcContract.precompute(PlaceholderClient.class)).isNull();
+		assertThat(SpringMvcContract.precompute(MatrixVariableClient.class)).isNull();
+	}
+
+	@Test
+	void shouldGenerateCode() {
+		PrecomputedMethodMetadata metadata = PrecomputedMethodMetadata.of("TestClient#get(Long,String)", "GET")
+			.uri("/items/{id}")
+			.query("filter", "{filter}")
+			.header("Accept", "application/json")
+			.parameter(0, true, true, "id")
+			.parameter(1, true, true, "filter");
+
+		assertThat(metadata.toCodeBlock().toString()).isEqualTo(
+				"org.springframework.cloud.openfeign.support.PrecomputedMethodMetadata.of(\"TestClient#get(Long,String)\", \"GET\")"
+						+ ".uri(\"/items/{id}\").query(\"filter\", \"{filter}\").header(\"Accept\", \"application/json\")"
+						+ ".parameter(0, true, true, \"id\").parameter(1, true, true, \"filter\")");
+	}
+
+	private static void assertSameMetadata(MethodMetadata actual, MethodMetadata expected) {
+		assertThat(actual.configKey()).isEqualTo(expected.configKey());
+		assertThat(actual.returnType()).isEqualTo(expected.returnType());
+		assertThat(actual.template().method()).isEqualTo(expected.template().method());
+		assertThat(actual.template().url()).isEqualTo(expected.template().url());
+		assertThat(actual.template().decodeSlash()).isEqualTo(expected.template().decodeSlash());
+		assertThat(actual.template().collectionFormat()).isEqualTo(expected.template().collectionFormat());
+		assertThat(actual.template().headers()).isEqualTo(expected.template().headers());
+		assertThat(actual.template().queries()).isEqualTo(expected.template().queries());
+		assertThat(names(actual.indexToName())).isEqualTo(names(expected.indexToName()));
+		assertThat(actual.indexToEncoded()).isEqualTo(expected.indexToEncoded());
+		assertThat(actual.indexToExpander().keySet()).isEqualTo(expected.indexToExpander().keySet());
+		assertThat(actual.formParams()).isEqualTo(expected.formParams());
+		assertThat(actual.urlIndex()).isEqualTo(expected.urlIndex());
+		assertThat(actual.bodyIndex()).isEqualTo(expected.bodyIndex());
+		assertThat(actual.bodyType()).isEqualTo(expected.bodyType());
+		assertThat(actual.queryMapIndex()).isEqualTo(expected.queryMapIndex());
+		assertThat(actual.headerMapIndex()).isEqualTo(expected.headerMapIndex());
+	}
+
+	private static Map<Integer, List<String>> names(Map<Integer, Collection<String>> indexToName) {
+		Map<Integer, List<String>> names = new LinkedHashMap<>();
+		indexToName.forEach((index, values) -> names.put(index, List.copyOf(values)));
+		return names;
+	}
+
+	interface TestClient {
+
+		@GetMapping(value = "/items/{id}", produces = "application/json", headers = "X-Version=2",
+				params = "active=true")
+		String get(@PathVariable Long id, @RequestParam("filter") String filter);
+
+		@PostMapping(value = "items", consumes = "application/json")
+		void create(@RequestHeader("X-Trace") String trace, @RequestBody Map<String, Object> body);
+
+		@GetMapping("/items?type=a")
+		List<String> byType();
+
+		@GetMapping("/search")
+		List<String> search(@RequestParam Map<String, String> query, @RequestHeader Map<String, String> headers);
+
+	}
+
+	interface PlaceholderClient {
+
+		@GetMapping("${items.path}")
+		String get();
+
+	}
+
+	interface MatrixVariableClient {
+
+		@GetMapping("/items/{params}")
+		String get(@MatrixVariable("params") Map<String, String> params);
+
+	}
+
+}
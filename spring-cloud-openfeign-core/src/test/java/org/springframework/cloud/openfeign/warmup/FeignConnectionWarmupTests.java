@@ -0,0 +1,179 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.warmup;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.openfeign.FeignClientFactoryBean;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for Feign connection pool warm-up.
+ */
+class FeignConnectionWarmupTests {
+
+	private HttpServer server;
+
+	private URI target;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+		target = URI.create("http://localhost:" + server.getAddress().getPort());
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void hc5WarmerOpensReusableConnections() throws Exception {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.build();
+		HttpClient5ConnectionWarmer warmer = new HttpClient5ConnectionWarmer(connectionManager, TimeValue.ofSeconds(1),
+				TimeValue.ofMinutes(1));
+
+		int opened = warmer.warmUp(target, 2, Duration.ofSeconds(5));
+
+		assertThat(opened).isEqualTo(2);
+		assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+		try (CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setConnectionManagerShared(true)
+			.build()) {
+			httpClient.execute(new HttpGet(target.resolve("/test")), response -> {
+				EntityUtils.consume(response.getEntity());
+				return null;
+			});
+		}
+		assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+		connectionManager.close();
+	}
+
+	@Test
+	void http2ClientWarmerSendsConfiguredProbe() throws Exception {
+		List<String> probes = new CopyOnWriteArrayList<>();
+		server.createContext("/health", exchange -> {
+			probes.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		Http2ClientConnectionWarmer warmer = new Http2ClientConnectionWarmer(HttpClient.newHttpClient(), "GET",
+				"/health");
+
+		int opened = warmer.warmUp(target, 2, Duration.ofSeconds(5));
+
+		assertThat(opened).isEqualTo(2);
+		assertThat(probes).containsOnly("GET /health");
+	}
+
+	@Test
+	void http2ClientWarmerOnlyCountsSuccessfulProbes() throws Exception {
+		server.stop(0);
+		Http2ClientConnectionWarmer warmer = new Http2ClientConnectionWarmer(HttpClient.newHttpClient());
+
+		int opened = warmer.warmUp(target, 2, Duration.ofSeconds(5));
+
+		assertThat(opened).isZero();
+	}
+
+	@Test
+	void listenerWarmsUpAllTargetsWithEveryWarmer() {
+		FeignHttpClientProperties.WarmupProperties properties = new FeignHttpClientProperties.WarmupProperties();
+		properties.setConnectionsPerRoute(3);
+		FeignConnectionWarmer failing = (uri, connections, timeout) -> {
+			throw new IllegalStateException("failed");
+		};
+		FeignConnectionWarmer counting = (uri, connections, timeout) -> connections;
+		FeignConnectionWarmupListener listener = new FeignConnectionWarmupListener(List.of(failing, counting),
+				mock(FeignConnectionWarmupTargets.class), properties);
+
+		int opened = listener.warmUp(Set.of(target, URI.create("http://other:8080")));
+
+		assertThat(opened).isEqualTo(6);
+	}
+
+	@Test
+	void resolvesTargetsFromClientUrlsAndProperties() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("urlClient",
+				BeanDefinitionBuilder.genericBeanDefinition(FeignClientFactoryBean.class)
+					.addPropertyValue("name", "urlClient")
+					.addPropertyValue("contextId", "urlClient")
+					.addPropertyValue("url", "${test.url}/path")
+					.getBeanDefinition());
+		beanFactory.registerBeanDefinition("configuredClient",
+				BeanDefinitionBuilder.genericBeanDefinition(FeignClientFactoryBean.class)
+					.addPropertyValue("name", "configuredClient")
+					.addPropertyValue("contextId", "configuredClient")
+					.addPropertyValue("url", "")
+					.getBeanDefinition());
+		beanFactory.registerBeanDefinition("excludedClient",
+				BeanDefinitionBuilder.genericBeanDefinition(FeignClientFactoryBean.class)
+					.addPropertyValue("name", "excludedClient")
+					.addPropertyValue("contextId", "excludedClient")
+					.addPropertyValue("url", "https://excluded")
+					.getBeanDefinition());
+		FeignClientProperties clientProperties = new FeignClientProperties();
+		FeignClientProperties.FeignClientConfiguration config = new FeignClientProperties.FeignClientConfiguration();
+		config.setUrl("configured:9090");
+		clientProperties.getConfig().put("configuredClient", config);
+		FeignHttpClientProperties.WarmupProperties properties = new FeignHttpClientProperties.WarmupProperties();
+		properties.setClients(List.of("urlClient", "configuredClient"));
+		FeignConnectionWarmupTargets targets = new FeignConnectionWarmupTargets(properties, clientProperties,
+				beanFactory.getBeanProvider(DiscoveryClient.class));
+
+		Set<URI> resolved = targets.resolve(beanFactory,
+				new MockEnvironment().withProperty("test.url", "https://example.com:8443"));
+
+		assertThat(resolved).containsExactly(URI.create("https://example.com:8443"),
+				URI.create("http://configured:9090"));
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.indexer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the {@code @FeignClient} interfaces of a project to
+ * {@value #INDEX_LOCATION}, which {@code FeignClientsRegistrar} reads instead of scanning
+ * the classpath. Entries of a previous compilation are kept as long as their interfaces
+ * are still annotated, so that incremental compilation does not lose them.
+ *
+ * @since 5.1.0
+ */
+@SupportedAnnotationTypes(FeignClientsIndexer.FEIGN_CLIENT_ANNOTATION)
+public class FeignClientsIndexer extends AbstractProcessor {
+
+	/**
+	 * Location of the index file.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-cloud-openfeign/feign-clients.properties";
+
+	static final String FEIGN_CLIENT_ANNOTATION = "org.springframework.cloud.openfeign.FeignClient";
+
+	private final Set<String> types = new TreeSet<>();
+
+	private boolean previousIndexRead;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (!previousIndexRead) {
+			readPreviousIndex();
+			previousIndexRead = true;
+		}
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.INTERFACE) {
+					types.add(((TypeElement) element).getQualifiedName().toString());
+				}
+			}
+		}
+		if (roundEnv.processingOver() && !types.isEmpty()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private void readPreviousIndex() {
+		Properties previous = new Properties();
+		try {
+			FileObject resource = processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+			try (InputStream inputStream = resource.openInputStream()) {
+				previous.load(inputStream);
+			}
+		}
+		catch (FileNotFoundException | NoSuchFileException ex) {
+			return;
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			// Some build tools do not support reading the class output
+			return;
+		}
+		for (String type : previous.stringPropertyNames()) {
+			TypeElement element = processingEnv.getElementUtils().getTypeElement(type);
+			if (element != null && isFeignClient(element)) {
+				types.add(type);
+			}
+		}
+	}
+
+	private static boolean isFeignClient(TypeElement element) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (FEIGN_CLIENT_ANNOTATION
+				.equals(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+				return element.getKind() == ElementKind.INTERFACE;
+			}
+		}
+		return false;
+	}
+
+	private void writeIndex() {
+		StringBuilder content = new StringBuilder();
+		for (String type : types) {
+			content.append(type).append('=').append(FEIGN_CLIENT_ANNOTATION).append('\n');
+		}
+		try {
+			FileObject resource = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+			try (OutputStream outputStream = resource.openOutputStream()) {
+				outputStream.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to write Feign clients index to " + INDEX_LOCATION, ex);
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.openfeign.indexer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FeignClientsIndexer}.
+ */
+class FeignClientsIndexerTests {
+
+	@TempDir
+	Path sources;
+
+	@TempDir
+	Path output;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		source("org.springframework.cloud.openfeign.FeignClient", """
+				package org.springframework.cloud.openfeign;
+				import java.lang.annotation.*;
+				@Target(ElementType.TYPE)
+				@Retention(RetentionPolicy.RUNTIME)
+				public @interface FeignClient {
+					String value() default "";
+				}
+				""");
+	}
+
+	@Test
+	void shouldIndexFeignClientInterfaces() throws IOException {
+		Path client = source("com.example.StoreClient", """
+				package com.example;
+				@org.springframework.cloud.openfeign.FeignClient("store")
+				public interface StoreClient {
+				}
+				""");
+		Path other = source("com.example.Other", """
+				package com.example;
+				public interface Other {
+				}
+				""");
+
+		compile(client, other);
+
+		assertThat(index().stringPropertyNames()).containsExactly("com.example.StoreClient");
+	}
+
+	@Test
+	void shouldKeepEntriesOfPreviousCompilation() throws IOException {
+		Path store = source("com.example.StoreClient", """
+				package com.example;
+				@org.springframework.cloud.openfeign.FeignClient("store")
+				public interface StoreClient {
+				}
+				""");
+		Path users = source("com.example.UsersClient", """
+				package com.example;
+				@org.springframework.cloud.openfeign.FeignClient("users")
+				public interface UsersClient {
+				}
+				""");
+		compile(store, users);
+
+		compile(source("com.example.Other", """
+				package com.example;
+				public interface Other {
+				}
+				"""));
+
+		assertThat(index().stringPropertyNames()).containsExactlyInAnyOrder("com.example.StoreClient",
+				"com.example.UsersClient");
+	}
+
+	@Test
+	void shouldNotWriteIndexWithoutFeignClients() throws IOException {
+		compile(source("com.example.Other", """
+				package com.example;
+				public interface Other {
+				}
+				"""));
+
+		assertThat(output.resolve(FeignClientsIndexer.INDEX_LOCATION)).doesNotExist();
+	}
+
+	private Path source(String className, String content) throws IOException {
+		Path file = sources.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+		return file;
+	}
+
+	private void compile(Path... files) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+			List<Path> compiled = new ArrayList<>(List.of(files));
+			compiled.add(sources.resolve("org/springframework/cloud/openfeign/FeignClient.java"));
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(compiled);
+			List<String> options = List.of("-d", output.toString(), "-classpath", output.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+			task.setProcessors(List.of(new FeignClientsIndexer()));
+			assertThat(task.call()).isTrue();
+		}
+	}
+
+	private Properties index() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(output.resolve(FeignClientsIndexer.INDEX_LOCATION))) {
+			properties.load(inputStream);
+		}
+		return properties;
+	}
+
+}